@@ -29,6 +29,7 @@ import java.util.Properties;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogConfigurationException;
+import org.slf4j.helpers.CachingDateFormatter;
 
 /**
  * <p>
@@ -104,6 +105,16 @@ public class SimpleLog implements Log, Serializable {
     static protected String dateTimeFormat = DEFAULT_DATE_TIME_FORMAT;
     /** Used to format times */
     static protected DateFormat dateFormatter = null;
+    /**
+     * Formats times without locking in the default format, for which it
+     * matches <code>SimpleDateFormat</code>
+     */
+    static private CachingDateFormatter cachingDateFormatter = null;
+    /**
+     * The formatter created for the default format, replaced by
+     * cachingDateFormatter as long as dateFormatter is not reassigned
+     */
+    static private DateFormat defaultDateFormatter = null;
 
     // ---------------------------------------------------- Log Level Constants
 
@@ -181,6 +192,10 @@ public class SimpleLog implements Log, Serializable {
                 dateTimeFormat = DEFAULT_DATE_TIME_FORMAT;
                 dateFormatter = new SimpleDateFormat(dateTimeFormat);
             }
+            if (DEFAULT_DATE_TIME_FORMAT.equals(dateTimeFormat)) {
+                cachingDateFormatter = new CachingDateFormatter(dateTimeFormat);
+                defaultDateFormatter = dateFormatter;
+            }
         }
     }
 
@@ -290,7 +305,14 @@ public class SimpleLog implements Log, Serializable {
 
         // Append date-time if so configured
         if (showDateTime) {
-            buf.append(dateFormatter.format(new Date()));
+            DateFormat formatter = dateFormatter;
+            if (formatter == defaultDateFormatter && cachingDateFormatter != null) {
+                buf.append(cachingDateFormatter.format(System.currentTimeMillis()));
+            } else {
+                synchronized (formatter) {
+                    buf.append(formatter.format(new Date()));
+                }
+            }
             buf.append(" ");
         }
 
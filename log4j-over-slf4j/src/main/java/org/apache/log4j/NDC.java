@@ -21,7 +21,9 @@ import org.slf4j.MDC;
 import java.util.Stack;
 
 /**
- * A log4j's NDC implemented in terms of SLF4J MDC primitives.
+ * A log4j's NDC implemented in terms of SLF4J MDC primitives. The NDC is the
+ * MDC deque identified by {@link #PREFIX}, whose values are stored under the
+ * keys <code>NDC0</code>, <code>NDC1</code>, ... of the context map.
  *
  * @since SLF4J 1.6.0
  */
@@ -31,11 +33,7 @@ public class NDC {
     public final static String PREFIX = "NDC";
 
     public static void clear() {
-        int depth = getDepth();
-        for (int i = 0; i < depth; i++) {
-            String key = PREFIX + i;
-            MDC.remove(key);
-        }
+        MDC.clearDequeByKey(PREFIX);
     }
 
     @SuppressWarnings("rawtypes")
@@ -52,44 +50,21 @@ public class NDC {
     }
 
     public static int getDepth() {
-        int i = 0;
-        while (true) {
-            String val = MDC.get(PREFIX + i);
-            if (val != null) {
-                i++;
-            } else {
-                break;
-            }
-        }
-        return i;
+        return MDC.getDequeSizeByKey(PREFIX);
     }
 
     public static String pop() {
-        int next = getDepth();
-        if (next == 0) {
-            return "";
-        }
-        int last = next - 1;
-        String key = PREFIX + last;
-        String val = MDC.get(key);
-        MDC.remove(key);
-        return val;
+        String val = MDC.popByKey(PREFIX);
+        return val == null ? "" : val;
     }
 
     public static String peek() {
-        int next = getDepth();
-        if (next == 0) {
-            return "";
-        }
-        int last = next - 1;
-        String key = PREFIX + last;
-        String val = MDC.get(key);
-        return val;
+        String val = MDC.peekByKey(PREFIX);
+        return val == null ? "" : val;
     }
 
     public static void push(String message) {
-        int next = getDepth();
-        MDC.put(PREFIX + next, message);
+        MDC.pushByKey(PREFIX, message);
     }
 
     static public void remove() {
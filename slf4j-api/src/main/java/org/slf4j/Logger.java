@@ -28,6 +28,7 @@ import org.slf4j.event.Level;
 import org.slf4j.spi.DefaultLoggingEventBuilder;
 import org.slf4j.spi.LoggingEventBuilder;
 import org.slf4j.spi.NOPLoggingEventBuilder;
+import org.slf4j.spi.ReusableLoggingEventBuilder;
 
 import static org.slf4j.event.Level.*;
 
@@ -68,6 +69,14 @@ import static org.slf4j.event.Level.*;
  * <p>Once you are comfortable using loggers, i.e. instances of this interface, consider using
  * <a href="MDC.html">MDC</a> as well as <a href="Marker.html">Markers</a>.
  *
+ * <p>Methods taking one or two primitive arguments box them only if the level
+ * is enabled. Two argument forms exist for <code>long</code>, which also
+ * serves <code>int</code>, <code>short</code> and <code>byte</code>
+ * arguments, <code>double</code> and <code>boolean</code>, mixed with one
+ * another or with an <code>Object</code>. <code>char</code> and
+ * <code>float</code> forms exist only so that such arguments are not widened
+ * to a numeric type, which would change how they are rendered.
+ *
  * @author Ceki G&uuml;lc&uuml;
  */
 public interface Logger {
@@ -89,11 +98,18 @@ public interface Logger {
      * Make a new {@link LoggingEventBuilder} instance as appropriate for this logger and the 
      * desired {@link Level} passed as parameter. 
      *
+     * <p>If the <code>slf4j.recycleLoggingEvents</code> system property is set to
+     * <code>true</code>, the builder is reused by the calling thread, see
+     * {@link ReusableLoggingEventBuilder}.
+     *
      * @param level desired level for the event builder
      * @return a new {@link LoggingEventBuilder} instance as appropriate for this logger
      * @since 2.0
      */
     default LoggingEventBuilder makeLoggingEventBuilder(Level level) {
+        if(ReusableLoggingEventBuilder.isRecyclingEnabled()) {
+            return ReusableLoggingEventBuilder.acquire(this, level);
+        }
         return new DefaultLoggingEventBuilder(this, level);
     }
 
@@ -168,462 +184,579 @@ public interface Logger {
     void trace(String msg, Throwable t);
 
     /**
-     * Similar to {@link #isTraceEnabled()} method except that the
-     * marker data is also taken into account.
+     * Log a message at the TRACE level according to the specified format
+     * and <code>int</code> argument.
      *
-     * @param marker The marker data to take into consideration
-     * @return True if this Logger is enabled for the TRACE level,
-     *         false otherwise.
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the TRACE level.
      *
-     * @since 1.4
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
      */
-    boolean isTraceEnabled(Marker marker);
+    default void trace(String format, int arg) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg);
+        }
+    }
 
     /**
-     * Entry point for fluent-logging for {@link org.slf4j.event.Level#TRACE} level. 
+     * Log a message at the TRACE level according to the specified format
+     * and <code>long</code> argument.
      *
-     * @return LoggingEventBuilder instance as appropriate for level TRACE
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
      * @since 2.0
      */
-    default LoggingEventBuilder atTrace() {
+    default void trace(String format, long arg) {
         if(isTraceEnabled()) {
-            return makeLoggingEventBuilder(TRACE);
-        } else {
-            return NOPLoggingEventBuilder.singleton();
+            trace(format, (Object) arg);
         }
     }
 
     /**
-     * Log a message with the specific Marker at the TRACE level.
+     * Log a message at the TRACE level according to the specified format
+     * and <code>double</code> argument.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg    the message string to be logged
-     * @since 1.4
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the TRACE level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
      */
-    void trace(Marker marker, String msg);
+    default void trace(String format, double arg) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg);
+        }
+    }
 
     /**
-     * This method is similar to {@link #trace(String, Object)} method except that the
-     * marker data is also taken into consideration.
+     * Log a message at the TRACE level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the TRACE level.
      *
-     * @param marker the marker data specific to this log statement
      * @param format the format string
      * @param arg    the argument
-     * @since 1.4
+     * @since 2.0
      */
-    void trace(Marker marker, String format, Object arg);
+    default void trace(String format, boolean arg) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg);
+        }
+    }
 
     /**
-     * This method is similar to {@link #trace(String, Object, Object)}
-     * method except that the marker data is also taken into
-     * consideration.
+     * Log a message at the TRACE level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the TRACE level.
+     * Defined so that <code>char</code> arguments are rendered as characters
+     * rather than being widened to <code>int</code>.
      *
-     * @param marker the marker data specific to this log statement
      * @param format the format string
-     * @param arg1   the first argument
-     * @param arg2   the second argument
-     * @since 1.4
+     * @param arg    the argument
+     * @since 2.0
      */
-    void trace(Marker marker, String format, Object arg1, Object arg2);
+    default void trace(String format, char arg) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg);
+        }
+    }
 
     /**
-     * This method is similar to {@link #trace(String, Object...)}
-     * method except that the marker data is also taken into
-     * consideration.
+     * Log a message at the TRACE level according to the specified format
+     * and <code>float</code> argument.
      *
-     * @param marker   the marker data specific to this log statement
-     * @param format   the format string
-     * @param argArray an array of arguments
-     * @since 1.4
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the TRACE level.
+     * Defined so that <code>float</code> arguments are rendered as such rather
+     * than being widened to <code>double</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
      */
-    void trace(Marker marker, String format, Object... argArray);
+    default void trace(String format, float arg) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg);
+        }
+    }
 
     /**
-     * This method is similar to {@link #trace(String, Throwable)} method except that the
-     * marker data is also taken into consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg    the message accompanying the exception
-     * @param t      the exception (throwable) to log
-     * @since 1.4
+     * @since 2.0
      */
-    void trace(Marker marker, String msg, Throwable t);
+    default void trace(String format, boolean arg1, boolean arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Is the logger instance enabled for the DEBUG level?
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @return True if this Logger is enabled for the DEBUG level,
-     *         false otherwise.
+     * @since 2.0
      */
-    boolean isDebugEnabled();
+    default void trace(String format, boolean arg1, char arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the DEBUG level.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param msg the message string to be logged
+     * @since 2.0
      */
-    void debug(String msg);
+    default void trace(String format, boolean arg1, long arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the DEBUG level according to the specified format
-     * and argument.
-     *
-     * <p>This form avoids superfluous object creation when the logger
-     * is disabled for the DEBUG level. 
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param format the format string
-     * @param arg    the argument
+     * @since 2.0
      */
-    void debug(String format, Object arg);
+    default void trace(String format, boolean arg1, float arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the DEBUG level according to the specified format
-     * and arguments.
-     *
-     * <p>This form avoids superfluous object creation when the logger
-     * is disabled for the DEBUG level. 
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param format the format string
-     * @param arg1   the first argument
-     * @param arg2   the second argument
+     * @since 2.0
      */
-    void debug(String format, Object arg1, Object arg2);
+    default void trace(String format, boolean arg1, double arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the DEBUG level according to the specified format
-     * and arguments.
-     *
-     * <p>This form avoids superfluous string concatenation when the logger
-     * is disabled for the DEBUG level. However, this variant incurs the hidden
-     * (and relatively small) cost of creating an <code>Object[]</code> before invoking the method,
-     * even if this logger is disabled for DEBUG. The variants taking
-     * {@link #debug(String, Object) one} and {@link #debug(String, Object, Object) two}
-     * arguments exist solely in order to avoid this hidden cost.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param format    the format string
-     * @param arguments a list of 3 or more arguments
+     * @since 2.0
      */
-    void debug(String format, Object... arguments);
+    default void trace(String format, boolean arg1, Object arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log an exception (throwable) at the DEBUG level with an
-     * accompanying message.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param msg the message accompanying the exception
-     * @param t   the exception (throwable) to log
+     * @since 2.0
      */
-    void debug(String msg, Throwable t);
+    default void trace(String format, char arg1, boolean arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Similar to {@link #isDebugEnabled()} method except that the
-     * marker data is also taken into account.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker The marker data to take into consideration
-     * @return True if this Logger is enabled for the DEBUG level,
-     *         false otherwise. 
+     * @since 2.0
      */
-    boolean isDebugEnabled(Marker marker);
+    default void trace(String format, char arg1, char arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message with the specific Marker at the DEBUG level.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg    the message string to be logged
+     * @since 2.0
      */
-    void debug(Marker marker, String msg);
+    default void trace(String format, char arg1, long arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * This method is similar to {@link #debug(String, Object)} method except that the
-     * marker data is also taken into consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker the marker data specific to this log statement
-     * @param format the format string
-     * @param arg    the argument
+     * @since 2.0
      */
-    void debug(Marker marker, String format, Object arg);
+    default void trace(String format, char arg1, float arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * This method is similar to {@link #debug(String, Object, Object)}
-     * method except that the marker data is also taken into
-     * consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker the marker data specific to this log statement
-     * @param format the format string
-     * @param arg1   the first argument
-     * @param arg2   the second argument
+     * @since 2.0
      */
-    void debug(Marker marker, String format, Object arg1, Object arg2);
+    default void trace(String format, char arg1, double arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * This method is similar to {@link #debug(String, Object...)}
-     * method except that the marker data is also taken into
-     * consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker    the marker data specific to this log statement
-     * @param format    the format string
-     * @param arguments a list of 3 or more arguments
+     * @since 2.0
      */
-    void debug(Marker marker, String format, Object... arguments);
+    default void trace(String format, char arg1, Object arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * This method is similar to {@link #debug(String, Throwable)} method except that the
-     * marker data is also taken into consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker the marker data specific to this log statement
-     * @param msg    the message accompanying the exception
-     * @param t      the exception (throwable) to log
+     * @since 2.0
      */
-    void debug(Marker marker, String msg, Throwable t);
+    default void trace(String format, long arg1, boolean arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Entry point for fluent-logging for {@link org.slf4j.event.Level#DEBUG} level. 
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @return LoggingEventBuilder instance as appropriate for level DEBUG
      * @since 2.0
      */
-    default LoggingEventBuilder atDebug() {
-        if(isDebugEnabled()) {
-            return makeLoggingEventBuilder(DEBUG);
-        } else {
-            return NOPLoggingEventBuilder.singleton();
+    default void trace(String format, long arg1, char arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
         }
     }
 
     /**
-     * Is the logger instance enabled for the INFO level?
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @return True if this Logger is enabled for the INFO level,
-     *         false otherwise.
+     * @since 2.0
      */
-    boolean isInfoEnabled();
+    default void trace(String format, long arg1, long arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the INFO level.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param msg the message string to be logged
+     * @since 2.0
      */
-    void info(String msg);
+    default void trace(String format, long arg1, float arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the INFO level according to the specified format
-     * and argument.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * <p>This form avoids superfluous object creation when the logger
-     * is disabled for the INFO level. 
-     *
-     * @param format the format string
-     * @param arg    the argument
+     * @since 2.0
      */
-    void info(String format, Object arg);
+    default void trace(String format, long arg1, double arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the INFO level according to the specified format
-     * and arguments.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * <p>This form avoids superfluous object creation when the logger
-     * is disabled for the INFO level. 
-     *
-     * @param format the format string
-     * @param arg1   the first argument
-     * @param arg2   the second argument
+     * @since 2.0
      */
-    void info(String format, Object arg1, Object arg2);
+    default void trace(String format, long arg1, Object arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the INFO level according to the specified format
-     * and arguments.
-     *
-     * <p>This form avoids superfluous string concatenation when the logger
-     * is disabled for the INFO level. However, this variant incurs the hidden
-     * (and relatively small) cost of creating an <code>Object[]</code> before invoking the method,
-     * even if this logger is disabled for INFO. The variants taking
-     * {@link #info(String, Object) one} and {@link #info(String, Object, Object) two}
-     * arguments exist solely in order to avoid this hidden cost.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param format    the format string
-     * @param arguments a list of 3 or more arguments
+     * @since 2.0
      */
-    void info(String format, Object... arguments);
+    default void trace(String format, float arg1, boolean arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log an exception (throwable) at the INFO level with an
-     * accompanying message.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param msg the message accompanying the exception
-     * @param t   the exception (throwable) to log
+     * @since 2.0
      */
-    void info(String msg, Throwable t);
+    default void trace(String format, float arg1, char arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Similar to {@link #isInfoEnabled()} method except that the marker
-     * data is also taken into consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker The marker data to take into consideration
-     * @return true if this logger is warn enabled, false otherwise 
+     * @since 2.0
      */
-    boolean isInfoEnabled(Marker marker);
+    default void trace(String format, float arg1, long arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message with the specific Marker at the INFO level.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker The marker specific to this log statement
-     * @param msg    the message string to be logged
+     * @since 2.0
      */
-    void info(Marker marker, String msg);
+    default void trace(String format, float arg1, float arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * This method is similar to {@link #info(String, Object)} method except that the
-     * marker data is also taken into consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker the marker data specific to this log statement
-     * @param format the format string
-     * @param arg    the argument
+     * @since 2.0
      */
-    void info(Marker marker, String format, Object arg);
+    default void trace(String format, float arg1, double arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * This method is similar to {@link #info(String, Object, Object)}
-     * method except that the marker data is also taken into
-     * consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker the marker data specific to this log statement
-     * @param format the format string
-     * @param arg1   the first argument
-     * @param arg2   the second argument
+     * @since 2.0
      */
-    void info(Marker marker, String format, Object arg1, Object arg2);
+    default void trace(String format, float arg1, Object arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * This method is similar to {@link #info(String, Object...)}
-     * method except that the marker data is also taken into
-     * consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker    the marker data specific to this log statement
-     * @param format    the format string
-     * @param arguments a list of 3 or more arguments
+     * @since 2.0
      */
-    void info(Marker marker, String format, Object... arguments);
+    default void trace(String format, double arg1, boolean arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * This method is similar to {@link #info(String, Throwable)} method
-     * except that the marker data is also taken into consideration.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param marker the marker data for this log statement
-     * @param msg    the message accompanying the exception
-     * @param t      the exception (throwable) to log
+     * @since 2.0
      */
-    void info(Marker marker, String msg, Throwable t);
+    default void trace(String format, double arg1, char arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Entry point for fluent-logging for {@link org.slf4j.event.Level#INFO} level. 
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @return LoggingEventBuilder instance as appropriate for level INFO
      * @since 2.0
      */
-    default LoggingEventBuilder atInfo() {
-        if(isInfoEnabled()) {
-            return makeLoggingEventBuilder(INFO);
-        } else {
-            return NOPLoggingEventBuilder.singleton();
+    default void trace(String format, double arg1, long arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
         }
     }
 
-
     /**
-     * Is the logger instance enabled for the WARN level?
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @return True if this Logger is enabled for the WARN level,
-     *         false otherwise.
+     * @since 2.0
      */
-    boolean isWarnEnabled();
+    default void trace(String format, double arg1, float arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the WARN level.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param msg the message string to be logged
+     * @since 2.0
      */
-    void warn(String msg);
+    default void trace(String format, double arg1, double arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the WARN level according to the specified format
-     * and argument.
-     *
-     * <p>This form avoids superfluous object creation when the logger
-     * is disabled for the WARN level. 
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param format the format string
-     * @param arg    the argument
+     * @since 2.0
      */
-    void warn(String format, Object arg);
+    default void trace(String format, double arg1, Object arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the WARN level according to the specified format
-     * and arguments.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * <p>This form avoids superfluous string concatenation when the logger
-     * is disabled for the WARN level. However, this variant incurs the hidden
-     * (and relatively small) cost of creating an <code>Object[]</code> before invoking the method,
-     * even if this logger is disabled for WARN. The variants taking
-     * {@link #warn(String, Object) one} and {@link #warn(String, Object, Object) two}
-     * arguments exist solely in order to avoid this hidden cost.
+     * @since 2.0
+     */
+    default void trace(String format, Object arg1, boolean arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param format    the format string
-     * @param arguments a list of 3 or more arguments
+     * @since 2.0
      */
-    void warn(String format, Object... arguments);
+    default void trace(String format, Object arg1, char arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log a message at the WARN level according to the specified format
-     * and arguments.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * <p>This form avoids superfluous object creation when the logger
-     * is disabled for the WARN level. 
+     * @since 2.0
+     */
+    default void trace(String format, Object arg1, long arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param format the format string
-     * @param arg1   the first argument
-     * @param arg2   the second argument
+     * @since 2.0
      */
-    void warn(String format, Object arg1, Object arg2);
+    default void trace(String format, Object arg1, float arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Log an exception (throwable) at the WARN level with an
-     * accompanying message.
+     * Same as {@link #trace(String, Object, Object)}, with the arguments boxed
+     * only if the TRACE level is enabled.
      *
-     * @param msg the message accompanying the exception
-     * @param t   the exception (throwable) to log
+     * @since 2.0
      */
-    void warn(String msg, Throwable t);
+    default void trace(String format, Object arg1, double arg2) {
+        if(isTraceEnabled()) {
+            trace(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
-     * Similar to {@link #isWarnEnabled()} method except that the marker
-     * data is also taken into consideration.
+     * Similar to {@link #isTraceEnabled()} method except that the
+     * marker data is also taken into account.
      *
      * @param marker The marker data to take into consideration
-     * @return True if this Logger is enabled for the WARN level,
+     * @return True if this Logger is enabled for the TRACE level,
      *         false otherwise.
+     *
+     * @since 1.4
      */
-    boolean isWarnEnabled(Marker marker);
+    boolean isTraceEnabled(Marker marker);
 
     /**
-     * Log a message with the specific Marker at the WARN level.
+     * Entry point for fluent-logging for {@link org.slf4j.event.Level#TRACE} level. 
      *
-     * @param marker The marker specific to this log statement
+     * @return LoggingEventBuilder instance as appropriate for level TRACE
+     * @since 2.0
+     */
+    default LoggingEventBuilder atTrace() {
+        if(isTraceEnabled()) {
+            return makeLoggingEventBuilder(TRACE);
+        } else {
+            return NOPLoggingEventBuilder.singleton();
+        }
+    }
+
+    /**
+     * Log a message with the specific Marker at the TRACE level.
+     *
+     * @param marker the marker data specific to this log statement
      * @param msg    the message string to be logged
+     * @since 1.4
      */
-    void warn(Marker marker, String msg);
+    void trace(Marker marker, String msg);
 
     /**
-     * This method is similar to {@link #warn(String, Object)} method except that the
+     * This method is similar to {@link #trace(String, Object)} method except that the
      * marker data is also taken into consideration.
      *
      * @param marker the marker data specific to this log statement
      * @param format the format string
      * @param arg    the argument
+     * @since 1.4
      */
-    void warn(Marker marker, String format, Object arg);
+    void trace(Marker marker, String format, Object arg);
 
     /**
-     * This method is similar to {@link #warn(String, Object, Object)}
+     * This method is similar to {@link #trace(String, Object, Object)}
      * method except that the marker data is also taken into
      * consideration.
      *
@@ -631,110 +764,2623 @@ public interface Logger {
      * @param format the format string
      * @param arg1   the first argument
      * @param arg2   the second argument
+     * @since 1.4
      */
-    void warn(Marker marker, String format, Object arg1, Object arg2);
+    void trace(Marker marker, String format, Object arg1, Object arg2);
 
     /**
-     * This method is similar to {@link #warn(String, Object...)}
+     * This method is similar to {@link #trace(String, Object...)}
      * method except that the marker data is also taken into
      * consideration.
      *
-     * @param marker    the marker data specific to this log statement
-     * @param format    the format string
-     * @param arguments a list of 3 or more arguments
+     * @param marker   the marker data specific to this log statement
+     * @param format   the format string
+     * @param argArray an array of arguments
+     * @since 1.4
      */
-    void warn(Marker marker, String format, Object... arguments);
+    void trace(Marker marker, String format, Object... argArray);
 
     /**
-     * This method is similar to {@link #warn(String, Throwable)} method
-     * except that the marker data is also taken into consideration.
+     * This method is similar to {@link #trace(String, Throwable)} method except that the
+     * marker data is also taken into consideration.
      *
-     * @param marker the marker data for this log statement
+     * @param marker the marker data specific to this log statement
      * @param msg    the message accompanying the exception
      * @param t      the exception (throwable) to log
+     * @since 1.4
      */
-    void warn(Marker marker, String msg, Throwable t);
+    void trace(Marker marker, String msg, Throwable t);
 
+    /**
+     * Is the logger instance enabled for the DEBUG level?
+     *
+     * @return True if this Logger is enabled for the DEBUG level,
+     *         false otherwise.
+     */
+    boolean isDebugEnabled();
 
     /**
-     * Entry point for fluent-logging for {@link org.slf4j.event.Level#WARN} level. 
+     * Log a message at the DEBUG level.
      *
-     * @return LoggingEventBuilder instance as appropriate for level WARN
-     * @since 2.0
+     * @param msg the message string to be logged
      */
-    default LoggingEventBuilder atWarn() {
-        if(isWarnEnabled()) {
-            return makeLoggingEventBuilder(WARN);
-        } else {
-            return NOPLoggingEventBuilder.singleton();
-        }
-    }
-
-
-    /**
-     * Is the logger instance enabled for the ERROR level?
-     *
-     * @return True if this Logger is enabled for the ERROR level,
-     *         false otherwise.
-     */
-    boolean isErrorEnabled();
-
-    /**
-     * Log a message at the ERROR level.
-     *
-     * @param msg the message string to be logged
-     */
-    void error(String msg);
+    void debug(String msg);
 
     /**
-     * Log a message at the ERROR level according to the specified format
+     * Log a message at the DEBUG level according to the specified format
      * and argument.
      *
      * <p>This form avoids superfluous object creation when the logger
-     * is disabled for the ERROR level. 
+     * is disabled for the DEBUG level. 
      *
      * @param format the format string
      * @param arg    the argument
      */
-    void error(String format, Object arg);
+    void debug(String format, Object arg);
 
     /**
-     * Log a message at the ERROR level according to the specified format
+     * Log a message at the DEBUG level according to the specified format
      * and arguments.
      *
      * <p>This form avoids superfluous object creation when the logger
-     * is disabled for the ERROR level. 
+     * is disabled for the DEBUG level. 
      *
      * @param format the format string
      * @param arg1   the first argument
      * @param arg2   the second argument
      */
-    void error(String format, Object arg1, Object arg2);
+    void debug(String format, Object arg1, Object arg2);
 
     /**
-     * Log a message at the ERROR level according to the specified format
+     * Log a message at the DEBUG level according to the specified format
      * and arguments.
      *
      * <p>This form avoids superfluous string concatenation when the logger
-     * is disabled for the ERROR level. However, this variant incurs the hidden
+     * is disabled for the DEBUG level. However, this variant incurs the hidden
      * (and relatively small) cost of creating an <code>Object[]</code> before invoking the method,
-     * even if this logger is disabled for ERROR. The variants taking
-     * {@link #error(String, Object) one} and {@link #error(String, Object, Object) two}
+     * even if this logger is disabled for DEBUG. The variants taking
+     * {@link #debug(String, Object) one} and {@link #debug(String, Object, Object) two}
      * arguments exist solely in order to avoid this hidden cost.
      *
      * @param format    the format string
      * @param arguments a list of 3 or more arguments
      */
-    void error(String format, Object... arguments);
+    void debug(String format, Object... arguments);
 
     /**
-     * Log an exception (throwable) at the ERROR level with an
+     * Log an exception (throwable) at the DEBUG level with an
      * accompanying message.
      *
      * @param msg the message accompanying the exception
      * @param t   the exception (throwable) to log
      */
-    void error(String msg, Throwable t);
+    void debug(String msg, Throwable t);
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void debug(String format, int arg) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void debug(String format, long arg) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void debug(String format, double arg) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the DEBUG level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void debug(String format, boolean arg) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the DEBUG level.
+     * Defined so that <code>char</code> arguments are rendered as characters
+     * rather than being widened to <code>int</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void debug(String format, char arg) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the DEBUG level.
+     * Defined so that <code>float</code> arguments are rendered as such rather
+     * than being widened to <code>double</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void debug(String format, float arg) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, boolean arg1, boolean arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, boolean arg1, char arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, boolean arg1, long arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, boolean arg1, float arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, boolean arg1, double arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, boolean arg1, Object arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, char arg1, boolean arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, char arg1, char arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, char arg1, long arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, char arg1, float arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, char arg1, double arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, char arg1, Object arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, long arg1, boolean arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, long arg1, char arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, long arg1, long arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, long arg1, float arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, long arg1, double arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, long arg1, Object arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, float arg1, boolean arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, float arg1, char arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, float arg1, long arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, float arg1, float arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, float arg1, double arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, float arg1, Object arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, double arg1, boolean arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, double arg1, char arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, double arg1, long arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, double arg1, float arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, double arg1, double arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, double arg1, Object arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, Object arg1, boolean arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, Object arg1, char arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, Object arg1, long arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, Object arg1, float arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #debug(String, Object, Object)}, with the arguments boxed
+     * only if the DEBUG level is enabled.
+     *
+     * @since 2.0
+     */
+    default void debug(String format, Object arg1, double arg2) {
+        if(isDebugEnabled()) {
+            debug(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Similar to {@link #isDebugEnabled()} method except that the
+     * marker data is also taken into account.
+     *
+     * @param marker The marker data to take into consideration
+     * @return True if this Logger is enabled for the DEBUG level,
+     *         false otherwise. 
+     */
+    boolean isDebugEnabled(Marker marker);
+
+    /**
+     * Log a message with the specific Marker at the DEBUG level.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg    the message string to be logged
+     */
+    void debug(Marker marker, String msg);
+
+    /**
+     * This method is similar to {@link #debug(String, Object)} method except that the
+     * marker data is also taken into consideration.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void debug(Marker marker, String format, Object arg);
+
+    /**
+     * This method is similar to {@link #debug(String, Object, Object)}
+     * method except that the marker data is also taken into
+     * consideration.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void debug(Marker marker, String format, Object arg1, Object arg2);
+
+    /**
+     * This method is similar to {@link #debug(String, Object...)}
+     * method except that the marker data is also taken into
+     * consideration.
+     *
+     * @param marker    the marker data specific to this log statement
+     * @param format    the format string
+     * @param arguments a list of 3 or more arguments
+     */
+    void debug(Marker marker, String format, Object... arguments);
+
+    /**
+     * This method is similar to {@link #debug(String, Throwable)} method except that the
+     * marker data is also taken into consideration.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param msg    the message accompanying the exception
+     * @param t      the exception (throwable) to log
+     */
+    void debug(Marker marker, String msg, Throwable t);
+
+    /**
+     * Entry point for fluent-logging for {@link org.slf4j.event.Level#DEBUG} level. 
+     *
+     * @return LoggingEventBuilder instance as appropriate for level DEBUG
+     * @since 2.0
+     */
+    default LoggingEventBuilder atDebug() {
+        if(isDebugEnabled()) {
+            return makeLoggingEventBuilder(DEBUG);
+        } else {
+            return NOPLoggingEventBuilder.singleton();
+        }
+    }
+
+    /**
+     * Is the logger instance enabled for the INFO level?
+     *
+     * @return True if this Logger is enabled for the INFO level,
+     *         false otherwise.
+     */
+    boolean isInfoEnabled();
+
+    /**
+     * Log a message at the INFO level.
+     *
+     * @param msg the message string to be logged
+     */
+    void info(String msg);
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and argument.
+     *
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the INFO level. 
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(String format, Object arg);
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and arguments.
+     *
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the INFO level. 
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(String format, Object arg1, Object arg2);
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and arguments.
+     *
+     * <p>This form avoids superfluous string concatenation when the logger
+     * is disabled for the INFO level. However, this variant incurs the hidden
+     * (and relatively small) cost of creating an <code>Object[]</code> before invoking the method,
+     * even if this logger is disabled for INFO. The variants taking
+     * {@link #info(String, Object) one} and {@link #info(String, Object, Object) two}
+     * arguments exist solely in order to avoid this hidden cost.
+     *
+     * @param format    the format string
+     * @param arguments a list of 3 or more arguments
+     */
+    void info(String format, Object... arguments);
+
+    /**
+     * Log an exception (throwable) at the INFO level with an
+     * accompanying message.
+     *
+     * @param msg the message accompanying the exception
+     * @param t   the exception (throwable) to log
+     */
+    void info(String msg, Throwable t);
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void info(String format, int arg) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void info(String format, long arg) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void info(String format, double arg) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the INFO level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void info(String format, boolean arg) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the INFO level.
+     * Defined so that <code>char</code> arguments are rendered as characters
+     * rather than being widened to <code>int</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void info(String format, char arg) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the INFO level.
+     * Defined so that <code>float</code> arguments are rendered as such rather
+     * than being widened to <code>double</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void info(String format, float arg) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, boolean arg1, boolean arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, boolean arg1, char arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, boolean arg1, long arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, boolean arg1, float arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, boolean arg1, double arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, boolean arg1, Object arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, char arg1, boolean arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, char arg1, char arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, char arg1, long arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, char arg1, float arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, char arg1, double arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, char arg1, Object arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, long arg1, boolean arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, long arg1, char arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, long arg1, long arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, long arg1, float arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, long arg1, double arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, long arg1, Object arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, float arg1, boolean arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, float arg1, char arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, float arg1, long arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, float arg1, float arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, float arg1, double arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, float arg1, Object arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, double arg1, boolean arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, double arg1, char arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, double arg1, long arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, double arg1, float arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, double arg1, double arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, double arg1, Object arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, Object arg1, boolean arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, Object arg1, char arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, Object arg1, long arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, Object arg1, float arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #info(String, Object, Object)}, with the arguments boxed
+     * only if the INFO level is enabled.
+     *
+     * @since 2.0
+     */
+    default void info(String format, Object arg1, double arg2) {
+        if(isInfoEnabled()) {
+            info(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Similar to {@link #isInfoEnabled()} method except that the marker
+     * data is also taken into consideration.
+     *
+     * @param marker The marker data to take into consideration
+     * @return true if this logger is warn enabled, false otherwise 
+     */
+    boolean isInfoEnabled(Marker marker);
+
+    /**
+     * Log a message with the specific Marker at the INFO level.
+     *
+     * @param marker The marker specific to this log statement
+     * @param msg    the message string to be logged
+     */
+    void info(Marker marker, String msg);
+
+    /**
+     * This method is similar to {@link #info(String, Object)} method except that the
+     * marker data is also taken into consideration.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void info(Marker marker, String format, Object arg);
+
+    /**
+     * This method is similar to {@link #info(String, Object, Object)}
+     * method except that the marker data is also taken into
+     * consideration.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void info(Marker marker, String format, Object arg1, Object arg2);
+
+    /**
+     * This method is similar to {@link #info(String, Object...)}
+     * method except that the marker data is also taken into
+     * consideration.
+     *
+     * @param marker    the marker data specific to this log statement
+     * @param format    the format string
+     * @param arguments a list of 3 or more arguments
+     */
+    void info(Marker marker, String format, Object... arguments);
+
+    /**
+     * This method is similar to {@link #info(String, Throwable)} method
+     * except that the marker data is also taken into consideration.
+     *
+     * @param marker the marker data for this log statement
+     * @param msg    the message accompanying the exception
+     * @param t      the exception (throwable) to log
+     */
+    void info(Marker marker, String msg, Throwable t);
+
+    /**
+     * Entry point for fluent-logging for {@link org.slf4j.event.Level#INFO} level. 
+     *
+     * @return LoggingEventBuilder instance as appropriate for level INFO
+     * @since 2.0
+     */
+    default LoggingEventBuilder atInfo() {
+        if(isInfoEnabled()) {
+            return makeLoggingEventBuilder(INFO);
+        } else {
+            return NOPLoggingEventBuilder.singleton();
+        }
+    }
+
+
+    /**
+     * Is the logger instance enabled for the WARN level?
+     *
+     * @return True if this Logger is enabled for the WARN level,
+     *         false otherwise.
+     */
+    boolean isWarnEnabled();
+
+    /**
+     * Log a message at the WARN level.
+     *
+     * @param msg the message string to be logged
+     */
+    void warn(String msg);
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and argument.
+     *
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the WARN level. 
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(String format, Object arg);
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and arguments.
+     *
+     * <p>This form avoids superfluous string concatenation when the logger
+     * is disabled for the WARN level. However, this variant incurs the hidden
+     * (and relatively small) cost of creating an <code>Object[]</code> before invoking the method,
+     * even if this logger is disabled for WARN. The variants taking
+     * {@link #warn(String, Object) one} and {@link #warn(String, Object, Object) two}
+     * arguments exist solely in order to avoid this hidden cost.
+     *
+     * @param format    the format string
+     * @param arguments a list of 3 or more arguments
+     */
+    void warn(String format, Object... arguments);
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and arguments.
+     *
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the WARN level. 
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(String format, Object arg1, Object arg2);
+
+    /**
+     * Log an exception (throwable) at the WARN level with an
+     * accompanying message.
+     *
+     * @param msg the message accompanying the exception
+     * @param t   the exception (throwable) to log
+     */
+    void warn(String msg, Throwable t);
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void warn(String format, int arg) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void warn(String format, long arg) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void warn(String format, double arg) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the WARN level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void warn(String format, boolean arg) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the WARN level.
+     * Defined so that <code>char</code> arguments are rendered as characters
+     * rather than being widened to <code>int</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void warn(String format, char arg) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the WARN level.
+     * Defined so that <code>float</code> arguments are rendered as such rather
+     * than being widened to <code>double</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void warn(String format, float arg) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, boolean arg1, boolean arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, boolean arg1, char arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, boolean arg1, long arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, boolean arg1, float arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, boolean arg1, double arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, boolean arg1, Object arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, char arg1, boolean arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, char arg1, char arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, char arg1, long arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, char arg1, float arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, char arg1, double arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, char arg1, Object arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, long arg1, boolean arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, long arg1, char arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, long arg1, long arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, long arg1, float arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, long arg1, double arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, long arg1, Object arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, float arg1, boolean arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, float arg1, char arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, float arg1, long arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, float arg1, float arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, float arg1, double arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, float arg1, Object arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, double arg1, boolean arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, double arg1, char arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, double arg1, long arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, double arg1, float arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, double arg1, double arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, double arg1, Object arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, Object arg1, boolean arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, Object arg1, char arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, Object arg1, long arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, Object arg1, float arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #warn(String, Object, Object)}, with the arguments boxed
+     * only if the WARN level is enabled.
+     *
+     * @since 2.0
+     */
+    default void warn(String format, Object arg1, double arg2) {
+        if(isWarnEnabled()) {
+            warn(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Similar to {@link #isWarnEnabled()} method except that the marker
+     * data is also taken into consideration.
+     *
+     * @param marker The marker data to take into consideration
+     * @return True if this Logger is enabled for the WARN level,
+     *         false otherwise.
+     */
+    boolean isWarnEnabled(Marker marker);
+
+    /**
+     * Log a message with the specific Marker at the WARN level.
+     *
+     * @param marker The marker specific to this log statement
+     * @param msg    the message string to be logged
+     */
+    void warn(Marker marker, String msg);
+
+    /**
+     * This method is similar to {@link #warn(String, Object)} method except that the
+     * marker data is also taken into consideration.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void warn(Marker marker, String format, Object arg);
+
+    /**
+     * This method is similar to {@link #warn(String, Object, Object)}
+     * method except that the marker data is also taken into
+     * consideration.
+     *
+     * @param marker the marker data specific to this log statement
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void warn(Marker marker, String format, Object arg1, Object arg2);
+
+    /**
+     * This method is similar to {@link #warn(String, Object...)}
+     * method except that the marker data is also taken into
+     * consideration.
+     *
+     * @param marker    the marker data specific to this log statement
+     * @param format    the format string
+     * @param arguments a list of 3 or more arguments
+     */
+    void warn(Marker marker, String format, Object... arguments);
+
+    /**
+     * This method is similar to {@link #warn(String, Throwable)} method
+     * except that the marker data is also taken into consideration.
+     *
+     * @param marker the marker data for this log statement
+     * @param msg    the message accompanying the exception
+     * @param t      the exception (throwable) to log
+     */
+    void warn(Marker marker, String msg, Throwable t);
+
+
+    /**
+     * Entry point for fluent-logging for {@link org.slf4j.event.Level#WARN} level. 
+     *
+     * @return LoggingEventBuilder instance as appropriate for level WARN
+     * @since 2.0
+     */
+    default LoggingEventBuilder atWarn() {
+        if(isWarnEnabled()) {
+            return makeLoggingEventBuilder(WARN);
+        } else {
+            return NOPLoggingEventBuilder.singleton();
+        }
+    }
+
+
+    /**
+     * Is the logger instance enabled for the ERROR level?
+     *
+     * @return True if this Logger is enabled for the ERROR level,
+     *         false otherwise.
+     */
+    boolean isErrorEnabled();
+
+    /**
+     * Log a message at the ERROR level.
+     *
+     * @param msg the message string to be logged
+     */
+    void error(String msg);
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and argument.
+     *
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the ERROR level. 
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    void error(String format, Object arg);
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and arguments.
+     *
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the ERROR level. 
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    void error(String format, Object arg1, Object arg2);
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and arguments.
+     *
+     * <p>This form avoids superfluous string concatenation when the logger
+     * is disabled for the ERROR level. However, this variant incurs the hidden
+     * (and relatively small) cost of creating an <code>Object[]</code> before invoking the method,
+     * even if this logger is disabled for ERROR. The variants taking
+     * {@link #error(String, Object) one} and {@link #error(String, Object, Object) two}
+     * arguments exist solely in order to avoid this hidden cost.
+     *
+     * @param format    the format string
+     * @param arguments a list of 3 or more arguments
+     */
+    void error(String format, Object... arguments);
+
+    /**
+     * Log an exception (throwable) at the ERROR level with an
+     * accompanying message.
+     *
+     * @param msg the message accompanying the exception
+     * @param t   the exception (throwable) to log
+     */
+    void error(String msg, Throwable t);
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>int</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void error(String format, int arg) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>long</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void error(String format, long arg) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>double</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void error(String format, double arg) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>boolean</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the ERROR level.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void error(String format, boolean arg) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>char</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the ERROR level.
+     * Defined so that <code>char</code> arguments are rendered as characters
+     * rather than being widened to <code>int</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void error(String format, char arg) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and <code>float</code> argument.
+     *
+     * <p>This form avoids boxing the argument when the logger
+     * is disabled for the ERROR level.
+     * Defined so that <code>float</code> arguments are rendered as such rather
+     * than being widened to <code>double</code>.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     * @since 2.0
+     */
+    default void error(String format, float arg) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, boolean arg1, boolean arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, boolean arg1, char arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, boolean arg1, long arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, boolean arg1, float arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, boolean arg1, double arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, boolean arg1, Object arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, char arg1, boolean arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, char arg1, char arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, char arg1, long arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, char arg1, float arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, char arg1, double arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, char arg1, Object arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, long arg1, boolean arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, long arg1, char arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, long arg1, long arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, long arg1, float arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, long arg1, double arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, long arg1, Object arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, float arg1, boolean arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, float arg1, char arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, float arg1, long arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, float arg1, float arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, float arg1, double arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, float arg1, Object arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, double arg1, boolean arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, double arg1, char arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, double arg1, long arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, double arg1, float arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, double arg1, double arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, double arg1, Object arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, Object arg1, boolean arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, Object arg1, char arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, Object arg1, long arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, Object arg1, float arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
+
+    /**
+     * Same as {@link #error(String, Object, Object)}, with the arguments boxed
+     * only if the ERROR level is enabled.
+     *
+     * @since 2.0
+     */
+    default void error(String format, Object arg1, double arg2) {
+        if(isErrorEnabled()) {
+            error(format, (Object) arg1, (Object) arg2);
+        }
+    }
 
     /**
      * Similar to {@link #isErrorEnabled()} method except that the
@@ -2,6 +2,7 @@ package org.slf4j;
 
 import org.slf4j.event.SubstituteLoggingEvent;
 import org.slf4j.helpers.NOPServiceProvider;
+import org.slf4j.helpers.SubstituteEventQueue;
 import org.slf4j.helpers.SubstituteLogger;
 import org.slf4j.helpers.SubstituteServiceProvider;
 import org.slf4j.helpers.Util;
@@ -11,6 +12,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.*;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * LoggerFactory是一个生成各种日志API Logger的通用类，尤其是log4j、logback和JDK 1.4 logging。
@@ -40,7 +42,6 @@ public final class LoggerFactory {
     static final String MULTIPLE_BINDINGS_URL = CODES_PREFIX + "#multiple_bindings";
     static final String NULL_LF_URL = CODES_PREFIX + "#null_LF";
     static final String VERSION_MISMATCH = CODES_PREFIX + "#version_mismatch";
-    static final String SUBSTITUTE_LOGGER_URL = CODES_PREFIX + "#substituteLogger";
     static final String LOGGER_NAME_MISMATCH_URL = CODES_PREFIX + "#loggerNameMismatch";
     static final String REPLAY_URL = CODES_PREFIX + "#replay";
 
@@ -83,6 +84,23 @@ public final class LoggerFactory {
 
     static boolean DETECT_LOGGER_NAME_MISMATCH = Util.safeGetBooleanSystemProperty(DETECT_LOGGER_NAME_MISMATCH_PROPERTY);
 
+    /**
+     * System property naming the {@link SLF4JServiceProvider} to use. When set,
+     * the provider is instantiated directly and neither {@link ServiceLoader}
+     * discovery nor the scan for legacy bindings takes place.
+     *
+     * @since 2.0.0
+     */
+    public static final String PROVIDER_PROPERTY_KEY = "slf4j.provider";
+
+    /**
+     * When this system property is set to true, the time spent in each phase of
+     * the initialization is reported.
+     *
+     * @since 2.0.0
+     */
+    public static final String REPORT_INITIALIZATION_TIMING_PROPERTY = "slf4j.reportInitializationTiming";
+
     static volatile SLF4JServiceProvider PROVIDER;
 
     private static List<SLF4JServiceProvider> findServiceProviders() {
@@ -125,22 +143,37 @@ public final class LoggerFactory {
     }
 
     private static void performInitialization() {
-        bind();
+        boolean reportTiming = Util.safeGetBooleanSystemProperty(REPORT_INITIALIZATION_TIMING_PROPERTY);
+        long start = System.nanoTime();
+        bind(reportTiming);
         if(INITIALIZATION_STATE == SUCCESSFUL_INITIALIZATION) {
+            long versionCheckStart = System.nanoTime();
             versionSanityCheck();
+            reportInitializationPhase(reportTiming, "version check", versionCheckStart);
         }
+        reportInitializationPhase(reportTiming, "total", start);
     }
 
-    private static void bind() {
+    private static void bind(boolean reportTiming) {
         try {
-            List<SLF4JServiceProvider> providersList = findServiceProviders();
-            // 如果出现多个SLF4JServiceProvider实例，则打印警告信息。
-            reportMultipleBindingAmbiguity(providersList);
+            long lookupStart = System.nanoTime();
+            List<SLF4JServiceProvider> providersList;
+            SLF4JServiceProvider explicitProvider = loadExplicitlySpecifiedProvider();
+            if(explicitProvider != null) {
+                providersList = Collections.singletonList(explicitProvider);
+            } else {
+                providersList = findServiceProviders();
+                // 如果出现多个SLF4JServiceProvider实例，则打印警告信息。
+                reportMultipleBindingAmbiguity(providersList);
+            }
+            reportInitializationPhase(reportTiming, "provider lookup", lookupStart);
             // 判断是否扫描到对应的SLF4JServiceProvider实现类
             if(!providersList.isEmpty()) {
                 PROVIDER = providersList.get(0);
+                long initializeStart = System.nanoTime();
                 // SLF4JServiceProvider.initialize()方法仅在此处调用，其他地方都不允许调用。
                 PROVIDER.initialize();
+                reportInitializationPhase(reportTiming, "provider initialization", initializeStart);
                 INITIALIZATION_STATE = SUCCESSFUL_INITIALIZATION;
                 // 打印绑定了哪个SLF4JServiceProvider
                 reportActualBinding(providersList);
@@ -153,16 +186,57 @@ public final class LoggerFactory {
                 Util.report("See " + NO_PROVIDERS_URL + " for further details.");
 
                 // 打印忽略掉的静态Logger绑定
+                long scanStart = System.nanoTime();
                 Set<URL> staticLoggerBinderPathSet = findPossibleStaticLoggerBinderPathSet();
                 reportIgnoredStaticLoggerBinders(staticLoggerBinderPathSet);
+                reportInitializationPhase(reportTiming, "legacy binding scan", scanStart);
             }
+            long cleanUpStart = System.nanoTime();
             postBindCleanUp();
+            reportInitializationPhase(reportTiming, "substitute logger replay", cleanUpStart);
         } catch (Exception e) {
             failedBinding(e);
             throw new IllegalStateException("Unexpected initialization failure", e);
         }
     }
 
+    /**
+     * Instantiate the provider named by the {@value #PROVIDER_PROPERTY_KEY}
+     * system property.
+     *
+     * @return the provider, or null if the property is not set or the provider
+     * cannot be instantiated
+     */
+    static SLF4JServiceProvider loadExplicitlySpecifiedProvider() {
+        String providerClassName = Util.safeGetSystemProperty(PROVIDER_PROPERTY_KEY);
+        if(providerClassName == null || providerClassName.trim().isEmpty()) {
+            return null;
+        }
+        providerClassName = providerClassName.trim();
+        try {
+            ClassLoader classLoader = LoggerFactory.class.getClassLoader();
+            Class<?> providerClass = Class.forName(providerClassName, true, classLoader);
+            if(SLF4JServiceProvider.class.isAssignableFrom(providerClass)) {
+                return (SLF4JServiceProvider) providerClass.getConstructor().newInstance();
+            }
+            Util.report("Class [" + providerClassName + "] specified by the " + PROVIDER_PROPERTY_KEY + " system property does not implement "
+                                + SLF4JServiceProvider.class.getName() + ".");
+        } catch (ClassNotFoundException e) {
+            Util.report("Provider [" + providerClassName + "] specified by the " + PROVIDER_PROPERTY_KEY + " system property was not found.");
+        } catch (Exception | LinkageError e) {
+            Util.report("Failed to instantiate provider [" + providerClassName + "] specified by the " + PROVIDER_PROPERTY_KEY + " system property", e);
+        }
+        Util.report("Falling back to provider discovery.");
+        return null;
+    }
+
+    private static void reportInitializationPhase(boolean reportTiming, String phase, long startNanos) {
+        if(reportTiming) {
+            long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            Util.report("Initialization phase [" + phase + "] took " + elapsedMicros + " microseconds.");
+        }
+    }
+
     private static void reportIgnoredStaticLoggerBinders(Set<URL> staticLoggerBinderPathSet) {
         if(staticLoggerBinderPathSet.isEmpty()) {
             return;
@@ -209,13 +283,7 @@ public final class LoggerFactory {
     }
 
     private static void fixSubstituteLoggers() {
-        synchronized(SUBST_PROVIDER) {
-            SUBST_PROVIDER.getSubstituteLoggerFactory().postInitialization();
-            for(SubstituteLogger substLogger : SUBST_PROVIDER.getSubstituteLoggerFactory().getLoggers()) {
-                Logger logger = getLogger(substLogger.getName());
-                substLogger.setDelegate(logger);
-            }
-        }
+        SUBST_PROVIDER.getSubstituteLoggerFactory().postInitialization(getILoggerFactory());
     }
 
     static void failedBinding(Throwable t) {
@@ -234,60 +302,59 @@ public final class LoggerFactory {
             if(numDrained == 0) {
                 break;
             }
-            for(SubstituteLoggingEvent event : eventList) {
-                replaySingleEvent(event);
-                if(count++ == 0) {
-                    emitReplayOrSubstituionWarning(event, queueSize);
+            // consecutive events recorded by the same logger are replayed as one batch
+            int batchStart = 0;
+            for(int i = 1; i <= numDrained; i++) {
+                SubstituteLogger substLogger = eventList.get(batchStart).getLogger();
+                if(i == numDrained || eventList.get(i).getLogger() != substLogger) {
+                    if(count == 0) {
+                        emitReplayWarningIfNeeded(substLogger, queueSize);
+                    }
+                    replayBatch(substLogger, eventList.subList(batchStart, i));
+                    count += i - batchStart;
+                    batchStart = i;
                 }
             }
             eventList.clear();
         }
+        long droppedCount = SUBST_PROVIDER.getSubstituteLoggerFactory().getDroppedEventCount();
+        if(droppedCount > 0) {
+            emitDroppedEventsWarning(droppedCount);
+        }
     }
 
-    private static void emitReplayOrSubstituionWarning(SubstituteLoggingEvent event, int queueSize) {
-        if(event.getLogger().isDelegateEventAware()) {
+    private static void emitReplayWarningIfNeeded(SubstituteLogger substLogger, int queueSize) {
+        if(!substLogger.isDelegateNOP()) {
             emitReplayWarning(queueSize);
-        } else if(event.getLogger().isDelegateNOP()) {
-            // nothing to do
-        } else {
-            emitSubstitutionWarning();
         }
     }
 
-    private static void replaySingleEvent(SubstituteLoggingEvent event) {
-        if(event == null) {
-            return;
-        }
-
-        SubstituteLogger substLogger = event.getLogger();
-        String loggerName = substLogger.getName();
+    private static void replayBatch(SubstituteLogger substLogger, List<SubstituteLoggingEvent> events) {
         if(substLogger.isDelegateNull()) {
             throw new IllegalStateException("Delegate logger cannot be null at this state.");
         }
 
         if(substLogger.isDelegateNOP()) {
             // nothing to do
-        } else if(substLogger.isDelegateEventAware()) {
-            substLogger.log(event);
         } else {
-            Util.report(loggerName);
+            substLogger.replay(events);
         }
     }
 
-    private static void emitSubstitutionWarning() {
-        Util.report("The following set of substitute loggers may have been accessed");
-        Util.report("during the initialization phase. Logging calls during this");
-        Util.report("phase were not honored. However, subsequent logging calls to these");
-        Util.report("loggers will work as normally expected.");
-        Util.report("See also " + SUBSTITUTE_LOGGER_URL);
-    }
-
     private static void emitReplayWarning(int eventCount) {
         Util.report("A number (" + eventCount + ") of logging calls during the initialization phase have been intercepted and are");
         Util.report("now being replayed. These are subject to the filtering rules of the underlying logging system.");
         Util.report("See also " + REPLAY_URL);
     }
 
+    private static void emitDroppedEventsWarning(long droppedCount) {
+        int capacity = SUBST_PROVIDER.getSubstituteLoggerFactory().getEventQueueCapacity();
+        Util.report("A number (" + droppedCount + ") of logging calls during the initialization phase were dropped because");
+        Util.report("the queue of intercepted calls was full (capacity " + capacity + "). See the " + SubstituteEventQueue.CAPACITY_PROPERTY + " and");
+        Util.report(SubstituteEventQueue.OVERFLOW_POLICY_PROPERTY + " system properties.");
+        Util.report("See also " + REPLAY_URL);
+    }
+
     private static void versionSanityCheck() {
         try {
             String requested = PROVIDER.getRequesteApiVersion();
@@ -382,6 +449,30 @@ public final class LoggerFactory {
         return logger;
     }
 
+    /**
+     * Return a logger named after the class calling this method, using the
+     * statically bound {@link ILoggerFactory} instance. This is a shorthand for
+     * <code>getLogger(Foo.class)</code> when called from within class
+     * <code>Foo</code>.
+     *
+     * <p>
+     * If the calling class cannot be determined, which may only happen under a
+     * security manager denying the creation of a <code>SecurityManager</code>
+     * on Java 8, or of a <code>StackWalker</code> retaining class references
+     * on Java 9 and later, the root logger is returned.
+     *
+     * @return logger named after the calling class
+     * @since 2.0.0
+     */
+    public static Logger getLogger() {
+        Class<?> callingClass = Util.getCallingClass();
+        if(callingClass == null) {
+            Util.report("Failed to determine the calling class, returning the root logger.");
+            return getLogger(Logger.ROOT_LOGGER_NAME);
+        }
+        return getLogger(callingClass.getName());
+    }
+
     private static boolean nonMatchingClasses(Class<?> clazz, Class<?> autoComputedCallingClass) {
         return !autoComputedCallingClass.isAssignableFrom(clazz);
     }
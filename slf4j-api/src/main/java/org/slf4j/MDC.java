@@ -7,6 +7,7 @@ import org.slf4j.spi.MDCAdapter;
 import org.slf4j.spi.SLF4JServiceProvider;
 
 import java.io.Closeable;
+import java.util.Deque;
 import java.util.Map;
 
 /**
@@ -154,6 +155,38 @@ public class MDC {
         return mdcAdapter.get(key);
     }
 
+    /**
+     * Put a diagnostic context value of any type as identified with the
+     * <code>key</code> parameter into the current thread's diagnostic context
+     * map. Depending on the underlying implementation, the value is either
+     * stored as is and converted to a String only when rendered, or converted
+     * right away.
+     *
+     * @param key non-null key
+     * @param val value to put in the map
+     * @throws IllegalArgumentException
+     *           in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    public static void putObject(String key, Object val) throws IllegalArgumentException {
+        getAdapterForKey(key).putObject(key, val);
+    }
+
+    /**
+     * Get the diagnostic context value identified by the <code>key</code>
+     * parameter. A value put via {@link #putObject(String, Object)} is
+     * returned as is if the underlying implementation retained it.
+     *
+     * @param key non-null key
+     * @return the value identified by the <code>key</code> parameter
+     * @throws IllegalArgumentException
+     *           in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    public static Object getObject(String key) throws IllegalArgumentException {
+        return getAdapterForKey(key).getObject(key);
+    }
+
     /**
      * Remove the diagnostic context identified by the <code>key</code> parameter using
      * the underlying system's MDC implementation. The <code>key</code> parameter
@@ -215,6 +248,95 @@ public class MDC {
         mdcAdapter.setContextMap(contextMap);
     }
 
+    /**
+     * Push a value onto the deque identified by <code>key</code> in the
+     * current thread's context.
+     *
+     * @param key   non-null key identifying the deque
+     * @param value the value to push
+     * @throws IllegalArgumentException
+     *           in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    public static void pushByKey(String key, String value) {
+        getAdapterForKey(key).pushByKey(key, value);
+    }
+
+    /**
+     * Pop a value from the deque identified by <code>key</code> in the
+     * current thread's context.
+     *
+     * @param key non-null key identifying the deque
+     * @return the value at the top of the deque, or null if it is empty
+     * @throws IllegalArgumentException
+     *           in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    public static String popByKey(String key) {
+        return getAdapterForKey(key).popByKey(key);
+    }
+
+    /**
+     * Return the value at the top of the deque identified by <code>key</code>
+     * without removing it.
+     *
+     * @param key non-null key identifying the deque
+     * @return the value at the top of the deque, or null if it is empty
+     * @throws IllegalArgumentException
+     *           in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    public static String peekByKey(String key) {
+        return getAdapterForKey(key).peekByKey(key);
+    }
+
+    /**
+     * @param key non-null key identifying the deque
+     * @return the number of values in the deque identified by <code>key</code>
+     * @throws IllegalArgumentException
+     *           in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    public static int getDequeSizeByKey(String key) {
+        return getAdapterForKey(key).getDequeSizeByKey(key);
+    }
+
+    /**
+     * Return a copy of the deque identified by <code>key</code>, whose first
+     * element is the top of the deque. Returned value may be null.
+     *
+     * @param key non-null key identifying the deque
+     * @return a copy of the deque, may be null
+     * @throws IllegalArgumentException
+     *           in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    public static Deque<String> getCopyOfDequeByKey(String key) {
+        return getAdapterForKey(key).getCopyOfDequeByKey(key);
+    }
+
+    /**
+     * Remove all values from the deque identified by <code>key</code>.
+     *
+     * @param key non-null key identifying the deque
+     * @throws IllegalArgumentException
+     *           in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    public static void clearDequeByKey(String key) {
+        getAdapterForKey(key).clearDequeByKey(key);
+    }
+
+    private static MDCAdapter getAdapterForKey(String key) {
+        if(key == null) {
+            throw new IllegalArgumentException("key parameter cannot be null");
+        }
+        if(mdcAdapter == null) {
+            throw new IllegalStateException("MDCAdapter cannot be null. See also " + NULL_MDCA_URL);
+        }
+        return mdcAdapter;
+    }
+
     /**
      * Returns the MDCAdapter instance currently in use.
      *
@@ -0,0 +1,228 @@
+package org.slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.spi.MDCAdapter;
+
+/**
+ * Propagates the MDC context of the thread submitting a task to the thread
+ * executing it.
+ *
+ * <p>Each <code>wrap</code> method captures the context of the calling thread
+ * once, using {@link MDCAdapter#getContextSnapshot()}. The context is
+ * installed around each execution of the wrapped task, after which the
+ * previous context of the executing thread is restored. Executors returned by
+ * {@link #wrapExecutor(Executor)}, {@link #wrapExecutorService(ExecutorService)}
+ * and {@link #wrapScheduledExecutorService(ScheduledExecutorService)} wrap
+ * every task submitted to them, capturing the context at submission time.
+ *
+ * <p>For example, to run a {@link java.util.concurrent.CompletableFuture}
+ * stage with the context of the current thread:
+ *
+ * <pre>
+ * MDCPropagator propagator = MDCPropagator.create();
+ * CompletableFuture.supplyAsync(propagator.wrapSupplier(supplier), executor);
+ * </pre>
+ *
+ * @since 2.0.0
+ */
+public final class MDCPropagator {
+
+    private final MDCAdapter mdcAdapter;
+
+    private MDCPropagator(MDCAdapter mdcAdapter) {
+        this.mdcAdapter = mdcAdapter;
+    }
+
+    /**
+     * @return a propagator for the adapter returned by {@link MDC#getMDCAdapter()}
+     */
+    public static MDCPropagator create() {
+        return create(MDC.getMDCAdapter());
+    }
+
+    /**
+     * @param mdcAdapter the adapter holding the context to propagate
+     * @return a propagator for <code>mdcAdapter</code>
+     */
+    public static MDCPropagator create(MDCAdapter mdcAdapter) {
+        if(mdcAdapter == null) {
+            throw new IllegalArgumentException("MDCAdapter cannot be null. See also " + MDC.NULL_MDCA_URL);
+        }
+        return new MDCPropagator(mdcAdapter);
+    }
+
+    public Runnable wrapRunnable(Runnable task) {
+        Object snapshot = mdcAdapter.getContextSnapshot();
+        return () -> {
+            Object previous = mdcAdapter.getContextSnapshot();
+            mdcAdapter.restoreContextSnapshot(snapshot);
+            try {
+                task.run();
+            } finally {
+                mdcAdapter.restoreContextSnapshot(previous);
+            }
+        };
+    }
+
+    public <V> Callable<V> wrapCallable(Callable<V> task) {
+        Object snapshot = mdcAdapter.getContextSnapshot();
+        return () -> {
+            Object previous = mdcAdapter.getContextSnapshot();
+            mdcAdapter.restoreContextSnapshot(snapshot);
+            try {
+                return task.call();
+            } finally {
+                mdcAdapter.restoreContextSnapshot(previous);
+            }
+        };
+    }
+
+    public <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        Object snapshot = mdcAdapter.getContextSnapshot();
+        return () -> {
+            Object previous = mdcAdapter.getContextSnapshot();
+            mdcAdapter.restoreContextSnapshot(snapshot);
+            try {
+                return supplier.get();
+            } finally {
+                mdcAdapter.restoreContextSnapshot(previous);
+            }
+        };
+    }
+
+    public Executor wrapExecutor(Executor executor) {
+        return command -> executor.execute(wrapRunnable(command));
+    }
+
+    public ExecutorService wrapExecutorService(ExecutorService executorService) {
+        return new PropagatingExecutorService<>(executorService);
+    }
+
+    public ScheduledExecutorService wrapScheduledExecutorService(ScheduledExecutorService executorService) {
+        return new PropagatingScheduledExecutorService(executorService);
+    }
+
+    private <T> List<Callable<T>> wrapCallables(Collection<? extends Callable<T>> tasks) {
+        List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for(Callable<T> task : tasks) {
+            wrapped.add(wrapCallable(task));
+        }
+        return wrapped;
+    }
+
+    private class PropagatingExecutorService<E extends ExecutorService> implements ExecutorService {
+
+        final E delegate;
+
+        PropagatingExecutorService(E delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(wrapRunnable(command));
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+        @Override
+        public <T> Future<T> submit(Callable<T> task) {
+            return delegate.submit(wrapCallable(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(Runnable task, T result) {
+            return delegate.submit(wrapRunnable(task), result);
+        }
+
+        @Override
+        public Future<?> submit(Runnable task) {
+            return delegate.submit(wrapRunnable(task));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            return delegate.invokeAll(wrapCallables(tasks));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.invokeAll(wrapCallables(tasks), timeout, unit);
+        }
+
+        @Override
+        public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+            return delegate.invokeAny(wrapCallables(tasks));
+        }
+
+        @Override
+        public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.invokeAny(wrapCallables(tasks), timeout, unit);
+        }
+    }
+
+    private final class PropagatingScheduledExecutorService extends PropagatingExecutorService<ScheduledExecutorService>
+                    implements ScheduledExecutorService {
+
+        PropagatingScheduledExecutorService(ScheduledExecutorService delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return delegate.schedule(wrapRunnable(command), delay, unit);
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            return delegate.schedule(wrapCallable(callable), delay, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            return delegate.scheduleAtFixedRate(wrapRunnable(command), initialDelay, period, unit);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            return delegate.scheduleWithFixedDelay(wrapRunnable(command), initialDelay, delay, unit);
+        }
+    }
+}
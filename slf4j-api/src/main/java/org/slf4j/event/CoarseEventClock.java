@@ -0,0 +1,61 @@
+package org.slf4j.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An {@link EventClock} returning a cached time which is refreshed by a
+ * daemon ticker thread.
+ *
+ * <p>Reading this clock amounts to a volatile read, at the price of time
+ * stamps lagging behind the system clock by up to the resolution of the
+ * clock. The ticker thread is started by the constructor and runs until
+ * {@link #stop()} is called.
+ *
+ * @since 2.0.0
+ */
+public final class CoarseEventClock implements EventClock {
+
+    static final String TICKER_THREAD_NAME = "slf4j-coarse-clock";
+
+    private final long resolutionNanos;
+    final Thread ticker;
+
+    private volatile long currentTimeMillis = System.currentTimeMillis();
+    private volatile boolean running = true;
+
+    /**
+     * @param resolutionMillis interval between two updates of the cached
+     *                         time, in milliseconds
+     */
+    public CoarseEventClock(long resolutionMillis) {
+        if(resolutionMillis <= 0) {
+            throw new IllegalArgumentException("resolution must be positive, was " + resolutionMillis);
+        }
+        this.resolutionNanos = TimeUnit.MILLISECONDS.toNanos(resolutionMillis);
+        this.ticker = new Thread(this::tick, TICKER_THREAD_NAME);
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    private void tick() {
+        while(running) {
+            LockSupport.parkNanos(this, resolutionNanos);
+            currentTimeMillis = System.currentTimeMillis();
+        }
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    /**
+     * Stop the ticker thread. The time returned by this clock is frozen from
+     * then on.
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+}
@@ -1,8 +1,10 @@
 package org.slf4j.event;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.Marker;
@@ -10,24 +12,46 @@ import org.slf4j.Marker;
 /**
  * A default implementation of {@link LoggingEvent}.
  * 
+ * <p>Arguments and key value pairs can be supplied lazily via
+ * {@link #addDeferredArgument(Supplier)} and
+ * {@link #addDeferredKeyValue(String, Supplier)}. The corresponding suppliers
+ * are invoked at most once, when the values are first requested by the
+ * consumer of the event. As with the rest of this class, this is not
+ * thread-safe.
+ *
  * @author Ceki G&uuml;lc&uuml;
  *
  * @since 2.0.0
  */
-public class DefaultLoggingEvent implements LoggingEvent {
+public class DefaultLoggingEvent implements StampableLoggingEvent {
 
 	Logger logger;
 	Level level;
 
 	String message;
-	List<Marker> markers;
+	MarkerList markers;
 	List<Object> arguments;
 	List<KeyValuePair> keyValuePairs;
 
+	boolean hasDeferredArguments;
+	boolean hasDeferredKeyValuePairs;
+
 	Throwable throwable;
 	String threadName;
 	long timeStamp;
+	Instant instant;
 	
+	/**
+	 * Placeholder for a value which is computed only when first requested.
+	 */
+	static final class DeferredValue {
+		final Supplier<?> supplier;
+
+		DeferredValue(Supplier<?> supplier) {
+			this.supplier = supplier;
+		}
+	}
+
 
 	public DefaultLoggingEvent(Level level, Logger logger) {
 		this.logger = logger;
@@ -35,10 +59,7 @@ public class DefaultLoggingEvent implements LoggingEvent {
 	}
 
 	public void addMarker(Marker marker) {
-    	if(markers == null) {
-			markers = new ArrayList<>(2);
-		}
-		markers.add(marker);
+		markers = markers == null ? MarkerList.of(marker) : markers.with(marker);
 	}
 
 	@Override
@@ -61,23 +82,73 @@ public class DefaultLoggingEvent implements LoggingEvent {
 		return arguments;
 	}
 
+	/**
+	 * Add an argument whose value is computed by <code>supplier</code> only when
+	 * the arguments of this event are first requested.
+	 * 
+	 * @param supplier supplies the argument value
+	 * @since 2.0
+	 */
+	public void addDeferredArgument(Supplier<?> supplier) {
+		getNonNullArguments().add(new DeferredValue(supplier));
+		hasDeferredArguments = true;
+	}
+
 	@Override
 	public List<Object> getArguments() {
+		if (hasDeferredArguments) {
+			resolveDeferredArguments();
+		}
 		return arguments;
 	}
 
+	private void resolveDeferredArguments() {
+		hasDeferredArguments = false;
+		for (int i = 0; i < arguments.size(); i++) {
+			Object arg = arguments.get(i);
+			if (arg instanceof DeferredValue) {
+				arguments.set(i, ((DeferredValue) arg).supplier.get());
+			}
+		}
+	}
+
 	@Override
 	public Object[] getArgumentArray() {
-		if (arguments == null) {
+		List<Object> args = getArguments();
+		if (args == null) {
 			return null;
 		}
-		return arguments.toArray();
+		return args.toArray();
 	}
 
 	public void addKeyValue(String key, Object value) {
 		getNonnullKeyValuePairs().add(new KeyValuePair(key, value));
 	}
 
+	/**
+	 * Add a key value pair whose value is computed by <code>supplier</code> only
+	 * when the key value pairs of this event are first requested.
+	 * 
+	 * @param key      the key
+	 * @param supplier supplies the value
+	 * @since 2.0
+	 */
+	public void addDeferredKeyValue(String key, Supplier<?> supplier) {
+		getNonnullKeyValuePairs().add(new KeyValuePair(key, new DeferredValue(supplier)));
+		hasDeferredKeyValuePairs = true;
+	}
+
+	private void resolveDeferredKeyValuePairs() {
+		hasDeferredKeyValuePairs = false;
+		for (int i = 0; i < keyValuePairs.size(); i++) {
+			KeyValuePair kvp = keyValuePairs.get(i);
+			if (kvp.value instanceof DeferredValue) {
+				Object value = ((DeferredValue) kvp.value).supplier.get();
+				keyValuePairs.set(i, new KeyValuePair(kvp.key, value));
+			}
+		}
+	}
+
 	private List<KeyValuePair> getNonnullKeyValuePairs() {
 		if (keyValuePairs == null) {
 			keyValuePairs = new ArrayList<>(4);
@@ -87,6 +158,9 @@ public class DefaultLoggingEvent implements LoggingEvent {
 
 	@Override
 	public List<KeyValuePair> getKeyValuePairs() {
+		if (hasDeferredKeyValuePairs) {
+			resolveDeferredKeyValuePairs();
+		}
 		return keyValuePairs;
 	}
 
@@ -123,8 +197,36 @@ public class DefaultLoggingEvent implements LoggingEvent {
 		return threadName;
 	}
 
+	@Override
+	public void setThreadName(String threadName) {
+		this.threadName = threadName;
+	}
+
 	@Override
 	public long getTimeStamp() {
 		return timeStamp;
 	}
+
+	@Override
+	public void setTimeStamp(long timeStamp) {
+		this.timeStamp = timeStamp;
+		this.instant = null;
+	}
+
+	@Override
+	public Instant getInstant() {
+		return instant != null ? instant : Instant.ofEpochMilli(timeStamp);
+	}
+
+	/**
+	 * Set the time stamp of this event with the full precision of
+	 * <code>instant</code>.
+	 * 
+	 * @param instant the time stamp
+	 */
+	@Override
+	public void setInstant(Instant instant) {
+		this.instant = instant;
+		this.timeStamp = instant.toEpochMilli();
+	}
 }
@@ -0,0 +1,42 @@
+package org.slf4j.event;
+
+import java.time.Instant;
+
+/**
+ * The source of the time stamps attached to logging events built via the
+ * fluent API.
+ *
+ * <p>The clock in use is selected via {@link EventClocks}. Implementations
+ * must be thread-safe.
+ *
+ * @since 2.0.0
+ */
+public interface EventClock {
+
+    /**
+     * Return the current time in milliseconds since the epoch.
+     *
+     * @return the current time in milliseconds
+     */
+    long currentTimeMillis();
+
+    /**
+     * Whether {@link #instant()} is more precise than
+     * {@link #currentTimeMillis()}. Event builders only call
+     * {@link #instant()} for precise clocks.
+     *
+     * @return true if this clock offers sub-millisecond precision
+     */
+    default boolean isPrecise() {
+        return false;
+    }
+
+    /**
+     * Return the current instant with as much precision as this clock offers.
+     *
+     * @return the current instant
+     */
+    default Instant instant() {
+        return Instant.ofEpochMilli(currentTimeMillis());
+    }
+}
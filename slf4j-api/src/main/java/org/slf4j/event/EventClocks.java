@@ -0,0 +1,99 @@
+package org.slf4j.event;
+
+import org.slf4j.helpers.Util;
+
+/**
+ * Holds the {@link EventClock} used to time stamp events built via the fluent
+ * API.
+ *
+ * <p>The initial clock is selected by the {@value #CLOCK_PROPERTY} system
+ * property, which may be set to
+ * <ul>
+ * <li><code>system</code>, the default, for {@link SystemEventClock},</li>
+ * <li><code>precise</code> for {@link PreciseEventClock},</li>
+ * <li><code>coarse</code> for a {@link CoarseEventClock} whose resolution in
+ * milliseconds is given by the {@value #COARSE_RESOLUTION_PROPERTY} system
+ * property, {@value #DEFAULT_COARSE_RESOLUTION_MILLIS} by default,</li>
+ * <li>or the fully qualified name of an {@link EventClock} implementation
+ * with a public no-argument constructor.</li>
+ * </ul>
+ *
+ * @since 2.0.0
+ */
+public final class EventClocks {
+
+    public static final String CLOCK_PROPERTY = "slf4j.eventClock";
+    public static final String COARSE_RESOLUTION_PROPERTY = "slf4j.eventClock.coarseResolution";
+    static final long DEFAULT_COARSE_RESOLUTION_MILLIS = 10;
+
+    private static volatile EventClock clock = createClockFromSystemProperties();
+
+    private EventClocks() {
+    }
+
+    public static EventClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Replace the clock in use, for example by a {@link TestEventClock}. The
+     * replaced clock is stopped if it is a {@link CoarseEventClock}.
+     *
+     * @param newClock the clock to use from now on
+     */
+    public static synchronized void setClock(EventClock newClock) {
+        if(newClock == null) {
+            throw new IllegalArgumentException("clock cannot be null");
+        }
+        EventClock oldClock = clock;
+        clock = newClock;
+        if(oldClock != newClock && oldClock instanceof CoarseEventClock) {
+            ((CoarseEventClock) oldClock).stop();
+        }
+    }
+
+    static EventClock createClockFromSystemProperties() {
+        String clockStr = Util.safeGetSystemProperty(CLOCK_PROPERTY);
+        if(clockStr == null) {
+            return SystemEventClock.INSTANCE;
+        }
+        clockStr = clockStr.trim();
+        switch(clockStr) {
+            case "system":
+                return SystemEventClock.INSTANCE;
+            case "precise":
+                return PreciseEventClock.INSTANCE;
+            case "coarse":
+                return new CoarseEventClock(readCoarseResolution());
+            default:
+                return instantiateClock(clockStr);
+        }
+    }
+
+    private static long readCoarseResolution() {
+        String resolutionStr = Util.safeGetSystemProperty(COARSE_RESOLUTION_PROPERTY);
+        if(resolutionStr == null) {
+            return DEFAULT_COARSE_RESOLUTION_MILLIS;
+        }
+        try {
+            long resolution = Long.parseLong(resolutionStr.trim());
+            if(resolution > 0) {
+                return resolution;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        Util.report("Invalid value [" + resolutionStr + "] for " + COARSE_RESOLUTION_PROPERTY + ", using default " + DEFAULT_COARSE_RESOLUTION_MILLIS);
+        return DEFAULT_COARSE_RESOLUTION_MILLIS;
+    }
+
+    private static EventClock instantiateClock(String className) {
+        try {
+            Class<?> clockClass = Class.forName(className);
+            return (EventClock) clockClass.getConstructor().newInstance();
+        } catch (Exception | LinkageError e) {
+            Util.report("Failed to instantiate event clock [" + className + "], using system clock", e);
+            return SystemEventClock.INSTANCE;
+        }
+    }
+}
@@ -78,7 +78,7 @@ public class EventRecodingLogger extends LegacyAbstractLogger {
         loggingEvent.setArgumentArray(args);
         loggingEvent.setThrowable(throwable);
 
-        eventQueue.add(loggingEvent);
+        eventQueue.offer(loggingEvent);
 
     }
 
@@ -2,6 +2,7 @@ package org.slf4j.event;
 
 import org.slf4j.Marker;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -31,5 +32,16 @@ public interface LoggingEvent {
 
     long getTimeStamp();
 
+    /**
+     * The time stamp of this event as an {@link Instant}, possibly with
+     * sub-millisecond precision depending on the {@link EventClock} in use.
+     *
+     * @return the time stamp of this event
+     * @since 2.0.0
+     */
+    default Instant getInstant() {
+        return Instant.ofEpochMilli(getTimeStamp());
+    }
+
     String getThreadName();
 }
@@ -1,6 +1,14 @@
 package org.slf4j.event;
 
 /**
+ * Implemented by loggers which accept {@link LoggingEvent} instances directly.
+ *
+ * <p>Implementations which process events synchronously may declare so via
+ * {@link #acceptsReusableEvents()}, in which case the event passed to
+ * {@link #log(LoggingEvent)} may be a {@link ReusableLoggingEvent} which is
+ * reused once the call returns. Other implementations always receive events
+ * they may retain.
+ *
  * @author Ceki G&uuml;lc&uuml;
  * @since 2.0.0
  */
@@ -8,4 +16,18 @@ public interface LoggingEventAware {
 
     void log(LoggingEvent event);
 
+    /**
+     * Whether this logger is done with the events passed to
+     * {@link #log(LoggingEvent)} once the call returns, so that a
+     * {@link ReusableLoggingEvent} can be passed without copying it first.
+     * Loggers which hand events over to another thread or otherwise retain
+     * them must return false, or retain a
+     * {@link ReusableLoggingEvent#snapshot() snapshot}.
+     *
+     * @return true if reusable events may be passed, false by default
+     */
+    default boolean acceptsReusableEvents() {
+        return false;
+    }
+
 }
@@ -0,0 +1,88 @@
+package org.slf4j.event;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import org.slf4j.Marker;
+
+/**
+ * An immutable list of markers, as returned by {@link LoggingEvent#getMarkers()}.
+ *
+ * <p>The markers are held in an array of exactly the list's size. Adding a
+ * marker via {@link #with(Marker)} returns a new list. As with the
+ * {@link java.util.ArrayList} previously used by {@link DefaultLoggingEvent},
+ * null markers and markers added more than once are retained.
+ *
+ * @since 2.0.0
+ */
+public final class MarkerList extends AbstractList<Marker> implements RandomAccess {
+
+    private final Marker[] markers;
+
+    private MarkerList(Marker[] markers) {
+        this.markers = markers;
+    }
+
+    /**
+     * @param marker the single marker of the list, may be null
+     * @return a list holding <code>marker</code>
+     */
+    public static MarkerList of(Marker marker) {
+        return new MarkerList(new Marker[] { marker });
+    }
+
+    /**
+     * @param marker the marker to add, may be null
+     * @return a list holding the markers of this list followed by
+     *         <code>marker</code>
+     */
+    public MarkerList with(Marker marker) {
+        Marker[] newMarkers = Arrays.copyOf(markers, markers.length + 1);
+        newMarkers[markers.length] = marker;
+        return new MarkerList(newMarkers);
+    }
+
+    @Override
+    public Marker get(int index) {
+        return markers[index];
+    }
+
+    @Override
+    public int size() {
+        return markers.length;
+    }
+
+    /**
+     * Whether one of the markers of this list contains <code>other</code>, see
+     * {@link Marker#contains(Marker)}. Null markers are skipped.
+     *
+     * @param other the marker to look for
+     * @return true if a marker of this list contains <code>other</code>
+     */
+    public boolean anyContains(Marker other) {
+        for(Marker m : markers) {
+            if(m != null && m.contains(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether one of the markers of this list contains a marker named
+     * <code>name</code>, see {@link Marker#contains(String)}. Null markers are
+     * skipped.
+     *
+     * @param name the name of the marker to look for
+     * @return true if a marker of this list contains a marker named <code>name</code>
+     */
+    public boolean anyContains(String name) {
+        for(Marker m : markers) {
+            if(m != null && m.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
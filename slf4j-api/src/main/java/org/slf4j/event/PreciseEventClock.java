@@ -0,0 +1,39 @@
+package org.slf4j.event;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * An {@link EventClock} yielding instants with the precision of the
+ * underlying platform clock, i.e. microseconds or better on Java 9 and later.
+ *
+ * <p>Obtaining an {@link Instant} is more expensive than reading
+ * {@link System#currentTimeMillis()}, this clock is therefore meant for
+ * latency investigations rather than for general use.
+ *
+ * @since 2.0.0
+ */
+public final class PreciseEventClock implements EventClock {
+
+    public static final PreciseEventClock INSTANCE = new PreciseEventClock();
+
+    private final Clock clock = Clock.systemUTC();
+
+    private PreciseEventClock() {
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    @Override
+    public boolean isPrecise() {
+        return true;
+    }
+
+    @Override
+    public Instant instant() {
+        return clock.instant();
+    }
+}
@@ -0,0 +1,420 @@
+package org.slf4j.event;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+
+/**
+ * A {@link LoggingEvent} which is reset and reused from one logging call to
+ * the next.
+ *
+ * <p>Arguments, markers and key value pairs are kept in arrays which are
+ * retained across reuse, so that in the steady state populating an event and
+ * reading its arguments and markers does not allocate. {@link #getKeyValuePairs()}
+ * allocates one {@link KeyValuePair} per pair and event, consumers avoid this
+ * by reading pairs via {@link #getKeyValueCount()}, {@link #getKey(int)} and
+ * {@link #getValue(int)} instead. The lists returned by {@link #getArguments()},
+ * {@link #getMarkers()} and {@link #getKeyValuePairs()}, as well as the array
+ * returned by {@link #getArgumentArray()}, are owned by this event and are only
+ * valid until the logging call which produced the event returns.
+ *
+ * <p>Consumers which retain events beyond that point, for example
+ * asynchronous appenders, must retain the result of {@link #snapshot()}
+ * instead. Events are only passed to loggers which
+ * {@link LoggingEventAware#acceptsReusableEvents() accept reusable events}.
+ *
+ * <p>Instances are confined to a single thread.
+ *
+ * @since 2.0.0
+ */
+public class ReusableLoggingEvent implements StampableLoggingEvent {
+
+	static final int INITIAL_CAPACITY = 4;
+
+	/**
+	 * Arrays which grew beyond this capacity are released when the event is
+	 * cleared, so that a single large event does not pin memory for the
+	 * lifetime of the thread.
+	 */
+	static final int MAX_RETAINED_CAPACITY = 32;
+
+	/**
+	 * Arrays returned by {@link #getArgumentArray()} are cached per length up
+	 * to this length.
+	 */
+	static final int MAX_CACHED_ARGUMENT_ARRAY_LENGTH = 8;
+
+	Logger logger;
+	Level level;
+
+	String message;
+	Throwable throwable;
+	String threadName;
+	long timeStamp;
+	Instant instant;
+
+	Object[] arguments = new Object[INITIAL_CAPACITY];
+	int argumentCount;
+	boolean hasDeferredArguments;
+
+	Marker[] markers = new Marker[INITIAL_CAPACITY];
+	int markerCount;
+
+	String[] keys = new String[INITIAL_CAPACITY];
+	Object[] values = new Object[INITIAL_CAPACITY];
+	int keyValueCount;
+	boolean hasDeferredValues;
+
+	private final Object[][] argumentArrays = new Object[MAX_CACHED_ARGUMENT_ARRAY_LENGTH + 1][];
+	private Object[] lastArgumentArray;
+
+	private final List<Object> argumentList = new ArgumentList();
+	private final List<Marker> markerList = new MarkerList();
+	private final List<KeyValuePair> keyValuePairList = new ArrayList<>(INITIAL_CAPACITY);
+	private boolean keyValuePairListValid;
+
+	public ReusableLoggingEvent() {
+	}
+
+	/**
+	 * Prepare this event for a new logging call.
+	 *
+	 * @param level  the level of the new event
+	 * @param logger the logger issuing the new event
+	 */
+	public void reset(Level level, Logger logger) {
+		clear();
+		this.level = level;
+		this.logger = logger;
+	}
+
+	/**
+	 * Drop all references held by this event.
+	 */
+	public void clear() {
+		logger = null;
+		level = null;
+		message = null;
+		throwable = null;
+		threadName = null;
+		timeStamp = 0;
+		instant = null;
+
+		arguments = clearArray(arguments, argumentCount);
+		argumentCount = 0;
+		hasDeferredArguments = false;
+
+		markers = clearArray(markers, markerCount);
+		markerCount = 0;
+
+		keys = clearArray(keys, keyValueCount);
+		values = clearArray(values, keyValueCount);
+		keyValueCount = 0;
+		hasDeferredValues = false;
+
+		if (lastArgumentArray != null) {
+			Arrays.fill(lastArgumentArray, null);
+			lastArgumentArray = null;
+		}
+		keyValuePairList.clear();
+		keyValuePairListValid = false;
+	}
+
+	private static <T> T[] clearArray(T[] array, int count) {
+		if (array.length > MAX_RETAINED_CAPACITY) {
+			return Arrays.copyOf(array, INITIAL_CAPACITY);
+		}
+		Arrays.fill(array, 0, count, null);
+		return array;
+	}
+
+	public void addMarker(Marker marker) {
+		if (markerCount == markers.length) {
+			markers = Arrays.copyOf(markers, markerCount * 2);
+		}
+		markers[markerCount++] = marker;
+	}
+
+	@Override
+	public List<Marker> getMarkers() {
+		return markerCount == 0 ? null : markerList;
+	}
+
+	public void addArgument(Object p) {
+		if (argumentCount == arguments.length) {
+			arguments = Arrays.copyOf(arguments, argumentCount * 2);
+		}
+		arguments[argumentCount++] = p;
+	}
+
+	public void addArguments(Object... args) {
+		int newCount = argumentCount + args.length;
+		if (newCount > arguments.length) {
+			arguments = Arrays.copyOf(arguments, Math.max(newCount, argumentCount * 2));
+		}
+		System.arraycopy(args, 0, arguments, argumentCount, args.length);
+		argumentCount = newCount;
+	}
+
+	/**
+	 * Add an argument whose value is computed by <code>supplier</code> only when
+	 * the arguments of this event are first requested.
+	 *
+	 * @param supplier supplies the argument value
+	 */
+	public void addDeferredArgument(Supplier<?> supplier) {
+		addArgument(new DefaultLoggingEvent.DeferredValue(supplier));
+		hasDeferredArguments = true;
+	}
+
+	@Override
+	public List<Object> getArguments() {
+		if (argumentCount == 0) {
+			return null;
+		}
+		if (hasDeferredArguments) {
+			resolveDeferredArguments();
+		}
+		return argumentList;
+	}
+
+	private void resolveDeferredArguments() {
+		hasDeferredArguments = false;
+		for (int i = 0; i < argumentCount; i++) {
+			Object arg = arguments[i];
+			if (arg instanceof DefaultLoggingEvent.DeferredValue) {
+				arguments[i] = ((DefaultLoggingEvent.DeferredValue) arg).supplier.get();
+			}
+		}
+	}
+
+	@Override
+	public Object[] getArgumentArray() {
+		if (getArguments() == null) {
+			return null;
+		}
+		if (argumentCount > MAX_CACHED_ARGUMENT_ARRAY_LENGTH) {
+			return Arrays.copyOf(arguments, argumentCount);
+		}
+		Object[] array = argumentArrays[argumentCount];
+		if (array == null) {
+			array = new Object[argumentCount];
+			argumentArrays[argumentCount] = array;
+		}
+		System.arraycopy(arguments, 0, array, 0, argumentCount);
+		lastArgumentArray = array;
+		return array;
+	}
+
+	public void addKeyValue(String key, Object value) {
+		if (keyValueCount == keys.length) {
+			keys = Arrays.copyOf(keys, keyValueCount * 2);
+			values = Arrays.copyOf(values, keyValueCount * 2);
+		}
+		keys[keyValueCount] = key;
+		values[keyValueCount] = value;
+		keyValueCount++;
+		keyValuePairListValid = false;
+	}
+
+	/**
+	 * Add a key value pair whose value is computed by <code>supplier</code> only
+	 * when the key value pairs of this event are first requested.
+	 *
+	 * @param key      the key
+	 * @param supplier supplies the value
+	 */
+	public void addDeferredKeyValue(String key, Supplier<?> supplier) {
+		addKeyValue(key, new DefaultLoggingEvent.DeferredValue(supplier));
+		hasDeferredValues = true;
+	}
+
+	private void resolveDeferredValues() {
+		hasDeferredValues = false;
+		for (int i = 0; i < keyValueCount; i++) {
+			Object value = values[i];
+			if (value instanceof DefaultLoggingEvent.DeferredValue) {
+				values[i] = ((DefaultLoggingEvent.DeferredValue) value).supplier.get();
+			}
+		}
+	}
+
+	@Override
+	public List<KeyValuePair> getKeyValuePairs() {
+		if (keyValueCount == 0) {
+			return null;
+		}
+		if (hasDeferredValues) {
+			resolveDeferredValues();
+		}
+		if (!keyValuePairListValid) {
+			keyValuePairList.clear();
+			for (int i = 0; i < keyValueCount; i++) {
+				keyValuePairList.add(new KeyValuePair(keys[i], values[i]));
+			}
+			keyValuePairListValid = true;
+		}
+		return keyValuePairList;
+	}
+
+	/**
+	 * Number of key value pairs attached to this event. Together with
+	 * {@link #getKey(int)} and {@link #getValue(int)} this allows consumers to
+	 * read key value pairs without materializing {@link KeyValuePair} instances.
+	 *
+	 * @return the number of key value pairs
+	 */
+	public int getKeyValueCount() {
+		return keyValueCount;
+	}
+
+	public String getKey(int index) {
+		checkKeyValueIndex(index);
+		return keys[index];
+	}
+
+	public Object getValue(int index) {
+		checkKeyValueIndex(index);
+		if (hasDeferredValues) {
+			resolveDeferredValues();
+		}
+		return values[index];
+	}
+
+	private void checkKeyValueIndex(int index) {
+		if (index < 0 || index >= keyValueCount) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + keyValueCount);
+		}
+	}
+
+	public void setThrowable(Throwable cause) {
+		this.throwable = cause;
+	}
+
+	@Override
+	public Level getLevel() {
+		return level;
+	}
+
+	@Override
+	public String getLoggerName() {
+		return logger.getName();
+	}
+
+	@Override
+	public String getMessage() {
+		return message;
+	}
+
+	public void setMessage(String message) {
+		this.message = message;
+	}
+
+	@Override
+	public Throwable getThrowable() {
+		return throwable;
+	}
+
+	@Override
+	public String getThreadName() {
+		return threadName;
+	}
+
+	@Override
+	public void setThreadName(String threadName) {
+		this.threadName = threadName;
+	}
+
+	@Override
+	public long getTimeStamp() {
+		return timeStamp;
+	}
+
+	@Override
+	public void setTimeStamp(long timeStamp) {
+		this.timeStamp = timeStamp;
+		this.instant = null;
+	}
+
+	@Override
+	public Instant getInstant() {
+		return instant != null ? instant : Instant.ofEpochMilli(timeStamp);
+	}
+
+	/**
+	 * Set the time stamp of this event with the full precision of
+	 * <code>instant</code>.
+	 * 
+	 * @param instant the time stamp
+	 */
+	@Override
+	public void setInstant(Instant instant) {
+		this.instant = instant;
+		this.timeStamp = instant.toEpochMilli();
+	}
+
+	/**
+	 * Return a copy of this event which remains valid after this event is
+	 * reused. Deferred arguments and values are resolved in the process.
+	 *
+	 * @return an independent copy of this event
+	 */
+	public DefaultLoggingEvent snapshot() {
+		DefaultLoggingEvent copy = new DefaultLoggingEvent(level, logger);
+		copy.message = message;
+		copy.throwable = throwable;
+		copy.threadName = threadName;
+		copy.timeStamp = timeStamp;
+		copy.instant = instant;
+		for (int i = 0; i < markerCount; i++) {
+			copy.addMarker(markers[i]);
+		}
+		Object[] args = getArgumentArray();
+		if (args != null) {
+			copy.addArguments(args);
+		}
+		if (hasDeferredValues) {
+			resolveDeferredValues();
+		}
+		for (int i = 0; i < keyValueCount; i++) {
+			copy.addKeyValue(keys[i], values[i]);
+		}
+		return copy;
+	}
+
+	private final class ArgumentList extends AbstractList<Object> {
+		@Override
+		public Object get(int index) {
+			if (index >= argumentCount) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + argumentCount);
+			}
+			return arguments[index];
+		}
+
+		@Override
+		public int size() {
+			return argumentCount;
+		}
+	}
+
+	private final class MarkerList extends AbstractList<Marker> {
+		@Override
+		public Marker get(int index) {
+			if (index >= markerCount) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + markerCount);
+			}
+			return markers[index];
+		}
+
+		@Override
+		public int size() {
+			return markerCount;
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package org.slf4j.event;
+
+import java.time.Instant;
+
+/**
+ * A {@link LoggingEvent} whose time stamp and thread name are set by the
+ * fluent API when the event is logged.
+ *
+ * @since 2.0.0
+ */
+public interface StampableLoggingEvent extends LoggingEvent {
+
+    void setTimeStamp(long timeStamp);
+
+    /**
+     * Set the time stamp with the full precision of <code>instant</code>.
+     *
+     * @param instant the time stamp
+     */
+    void setInstant(Instant instant);
+
+    void setThreadName(String threadName);
+
+}
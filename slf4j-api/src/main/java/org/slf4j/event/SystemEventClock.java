@@ -0,0 +1,20 @@
+package org.slf4j.event;
+
+/**
+ * An {@link EventClock} backed by {@link System#currentTimeMillis()}. This is
+ * the default clock.
+ *
+ * @since 2.0.0
+ */
+public final class SystemEventClock implements EventClock {
+
+    public static final SystemEventClock INSTANCE = new SystemEventClock();
+
+    private SystemEventClock() {
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
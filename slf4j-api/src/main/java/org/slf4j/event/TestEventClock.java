@@ -0,0 +1,41 @@
+package org.slf4j.event;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A manually driven {@link EventClock} for use in tests.
+ *
+ * @since 2.0.0
+ */
+public final class TestEventClock implements EventClock {
+
+    private volatile Instant instant;
+
+    public TestEventClock(Instant instant) {
+        this.instant = instant;
+    }
+
+    public void setInstant(Instant instant) {
+        this.instant = instant;
+    }
+
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return instant.toEpochMilli();
+    }
+
+    @Override
+    public boolean isPrecise() {
+        return true;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
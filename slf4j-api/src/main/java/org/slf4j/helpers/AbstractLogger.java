@@ -35,6 +35,10 @@ import java.io.Serializable;
  * An abstract implementation which delegates actual logging work to the 
  * {@link #handleNormalizedLoggingCall(Level, Marker, String, Object[], Throwable)} method.
  *
+ * <p>Primitive arguments are boxed only once the level is known to be
+ * enabled, and then reach {@link #handleNormalizedLoggingCall} as arguments
+ * like any other.
+ *
  * @author Ceki G&uuml;lc&uuml;
  * @since 2.0
  */
@@ -104,6 +108,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void trace(String format, int arg) {
+        if(isTraceEnabled()) {
+            handle_1ArgsCall(Level.TRACE, null, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, long arg) {
+        if(isTraceEnabled()) {
+            handle_1ArgsCall(Level.TRACE, null, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, double arg) {
+        if(isTraceEnabled()) {
+            handle_1ArgsCall(Level.TRACE, null, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, boolean arg) {
+        if(isTraceEnabled()) {
+            handle_1ArgsCall(Level.TRACE, null, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, char arg) {
+        if(isTraceEnabled()) {
+            handle_1ArgsCall(Level.TRACE, null, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, float arg) {
+        if(isTraceEnabled()) {
+            handle_1ArgsCall(Level.TRACE, null, format, arg);
+        }
+    }
+
     @Override
     public void trace(Marker marker, String msg) {
         if(isTraceEnabled(marker)) {
@@ -174,6 +220,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void debug(String format, int arg) {
+        if(isDebugEnabled()) {
+            handle_1ArgsCall(Level.DEBUG, null, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, long arg) {
+        if(isDebugEnabled()) {
+            handle_1ArgsCall(Level.DEBUG, null, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, double arg) {
+        if(isDebugEnabled()) {
+            handle_1ArgsCall(Level.DEBUG, null, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, boolean arg) {
+        if(isDebugEnabled()) {
+            handle_1ArgsCall(Level.DEBUG, null, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, char arg) {
+        if(isDebugEnabled()) {
+            handle_1ArgsCall(Level.DEBUG, null, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, float arg) {
+        if(isDebugEnabled()) {
+            handle_1ArgsCall(Level.DEBUG, null, format, arg);
+        }
+    }
+
     @Override
     public void debug(Marker marker, String msg) {
         if(isDebugEnabled(marker)) {
@@ -244,6 +332,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void info(String format, int arg) {
+        if(isInfoEnabled()) {
+            handle_1ArgsCall(Level.INFO, null, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, long arg) {
+        if(isInfoEnabled()) {
+            handle_1ArgsCall(Level.INFO, null, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, double arg) {
+        if(isInfoEnabled()) {
+            handle_1ArgsCall(Level.INFO, null, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, boolean arg) {
+        if(isInfoEnabled()) {
+            handle_1ArgsCall(Level.INFO, null, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, char arg) {
+        if(isInfoEnabled()) {
+            handle_1ArgsCall(Level.INFO, null, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, float arg) {
+        if(isInfoEnabled()) {
+            handle_1ArgsCall(Level.INFO, null, format, arg);
+        }
+    }
+
     @Override
     public void info(Marker marker, String msg) {
         if(isInfoEnabled(marker)) {
@@ -314,6 +444,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void warn(String format, int arg) {
+        if(isWarnEnabled()) {
+            handle_1ArgsCall(Level.WARN, null, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, long arg) {
+        if(isWarnEnabled()) {
+            handle_1ArgsCall(Level.WARN, null, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, double arg) {
+        if(isWarnEnabled()) {
+            handle_1ArgsCall(Level.WARN, null, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, boolean arg) {
+        if(isWarnEnabled()) {
+            handle_1ArgsCall(Level.WARN, null, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, char arg) {
+        if(isWarnEnabled()) {
+            handle_1ArgsCall(Level.WARN, null, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, float arg) {
+        if(isWarnEnabled()) {
+            handle_1ArgsCall(Level.WARN, null, format, arg);
+        }
+    }
+
     @Override
     public void warn(Marker marker, String msg) {
         if(isWarnEnabled(marker)) {
@@ -384,6 +556,48 @@ public abstract class AbstractLogger implements Logger, Serializable {
         }
     }
 
+    @Override
+    public void error(String format, int arg) {
+        if(isErrorEnabled()) {
+            handle_1ArgsCall(Level.ERROR, null, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, long arg) {
+        if(isErrorEnabled()) {
+            handle_1ArgsCall(Level.ERROR, null, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, double arg) {
+        if(isErrorEnabled()) {
+            handle_1ArgsCall(Level.ERROR, null, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, boolean arg) {
+        if(isErrorEnabled()) {
+            handle_1ArgsCall(Level.ERROR, null, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, char arg) {
+        if(isErrorEnabled()) {
+            handle_1ArgsCall(Level.ERROR, null, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, float arg) {
+        if(isErrorEnabled()) {
+            handle_1ArgsCall(Level.ERROR, null, format, arg);
+        }
+    }
+
     @Override
     public void error(Marker marker, String msg) {
         if(isErrorEnabled(marker)) {
@@ -25,6 +25,7 @@ package org.slf4j.helpers;
 
 import org.slf4j.spi.MDCAdapter;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +37,16 @@ import java.util.Set;
  * This code was initially inspired by  logback's LogbackMDCAdapter. However,
  * LogbackMDCAdapter has evolved and is now considerably more sophisticated.
  *
+ * <p>How a new thread obtains the context of the thread creating it is
+ * governed by an {@link MDCInheritance} mode, by default the one given by the
+ * {@value MDCAdapters#INHERITANCE_PROPERTY} system property.
+ *
+ * <p>Deques, see {@link #pushByKey(String, String)}, are kept in the context
+ * map under the <code>NDC0</code>, <code>NDC1</code>, ... layout of
+ * {@link MDCAdapter}, and are thus inherited and part of context snapshots
+ * like any other value. The depth of each deque is cached along with the
+ * context so that pushing and popping does not probe the map.
+ *
  * @author Ceki Gulcu
  * @author Maarten Bosteels
  * @author Lukasz Cwik
@@ -44,15 +55,96 @@ import java.util.Set;
  */
 public class BasicMDCAdapter implements MDCAdapter {
 
-    private InheritableThreadLocal<Map<String, String>> inheritableThreadLocal = new InheritableThreadLocal<Map<String, String>>() {
-        @Override
-        protected Map<String, String> childValue(Map<String, String> parentValue) {
-            if(parentValue == null) {
-                return null;
+    /**
+     * The context map of a thread. A shared context may be read by several
+     * threads and is copied before being written to.
+     */
+    static final class Context {
+        final Map<String, Object> map;
+        boolean shared;
+        // depth of the deques by key, only written while not shared
+        Map<String, Integer> dequeSizes;
+
+        Context(Map<String, Object> map) {
+            this.map = map;
+        }
+
+        /**
+         * Forget the depth of the deques whose values may be stored under
+         * <code>key</code>.
+         */
+        void keyChanged(String key) {
+            if(dequeSizes != null) {
+                dequeSizes.keySet().removeIf(key::startsWith);
             }
-            return new HashMap<>(parentValue);
         }
-    };
+    }
+
+    private final MDCInheritance inheritance;
+    private final ThreadLocal<Context> threadLocal;
+
+    public BasicMDCAdapter() {
+        this(MDCAdapters.readInheritance());
+    }
+
+    /**
+     * @param inheritance how new threads obtain the context of their parent
+     * @since 2.0.0
+     */
+    public BasicMDCAdapter(MDCInheritance inheritance) {
+        this.inheritance = inheritance;
+        this.threadLocal = createThreadLocal(inheritance);
+    }
+
+    private static ThreadLocal<Context> createThreadLocal(MDCInheritance inheritance) {
+        switch(inheritance) {
+            case NONE:
+                return new ThreadLocal<>();
+            case LAZY:
+                return new InheritableThreadLocal<Context>() {
+                    @Override
+                    protected Context childValue(Context parentValue) {
+                        if(parentValue == null) {
+                            return null;
+                        }
+                        // invoked on the parent thread, which copies on its next write
+                        parentValue.shared = true;
+                        return parentValue;
+                    }
+                };
+            case COPY:
+            default:
+                return new InheritableThreadLocal<Context>() {
+                    @Override
+                    protected Context childValue(Context parentValue) {
+                        if(parentValue == null) {
+                            return null;
+                        }
+                        return new Context(new HashMap<>(parentValue.map));
+                    }
+                };
+        }
+    }
+
+    /**
+     * @return how new threads obtain the context of their parent
+     * @since 2.0.0
+     */
+    public MDCInheritance getInheritance() {
+        return inheritance;
+    }
+
+    private Context getWritableContext() {
+        Context context = threadLocal.get();
+        if(context == null) {
+            context = new Context(new HashMap<>());
+            threadLocal.set(context);
+        } else if(context.shared) {
+            context = new Context(new HashMap<>(context.map));
+            threadLocal.set(context);
+        }
+        return context;
+    }
 
     /**
      * Put a context value (the <code>val</code> parameter) as identified with
@@ -71,12 +163,9 @@ public class BasicMDCAdapter implements MDCAdapter {
         if(key == null) {
             throw new IllegalArgumentException("key cannot be null");
         }
-        Map<String, String> map = inheritableThreadLocal.get();
-        if(map == null) {
-            map = new HashMap<>();
-            inheritableThreadLocal.set(map);
-        }
-        map.put(key, val);
+        Context context = getWritableContext();
+        context.map.put(key, val);
+        context.keyChanged(key);
     }
 
     /**
@@ -84,22 +173,58 @@ public class BasicMDCAdapter implements MDCAdapter {
      */
     @Override
     public String get(String key) {
-        Map<String, String> map = inheritableThreadLocal.get();
-        if((map != null) && (key != null)) {
-            return map.get(key);
+        return toStringOrNull(getObject(key));
+    }
+
+    /**
+     * Put <code>val</code> into the current thread's context map as is. It is
+     * converted to a String only when read via {@link #get(String)} or
+     * {@link #getCopyOfContextMap()}.
+     *
+     * @throws IllegalArgumentException
+     *                 in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    @Override
+    public void putObject(String key, Object val) {
+        if(key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        Context context = getWritableContext();
+        context.map.put(key, val);
+        context.keyChanged(key);
+    }
+
+    /**
+     * Get the value identified by the <code>key</code> parameter, as it was
+     * put.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public Object getObject(String key) {
+        Context context = threadLocal.get();
+        if((context != null) && (key != null)) {
+            return context.map.get(key);
         } else {
             return null;
         }
     }
 
+    private static String toStringOrNull(Object val) {
+        return val == null ? null : val.toString();
+    }
+
     /**
      * Remove the the context identified by the <code>key</code> parameter.
      */
     @Override
     public void remove(String key) {
-        Map<String, String> map = inheritableThreadLocal.get();
-        if(map != null) {
-            map.remove(key);
+        Context context = threadLocal.get();
+        if(context != null && context.map.containsKey(key)) {
+            context = getWritableContext();
+            context.map.remove(key);
+            context.keyChanged(key);
         }
     }
 
@@ -108,45 +233,131 @@ public class BasicMDCAdapter implements MDCAdapter {
      */
     @Override
     public void clear() {
-        Map<String, String> map = inheritableThreadLocal.get();
-        if(map != null) {
-            map.clear();
-            inheritableThreadLocal.remove();
-        }
+        threadLocal.remove();
     }
 
     /**
      * Returns the keys in the MDC as a {@link Set} of {@link String}s The
-     * returned value can be null.
+     * returned value can be null. The set is unmodifiable while the context
+     * is shared with other threads.
      *
      * @return the keys in the MDC
      */
     public Set<String> getKeys() {
-        Map<String, String> map = inheritableThreadLocal.get();
-        if(map != null) {
-            return map.keySet();
-        } else {
+        Context context = threadLocal.get();
+        if(context == null) {
             return null;
         }
+        Set<String> keys = context.map.keySet();
+        return context.shared ? Collections.unmodifiableSet(keys) : keys;
     }
 
     /**
-     * Return a copy of the current thread's context map.
+     * Return a copy of the current thread's context map, in which values put
+     * via {@link #putObject(String, Object)} are converted to Strings.
      * Returned value may be null.
      *
      */
     @Override
     public Map<String, String> getCopyOfContextMap() {
-        Map<String, String> oldMap = inheritableThreadLocal.get();
-        if(oldMap != null) {
-            return new HashMap<>(oldMap);
-        } else {
+        Context context = threadLocal.get();
+        if(context == null) {
             return null;
         }
+        Map<String, String> copy = new HashMap<>(Math.max((int) (context.map.size() / .75f) + 1, 16));
+        for(Map.Entry<String, Object> entry : context.map.entrySet()) {
+            copy.put(entry.getKey(), toStringOrNull(entry.getValue()));
+        }
+        return copy;
     }
 
     @Override
     public void setContextMap(Map<String, String> contextMap) {
-        inheritableThreadLocal.set(new HashMap<>(contextMap));
+        threadLocal.set(new Context(new HashMap<>(contextMap)));
+    }
+
+    /**
+     * Return the context of the current thread, which is thereby shared and
+     * copied before being written to. Unlike {@link #getCopyOfContextMap()},
+     * this does not copy the context map.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public Object getContextSnapshot() {
+        Context context = threadLocal.get();
+        if(context != null) {
+            context.shared = true;
+        }
+        return context;
+    }
+
+    /**
+     * Install a context obtained from {@link #getContextSnapshot()} as is.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public void restoreContextSnapshot(Object snapshot) {
+        if(snapshot == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set((Context) snapshot);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *                 in case the "key" or the "value" parameter is null
+     * @since 2.0.0
+     */
+    @Override
+    public void pushByKey(String key, String value) {
+        if(key == null || value == null) {
+            throw new IllegalArgumentException("key and value cannot be null");
+        }
+        int size = getDequeSizeByKey(key);
+        Context context = getWritableContext();
+        String topKey = key + size;
+        context.map.put(topKey, value);
+        context.keyChanged(topKey);
+        setDequeSize(context, key, size + 1);
+    }
+
+    @Override
+    public String popByKey(String key) {
+        int size = getDequeSizeByKey(key);
+        if(size == 0) {
+            return null;
+        }
+        Context context = getWritableContext();
+        String topKey = key + (size - 1);
+        Object value = context.map.remove(topKey);
+        context.keyChanged(topKey);
+        setDequeSize(context, key, size - 1);
+        return toStringOrNull(value);
+    }
+
+    @Override
+    public int getDequeSizeByKey(String key) {
+        Context context = threadLocal.get();
+        if(context == null || key == null) {
+            return 0;
+        }
+        Integer size = context.dequeSizes == null ? null : context.dequeSizes.get(key);
+        if(size == null) {
+            size = MDCAdapter.super.getDequeSizeByKey(key);
+            if(!context.shared) {
+                setDequeSize(context, key, size);
+            }
+        }
+        return size;
+    }
+
+    private static void setDequeSize(Context context, String key, int size) {
+        if(context.dequeSizes == null) {
+            context.dequeSizes = new HashMap<>();
+        }
+        context.dequeSizes.put(key, size);
     }
 }
@@ -25,13 +25,28 @@ package org.slf4j.helpers;
 
 import org.slf4j.Marker;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * A simple implementation of the {@link Marker} interface.
  *
+ * <p>The markers reachable from a marker, itself included, are cached as a
+ * bit set over the ids which {@link BasicMarkerFactory} assigns to marker
+ * names, so that <code>contains</code> is a constant time lookup. A call to
+ * {@link #add(Marker)} or {@link #remove(Marker)} invalidates the cached set
+ * of the modified marker. If that marker is itself referenced by another
+ * marker, the cached sets of all markers are invalidated, as any of them may
+ * reach it. Markers assembled before use, such as detached markers combining
+ * others, thus leave the cached sets of other markers intact. If a marker
+ * references, directly or not, a {@link Marker}
+ * implementation other than this one, or a marker whose name was not assigned
+ * an id, its references are walked on each call as before.
+ *
  * @author Ceki G&uuml;lc&uuml;
  * @author Joern Huxhorn
  */
@@ -41,6 +56,25 @@ public class BasicMarker implements Marker {
     private final String name;
     private List<Marker> referenceList = new CopyOnWriteArrayList<Marker>();
 
+    /**
+     * Incremented whenever the references of a marker which is referenced by
+     * another marker change.
+     */
+    private static final AtomicInteger REFERENCES_VERSION = new AtomicInteger();
+
+    private static final AtomicIntegerFieldUpdater<BasicMarker> VERSION_UPDATER = AtomicIntegerFieldUpdater.newUpdater(BasicMarker.class, "version");
+
+    /**
+     * Whether this marker was ever added as a reference to a BasicMarker.
+     */
+    private volatile boolean referenced;
+
+    // 0 until looked up, -1 if the name has no id, see id()
+    private transient int id;
+    // incremented whenever the references of this marker change
+    private transient volatile int version;
+    private transient volatile Closure closure;
+
     BasicMarker(String name) {
         if(name == null) {
             throw new IllegalArgumentException("A marker name cannot be null");
@@ -67,7 +101,18 @@ public class BasicMarker implements Marker {
             // a potential reference should not hold its future "parent" as a reference
             return;
         } else {
+            if(reference instanceof BasicMarker) {
+                ((BasicMarker) reference).referenced = true;
+            }
             referenceList.add(reference);
+            referencesChanged();
+        }
+    }
+
+    private void referencesChanged() {
+        VERSION_UPDATER.incrementAndGet(this);
+        if(referenced) {
+            REFERENCES_VERSION.incrementAndGet();
         }
     }
 
@@ -89,7 +134,11 @@ public class BasicMarker implements Marker {
 
     @Override
     public boolean remove(Marker referenceToRemove) {
-        return referenceList.remove(referenceToRemove);
+        if(referenceList.remove(referenceToRemove)) {
+            referencesChanged();
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -98,6 +147,15 @@ public class BasicMarker implements Marker {
             throw new IllegalArgumentException("Other cannot be null");
         }
 
+        Closure c = getClosure();
+        if(c.bits != null) {
+            int otherId = other instanceof BasicMarker ? ((BasicMarker) other).id() : BasicMarkerFactory.findMarkerId(other.getName());
+            return c.contains(otherId);
+        }
+        return containsByWalking(other);
+    }
+
+    private boolean containsByWalking(Marker other) {
         if(this.equals(other)) {
             return true;
         }
@@ -121,6 +179,14 @@ public class BasicMarker implements Marker {
             throw new IllegalArgumentException("Other cannot be null");
         }
 
+        Closure c = getClosure();
+        if(c.bits != null) {
+            return c.contains(BasicMarkerFactory.findMarkerId(name));
+        }
+        return containsByWalking(name);
+    }
+
+    private boolean containsByWalking(String name) {
         if(this.name.equals(name)) {
             return true;
         }
@@ -135,6 +201,78 @@ public class BasicMarker implements Marker {
         return false;
     }
 
+    private int id() {
+        int i = id;
+        if(i == 0) {
+            i = BasicMarkerFactory.getMarkerId(name);
+            id = i;
+        }
+        return i;
+    }
+
+    private Closure getClosure() {
+        int globalVersion = REFERENCES_VERSION.get();
+        int ownVersion = version;
+        Closure c = closure;
+        if(c == null || c.globalVersion != globalVersion || c.version != ownVersion) {
+            c = computeClosure(globalVersion, ownVersion);
+            closure = c;
+        }
+        return c;
+    }
+
+    private Closure computeClosure(int globalVersion, int version) {
+        int ownId = id();
+        if(ownId < 0) {
+            return new Closure(globalVersion, version, null);
+        }
+        long[] bits = new long[(ownId >>> 6) + 1];
+        bits[ownId >>> 6] |= 1L << ownId;
+        for(Marker ref : referenceList) {
+            if(!(ref instanceof BasicMarker)) {
+                return new Closure(globalVersion, version, null);
+            }
+            long[] refBits = ((BasicMarker) ref).getClosure().bits;
+            if(refBits == null) {
+                return new Closure(globalVersion, version, null);
+            }
+            if(refBits.length > bits.length) {
+                bits = Arrays.copyOf(bits, refBits.length);
+            }
+            for(int i = 0; i < refBits.length; i++) {
+                bits[i] |= refBits[i];
+            }
+        }
+        return new Closure(globalVersion, version, bits);
+    }
+
+    /**
+     * The ids of the markers reachable from a marker, valid as long as
+     * {@link #REFERENCES_VERSION} equals <code>globalVersion</code> and the
+     * version of the marker equals <code>version</code>. The bits are null if
+     * a marker other than a {@link BasicMarker}, or one without id, is
+     * reachable.
+     */
+    private static final class Closure {
+        final int globalVersion;
+        final int version;
+        final long[] bits;
+
+        Closure(int globalVersion, int version, long[] bits) {
+            this.globalVersion = globalVersion;
+            this.version = version;
+            this.bits = bits;
+        }
+
+        boolean contains(int id) {
+            if(id <= 0) {
+                return false;
+            }
+            int word = id >>> 6;
+            return word < bits.length && (bits[word] & (1L << id)) != 0;
+        }
+    }
+
     private static String OPEN = "[ ";
     private static String CLOSE = " ]";
     private static String SEP = ", ";
@@ -28,6 +28,7 @@ import org.slf4j.Marker;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * An almost trivial implementation of the {@link IMarkerFactory}
@@ -36,10 +37,21 @@ import java.util.concurrent.ConcurrentMap;
  * <p>Simple logging systems can conform to the SLF4J API by binding
  * {@link org.slf4j.MarkerFactory} with an instance of this class.
  *
+ * <p>Each marker name is assigned a positive id, shared by all factories and
+ * by detached markers, with which {@link BasicMarker} caches containment.
+ * Ids are never released, so at most {@value #MAX_MARKER_IDS} names are
+ * assigned one. Containment of markers named otherwise is found by walking
+ * their references.
+ *
  * @author Ceki G&uuml;lc&uuml;
  */
 public class BasicMarkerFactory implements IMarkerFactory {
 
+    static final int MAX_MARKER_IDS = 1024;
+
+    private static final ConcurrentMap<String, Integer> MARKER_IDS = new ConcurrentHashMap<String, Integer>();
+    private static final AtomicInteger LAST_MARKER_ID = new AtomicInteger();
+
     private final ConcurrentMap<String, Marker> markerMap = new ConcurrentHashMap<String, Marker>();
 
     /**
@@ -99,4 +111,27 @@ public class BasicMarkerFactory implements IMarkerFactory {
         return new BasicMarker(name);
     }
 
+    /**
+     * @return the id of the marker name, assigned on first call, or -1 if
+     *         {@value #MAX_MARKER_IDS} ids were already assigned
+     */
+    static int getMarkerId(String name) {
+        Integer id = MARKER_IDS.get(name);
+        if(id == null) {
+            if(LAST_MARKER_ID.get() >= MAX_MARKER_IDS) {
+                return -1;
+            }
+            id = MARKER_IDS.computeIfAbsent(name, n -> LAST_MARKER_ID.incrementAndGet());
+        }
+        return id;
+    }
+
+    /**
+     * @return the id of the marker name, or -1 if none was assigned yet
+     */
+    static int findMarkerId(String name) {
+        Integer id = MARKER_IDS.get(name);
+        return id == null ? -1 : id;
+    }
+
 }
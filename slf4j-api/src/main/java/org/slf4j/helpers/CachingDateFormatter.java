@@ -0,0 +1,228 @@
+package org.slf4j.helpers;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats time stamps with a {@link DateTimeFormatter}, caching the text of
+ * the current second.
+ *
+ * <p>Logging threads usually format many time stamps within the same second.
+ * The text of a second is computed once, after which formatting a time stamp
+ * within that second amounts to copying the cached text and patching its
+ * milliseconds, if shown. The cache is an immutable entry published through a
+ * volatile field, so that threads never block each other.
+ *
+ * <p>Caching is only possible for patterns showing the milliseconds as
+ * <code>SSS</code> (or not at all). Other patterns, say showing the
+ * milli-of-day or fewer fraction digits, are formatted from scratch for each
+ * time stamp, which remains thread-safe and lock-free.
+ *
+ * @since 2.0.0
+ */
+public final class CachingDateFormatter {
+
+    // any two millis values whose digits all differ will do
+    private static final int PROBE_MILLIS = 987;
+    private static final int OTHER_PROBE_MILLIS = 654;
+
+    private static final int NO_MILLIS = -1;
+    private static final int UNCACHEABLE = -2;
+
+    private final DateTimeFormatter formatter;
+    private volatile CacheEntry cache;
+
+    /**
+     * @param pattern a {@link DateTimeFormatter} pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public CachingDateFormatter(String pattern) {
+        this(DateTimeFormatter.ofPattern(pattern));
+    }
+
+    /**
+     * @param formatter the formatter to use, in the default time-zone if it
+     *                  has none
+     */
+    public CachingDateFormatter(DateTimeFormatter formatter) {
+        this.formatter = formatter.getZone() == null ? formatter.withZone(ZoneId.systemDefault()) : formatter;
+        this.cache = newEntry(System.currentTimeMillis() / 1000);
+    }
+
+    /**
+     * Whether <code>pattern</code> formats time stamps the same way as a
+     * {@link java.text.SimpleDateFormat} pattern and as a
+     * {@link DateTimeFormatter} pattern. Letters such as <code>u</code> or
+     * <code>Y</code>, or <code>S</code> repeated other than three times, mean
+     * different things in the two pattern languages. Patterns using them, or
+     * characters which only <code>DateTimeFormatter</code> treats specially,
+     * are rejected, so that callers configured with
+     * <code>SimpleDateFormat</code> patterns can keep formatting those with a
+     * <code>SimpleDateFormat</code>.
+     *
+     * @param pattern a date and time pattern
+     * @return true if both pattern languages give <code>pattern</code> the same
+     *         meaning
+     */
+    public static boolean hasSimpleDateFormatSemantics(String pattern) {
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                // quoted text, or an escaped quote, is literal in both
+                int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    return false;
+                }
+                i = end + 1;
+                continue;
+            }
+            int count = 1;
+            while (i + count < length && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            if (!isPortablePatternRun(c, count)) {
+                return false;
+            }
+            i += count;
+        }
+        return true;
+    }
+
+    private static boolean isPortablePatternRun(char c, int count) {
+        switch (c) {
+            case 'y':
+                return true;
+            case 'M':
+            case 'E':
+                return count <= 4;
+            case 'd':
+            case 'H':
+            case 'h':
+            case 'k':
+            case 'K':
+            case 'm':
+            case 's':
+                return count <= 2;
+            case 'D':
+            case 'Z':
+                return count <= 3;
+            case 'S':
+                return count == 3;
+            case 'a':
+                return count == 1;
+            case '[':
+            case ']':
+            case '{':
+            case '}':
+            case '#':
+                return false;
+            default:
+                return !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'));
+        }
+    }
+
+    public String format(long epochMillis) {
+        CacheEntry entry = entryFor(epochMillis);
+        switch (entry.millisIndex) {
+            case NO_MILLIS:
+                return entry.text;
+            case UNCACHEABLE:
+                return formatter.format(Instant.ofEpochMilli(epochMillis));
+            default:
+                char[] chars = entry.text.toCharArray();
+                patchMillis(chars, entry.millisIndex, (int) Math.floorMod(epochMillis, 1000L));
+                return new String(chars);
+        }
+    }
+
+    /**
+     * Append the formatted time stamp to <code>buf</code>, without any
+     * intermediate allocation if the time stamp is within a cached second.
+     */
+    public void formatTo(StringBuilder buf, long epochMillis) {
+        CacheEntry entry = entryFor(epochMillis);
+        switch (entry.millisIndex) {
+            case NO_MILLIS:
+                buf.append(entry.text);
+                break;
+            case UNCACHEABLE:
+                formatter.formatTo(Instant.ofEpochMilli(epochMillis), buf);
+                break;
+            default:
+                int index = entry.millisIndex;
+                int millis = (int) Math.floorMod(epochMillis, 1000L);
+                buf.append(entry.text, 0, index);
+                buf.append((char) ('0' + millis / 100));
+                buf.append((char) ('0' + (millis / 10) % 10));
+                buf.append((char) ('0' + millis % 10));
+                buf.append(entry.text, index + 3, entry.text.length());
+        }
+    }
+
+    private CacheEntry entryFor(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000L);
+        CacheEntry entry = cache;
+        if (entry.second != second) {
+            entry = newEntry(second);
+            // time stamps of late threads must not evict the current second
+            if (second > cache.second) {
+                cache = entry;
+            }
+        }
+        return entry;
+    }
+
+    private CacheEntry newEntry(long second) {
+        String text = formatter.format(Instant.ofEpochMilli(second * 1000 + PROBE_MILLIS));
+        String other = formatter.format(Instant.ofEpochMilli(second * 1000 + OTHER_PROBE_MILLIS));
+        return new CacheEntry(second, text, findMillisIndex(text, other));
+    }
+
+    /**
+     * Return the index of the milliseconds in <code>text</code>, formatted
+     * with {@link #PROBE_MILLIS}, given <code>other</code>, formatted with
+     * {@link #OTHER_PROBE_MILLIS} within the same second.
+     */
+    static int findMillisIndex(String text, String other) {
+        if (text.equals(other)) {
+            return NO_MILLIS;
+        }
+        if (text.length() != other.length()) {
+            return UNCACHEABLE;
+        }
+        int first = 0;
+        while (text.charAt(first) == other.charAt(first)) {
+            first++;
+        }
+        int last = text.length() - 1;
+        while (text.charAt(last) == other.charAt(last)) {
+            last--;
+        }
+        if (last - first == 2 && text.startsWith(Integer.toString(PROBE_MILLIS), first)
+                        && other.startsWith(Integer.toString(OTHER_PROBE_MILLIS), first)) {
+            return first;
+        }
+        return UNCACHEABLE;
+    }
+
+    private static void patchMillis(char[] chars, int index, int millis) {
+        chars[index] = (char) ('0' + millis / 100);
+        chars[index + 1] = (char) ('0' + (millis / 10) % 10);
+        chars[index + 2] = (char) ('0' + millis % 10);
+    }
+
+    private static final class CacheEntry {
+        final long second;
+        final String text;
+        final int millisIndex;
+
+        CacheEntry(long second, String text, int millisIndex) {
+            this.second = second;
+            this.text = text;
+            this.millisIndex = millisIndex;
+        }
+    }
+}
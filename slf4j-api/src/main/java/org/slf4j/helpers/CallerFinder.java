@@ -0,0 +1,76 @@
+package org.slf4j.helpers;
+
+/**
+ * Finds the class which called the method invoking
+ * {@link Util#getCallingClass()}.
+ *
+ * <p>This implementation reads the class context of a
+ * {@link SecurityManager}. On Java 9 and later, it is superseded by the
+ * {@link StackWalker} based implementation found in the
+ * <code>META-INF/versions/9</code> directory of the multi-release jar.
+ *
+ * @since 2.0.0
+ */
+final class CallerFinder {
+
+    private CallerFinder() {
+    }
+
+    /**
+     * In order to call {@link SecurityManager#getClassContext()}, which is a
+     * protected method, we add this wrapper which allows the method to be visible
+     * inside this package.
+     */
+    private static final class ClassContextSecurityManager extends SecurityManager {
+        @Override
+        protected Class<?>[] getClassContext() {
+            return super.getClassContext();
+        }
+    }
+
+    private static ClassContextSecurityManager SECURITY_MANAGER;
+    private static boolean SECURITY_MANAGER_CREATION_ALREADY_ATTEMPTED = false;
+
+    private static ClassContextSecurityManager getSecurityManager() {
+        if(SECURITY_MANAGER != null) {
+            return SECURITY_MANAGER;
+        } else if(SECURITY_MANAGER_CREATION_ALREADY_ATTEMPTED) {
+            return null;
+        } else {
+            SECURITY_MANAGER = safeCreateSecurityManager();
+            SECURITY_MANAGER_CREATION_ALREADY_ATTEMPTED = true;
+            return SECURITY_MANAGER;
+        }
+    }
+
+    private static ClassContextSecurityManager safeCreateSecurityManager() {
+        try {
+            return new ClassContextSecurityManager();
+        } catch (java.lang.SecurityException sm) {
+            return null;
+        }
+    }
+
+    static Class<?> getCallingClass() {
+        ClassContextSecurityManager securityManager = getSecurityManager();
+        if(securityManager == null) {
+            return null;
+        }
+        Class<?>[] trace = securityManager.getClassContext();
+
+        // Advance until Util is found
+        int i;
+        for(i = 0; i < trace.length; i++) {
+            if(trace[i] == Util.class) {
+                break;
+            }
+        }
+
+        // trace[i] = Util; trace[i+1] = caller; trace[i+2] = caller's caller
+        if(i >= trace.length || i + 2 >= trace.length) {
+            throw new IllegalStateException("Failed to find org.slf4j.helpers.Util or its caller in the stack; " + "this should not happen");
+        }
+
+        return trace[i + 2];
+    }
+}
@@ -0,0 +1,251 @@
+package org.slf4j.helpers;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable context map, as held by {@link CopyOnWriteMDCAdapter}.
+ *
+ * <p>Up to {@value #MAX_ARRAY_SIZE} entries are kept in two parallel arrays
+ * which are searched linearly. Larger maps are backed by a {@link HashMap}
+ * which is never modified after construction.
+ *
+ * <p>{@link #with(String, Object)} and {@link #without(String)} return a new
+ * map, leaving the receiver untouched. Null values are permitted. Values are
+ * kept as they were put and converted to Strings when read through the
+ * {@link Map} interface, {@link #getObject(String)} returns them as is.
+ *
+ * @since 2.0.0
+ */
+final class CompactContextMap extends AbstractMap<String, String> {
+
+    static final int MAX_ARRAY_SIZE = 8;
+
+    static final CompactContextMap EMPTY = new CompactContextMap(new String[0], new Object[0]);
+
+    // either keys and values are non-null, or hashed is non-null
+    private final String[] keys;
+    private final Object[] values;
+    private final Map<String, Object> hashed;
+
+    private Set<Entry<String, String>> entrySet;
+
+    private CompactContextMap(String[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.hashed = null;
+    }
+
+    private CompactContextMap(Map<String, Object> hashed) {
+        this.keys = null;
+        this.values = null;
+        this.hashed = hashed;
+    }
+
+    /**
+     * Return an immutable map with the same entries as <code>map</code>. If
+     * <code>map</code> is itself a {@link CompactContextMap}, it is returned
+     * as is.
+     *
+     * @throws IllegalArgumentException if <code>map</code> has a null key
+     */
+    static CompactContextMap copyOf(Map<String, ?> map) {
+        if(map instanceof CompactContextMap) {
+            return (CompactContextMap) map;
+        }
+        int size = map.size();
+        if(size == 0) {
+            return EMPTY;
+        }
+        if(size > MAX_ARRAY_SIZE) {
+            return new CompactContextMap(new HashMap<String, Object>(map));
+        }
+        String[] keys = new String[size];
+        Object[] values = new Object[size];
+        int i = 0;
+        for(Entry<String, ?> entry : map.entrySet()) {
+            if(entry.getKey() == null) {
+                throw new IllegalArgumentException("key cannot be null");
+            }
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        return new CompactContextMap(keys, values);
+    }
+
+    private int indexOf(Object key) {
+        for(int i = 0; i < keys.length; i++) {
+            if(keys[i] == key || keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Return a map with the entries of this map, except that <code>key</code>
+     * is mapped to <code>value</code>.
+     */
+    CompactContextMap with(String key, Object value) {
+        if(hashed != null) {
+            HashMap<String, Object> copy = new HashMap<>(hashed);
+            copy.put(key, value);
+            return new CompactContextMap(copy);
+        }
+        int index = indexOf(key);
+        if(index >= 0) {
+            Object[] newValues = values.clone();
+            newValues[index] = value;
+            return new CompactContextMap(keys, newValues);
+        }
+        int size = keys.length;
+        if(size == MAX_ARRAY_SIZE) {
+            HashMap<String, Object> copy = new HashMap<>(MAX_ARRAY_SIZE * 2 + 2);
+            for(int i = 0; i < size; i++) {
+                copy.put(keys[i], values[i]);
+            }
+            copy.put(key, value);
+            return new CompactContextMap(copy);
+        }
+        String[] newKeys = Arrays.copyOf(keys, size + 1);
+        Object[] newValues = Arrays.copyOf(values, size + 1);
+        newKeys[size] = key;
+        newValues[size] = value;
+        return new CompactContextMap(newKeys, newValues);
+    }
+
+    /**
+     * Return a map with the entries of this map, except for the one of
+     * <code>key</code>. This map is returned if it has no such entry.
+     */
+    CompactContextMap without(String key) {
+        if(hashed != null) {
+            if(!hashed.containsKey(key)) {
+                return this;
+            }
+            HashMap<String, Object> copy = new HashMap<>(hashed);
+            copy.remove(key);
+            return copyOf(copy);
+        }
+        int index = indexOf(key);
+        if(index < 0) {
+            return this;
+        }
+        int size = keys.length;
+        if(size == 1) {
+            return EMPTY;
+        }
+        String[] newKeys = new String[size - 1];
+        Object[] newValues = new Object[size - 1];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, size - index - 1);
+        System.arraycopy(values, index + 1, newValues, index, size - index - 1);
+        return new CompactContextMap(newKeys, newValues);
+    }
+
+    @Override
+    public int size() {
+        return hashed != null ? hashed.size() : keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if(hashed != null) {
+            return hashed.containsKey(key);
+        }
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        return toStringOrNull(getObject(key));
+    }
+
+    /**
+     * Return the value of <code>key</code> as it was put.
+     */
+    Object getObject(Object key) {
+        if(hashed != null) {
+            return hashed.get(key);
+        }
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    private static String toStringOrNull(Object val) {
+        return val == null ? null : val.toString();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        Set<Entry<String, String>> es = entrySet;
+        if(es == null) {
+            es = hashed != null ? new HashedEntrySet() : new ArrayEntrySet();
+            entrySet = es;
+        }
+        return es;
+    }
+
+    private final class ArrayEntrySet extends AbstractSet<Entry<String, String>> {
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            return new Iterator<Entry<String, String>>() {
+                int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < keys.length;
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    if(next >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, String> entry = new SimpleImmutableEntry<>(keys[next], toStringOrNull(values[next]));
+                    next++;
+                    return entry;
+                }
+            };
+        }
+    }
+
+    private final class HashedEntrySet extends AbstractSet<Entry<String, String>> {
+
+        @Override
+        public int size() {
+            return hashed.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            Iterator<Entry<String, Object>> iterator = hashed.entrySet().iterator();
+            return new Iterator<Entry<String, String>>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    Entry<String, Object> entry = iterator.next();
+                    return new SimpleImmutableEntry<>(entry.getKey(), toStringOrNull(entry.getValue()));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.slf4j.helpers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.spi.MDCAdapter;
+
+/**
+ * An {@link MDCAdapter} holding an immutable context map per thread.
+ *
+ * <p>Each {@link #put(String, String)} or {@link #remove(String)} replaces the
+ * map of the current thread by a new one. Small maps use a compact array
+ * backed layout, so that such an update amounts to copying a few references.
+ * In exchange, {@link #getContextMap()} and {@link #getContextSnapshot()}
+ * return the current map itself without copying it, and passing such a map to
+ * {@link #setContextMap(Map)} or {@link #restoreContextSnapshot(Object)},
+ * typically on another thread, installs it as is. Values put via
+ * {@link #putObject(String, Object)} are stored as is.
+ * Unless the {@link MDCInheritance#NONE} mode is selected, child threads
+ * share the map of their parent at creation time, so that the
+ * {@link MDCInheritance#COPY} and {@link MDCInheritance#LAZY} modes are
+ * equivalent and never copy.
+ *
+ * <p>Contrary to {@link BasicMDCAdapter}, the maps returned by
+ * {@link #getContextMap()} and {@link #getKeys()} are unmodifiable.
+ *
+ * <p>Deques keep the default <code>NDC0</code>, <code>NDC1</code>, ... layout
+ * of {@link MDCAdapter}, as each push copies the map anyway.
+ *
+ * <p>Providers which use {@link BasicMDCAdapter} switch to this adapter if
+ * the {@value MDCAdapters#MDC_ADAPTER_PROPERTY} system property is set to
+ * <code>copyOnWrite</code>, see {@link MDCAdapters}.
+ *
+ * @since 2.0.0
+ */
+public class CopyOnWriteMDCAdapter implements MDCAdapter {
+
+    private final MDCInheritance inheritance;
+    private final ThreadLocal<CompactContextMap> threadLocal;
+
+    public CopyOnWriteMDCAdapter() {
+        this(MDCAdapters.readInheritance());
+    }
+
+    /**
+     * @param inheritance how new threads obtain the context of their parent
+     */
+    public CopyOnWriteMDCAdapter(MDCInheritance inheritance) {
+        this.inheritance = inheritance;
+        // the default childValue shares the parent's map, which is safe as it is immutable
+        this.threadLocal = inheritance == MDCInheritance.NONE ? new ThreadLocal<>() : new InheritableThreadLocal<>();
+    }
+
+    /**
+     * @return how new threads obtain the context of their parent
+     */
+    public MDCInheritance getInheritance() {
+        return inheritance;
+    }
+
+    /**
+     * Put a context value (the <code>val</code> parameter) as identified with
+     * the <code>key</code> parameter into the current thread's context map.
+     * The <code>val</code> parameter can be null.
+     *
+     * @throws IllegalArgumentException
+     *                 in case the "key" parameter is null
+     */
+    @Override
+    public void put(String key, String val) {
+        putObject(key, val);
+    }
+
+    /**
+     * Put <code>val</code> into the current thread's context map as is. It is
+     * converted to a String only when read via {@link #get(String)} or through
+     * the context map.
+     *
+     * @throws IllegalArgumentException
+     *                 in case the "key" parameter is null
+     * @since 2.0.0
+     */
+    @Override
+    public void putObject(String key, Object val) {
+        if(key == null) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        CompactContextMap map = threadLocal.get();
+        if(map == null) {
+            map = CompactContextMap.EMPTY;
+        }
+        threadLocal.set(map.with(key, val));
+    }
+
+    @Override
+    public String get(String key) {
+        CompactContextMap map = threadLocal.get();
+        if((map != null) && (key != null)) {
+            return map.get(key);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Get the value identified by the <code>key</code> parameter, as it was
+     * put.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public Object getObject(String key) {
+        CompactContextMap map = threadLocal.get();
+        if((map != null) && (key != null)) {
+            return map.getObject(key);
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        CompactContextMap map = threadLocal.get();
+        if(map != null) {
+            CompactContextMap newMap = map.without(key);
+            if(newMap.isEmpty()) {
+                threadLocal.remove();
+            } else if(newMap != map) {
+                threadLocal.set(newMap);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        threadLocal.remove();
+    }
+
+    /**
+     * Returns the keys in the MDC as an unmodifiable {@link Set} of
+     * {@link String}s. The returned value can be null.
+     *
+     * @return the keys in the MDC
+     */
+    public Set<String> getKeys() {
+        Map<String, String> map = threadLocal.get();
+        if(map != null) {
+            return map.keySet();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Return a modifiable copy of the current thread's context map, in which
+     * values put via {@link #putObject(String, Object)} are converted to
+     * Strings. Returned value may be null.
+     */
+    @Override
+    public Map<String, String> getCopyOfContextMap() {
+        CompactContextMap map = threadLocal.get();
+        return map == null ? null : new HashMap<>(map);
+    }
+
+    /**
+     * Return the current thread's context map itself, in constant time. As it
+     * is immutable, it is not affected by later updates of the context.
+     * Returned value may be null.
+     *
+     * @return an unmodifiable snapshot of the current thread's context map
+     */
+    public Map<String, String> getContextMap() {
+        return threadLocal.get();
+    }
+
+    /**
+     * Replace the current thread's context map by <code>contextMap</code>. A
+     * map obtained from {@link #getContextMap()} is installed without being
+     * copied.
+     */
+    @Override
+    public void setContextMap(Map<String, String> contextMap) {
+        if(contextMap == null || contextMap.isEmpty()) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(CompactContextMap.copyOf(contextMap));
+        }
+    }
+
+    @Override
+    public Object getContextSnapshot() {
+        return threadLocal.get();
+    }
+
+    @Override
+    public void restoreContextSnapshot(Object snapshot) {
+        if(snapshot == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set((CompactContextMap) snapshot);
+        }
+    }
+}
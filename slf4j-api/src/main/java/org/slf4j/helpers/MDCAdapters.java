@@ -0,0 +1,79 @@
+package org.slf4j.helpers;
+
+import org.slf4j.spi.MDCAdapter;
+
+/**
+ * Creates the {@link MDCAdapter} of providers whose logging system lacks
+ * out-of-the-box MDC support.
+ *
+ * <p>The adapter is selected by the {@value #MDC_ADAPTER_PROPERTY} system
+ * property, which may be set to
+ * <ul>
+ * <li><code>basic</code>, the default, for {@link BasicMDCAdapter},</li>
+ * <li><code>copyOnWrite</code> for {@link CopyOnWriteMDCAdapter},</li>
+ * <li>or the fully qualified name of an {@link MDCAdapter} implementation
+ * with a public no-argument constructor.</li>
+ * </ul>
+ *
+ * <p>The {@link MDCInheritance} mode of {@link BasicMDCAdapter} and
+ * {@link CopyOnWriteMDCAdapter} instances created by their no-argument
+ * constructor is selected by the {@value #INHERITANCE_PROPERTY} system
+ * property, which may be set to <code>copy</code>, the default,
+ * <code>none</code> or <code>lazy</code>.
+ *
+ * @since 2.0.0
+ */
+public final class MDCAdapters {
+
+    public static final String MDC_ADAPTER_PROPERTY = "slf4j.mdcAdapter";
+    public static final String INHERITANCE_PROPERTY = "slf4j.mdcAdapter.inheritance";
+
+    static final MDCInheritance DEFAULT_INHERITANCE = MDCInheritance.COPY;
+
+    private MDCAdapters() {
+    }
+
+    /**
+     * Create the adapter selected by {@value #MDC_ADAPTER_PROPERTY}.
+     *
+     * @return a new adapter, a {@link BasicMDCAdapter} by default
+     */
+    public static MDCAdapter newBasicMDCAdapter() {
+        String adapterStr = Util.safeGetSystemProperty(MDC_ADAPTER_PROPERTY);
+        if(adapterStr == null) {
+            return new BasicMDCAdapter();
+        }
+        adapterStr = adapterStr.trim();
+        switch(adapterStr) {
+            case "basic":
+                return new BasicMDCAdapter();
+            case "copyOnWrite":
+                return new CopyOnWriteMDCAdapter();
+            default:
+                return instantiateAdapter(adapterStr);
+        }
+    }
+
+    private static MDCAdapter instantiateAdapter(String className) {
+        try {
+            Class<?> adapterClass = Class.forName(className);
+            return (MDCAdapter) adapterClass.getConstructor().newInstance();
+        } catch (Exception | LinkageError e) {
+            Util.report("Failed to instantiate MDC adapter [" + className + "], using BasicMDCAdapter", e);
+            return new BasicMDCAdapter();
+        }
+    }
+
+    static MDCInheritance readInheritance() {
+        String inheritanceStr = Util.safeGetSystemProperty(INHERITANCE_PROPERTY);
+        if(inheritanceStr == null) {
+            return DEFAULT_INHERITANCE;
+        }
+        try {
+            return MDCInheritance.valueOf(inheritanceStr.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Util.report("Invalid value [" + inheritanceStr + "] for " + INHERITANCE_PROPERTY + ", using default " + DEFAULT_INHERITANCE);
+            return DEFAULT_INHERITANCE;
+        }
+    }
+}
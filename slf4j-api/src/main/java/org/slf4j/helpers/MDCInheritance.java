@@ -0,0 +1,28 @@
+package org.slf4j.helpers;
+
+/**
+ * How a thread obtains the MDC context of the thread which created it, see
+ * {@link BasicMDCAdapter} and {@link CopyOnWriteMDCAdapter}.
+ *
+ * @since 2.0.0
+ */
+public enum MDCInheritance {
+
+    /**
+     * The child thread starts with a copy of its parent's context. This
+     * copy is made when the child thread is created.
+     */
+    COPY,
+
+    /**
+     * The child thread starts with an empty context.
+     */
+    NONE,
+
+    /**
+     * The child thread starts with its parent's context, which the two
+     * threads share until either of them modifies it. The context is copied
+     * only on that first modification.
+     */
+    LAZY
+}
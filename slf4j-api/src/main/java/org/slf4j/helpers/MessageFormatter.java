@@ -23,9 +23,10 @@
  */
 package org.slf4j.helpers;
 
+import java.io.IOException;
 import java.text.MessageFormat;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 // contributors: lizongbo: proposed special treatment of array parameter values
 // Joern Huxhorn: pointed out double[] omission, suggested deep array copy
@@ -90,7 +91,10 @@ import java.util.Map;
  * <p>
  * See also {@link #format(String, Object)},
  * {@link #format(String, Object, Object)} and
- * {@link #arrayFormat(String, Object[])} methods for more details.
+ * {@link #arrayFormat(String, Object[])} methods for more details. The
+ * {@link #formatTo(StringBuilder, String, Object...)} family of methods
+ * perform the same substitutions but append the result to a caller-supplied
+ * buffer.
  *
  * @author Ceki G&uuml;lc&uuml;
  * @author Joern Huxhorn
@@ -168,8 +172,18 @@ final public class MessageFormatter {
      * @param argArray
      */
     final public static String basicArrayFormat(final String messagePattern, final Object[] argArray) {
-        FormattingTuple ft = arrayFormat(messagePattern, argArray, null);
-        return ft.getMessage();
+        if(messagePattern == null || argArray == null || argArray.length == 0) {
+            return messagePattern;
+        }
+
+        MessagePattern parsedPattern = MessagePatternCache.getMessagePattern(messagePattern);
+        if(parsedPattern.getAnchorCount() == 0) {
+            return parsedPattern.tail;
+        }
+
+        StringBuilder sbuf = new StringBuilder(messagePattern.length() + 50);
+        appendFormatted(sbuf, parsedPattern, argArray, argArray.length);
+        return sbuf.toString();
     }
 
     public static String basicArrayFormat(NormalizedParameters np) {
@@ -186,51 +200,367 @@ final public class MessageFormatter {
             return new FormattingTuple(messagePattern);
         }
 
-        int i = 0;
-        int j;
+        if(argArray.length == 0) {
+            return new FormattingTuple(messagePattern, argArray, throwable);
+        }
+
+        MessagePattern parsedPattern = MessagePatternCache.getMessagePattern(messagePattern);
+        if(parsedPattern.getAnchorCount() == 0) {
+            // this is a simple string, possibly with escaped anchors
+            return new FormattingTuple(parsedPattern.tail, argArray, throwable);
+        }
+
         // use string builder for better multicore performance
         StringBuilder sbuf = new StringBuilder(messagePattern.length() + 50);
+        appendFormatted(sbuf, parsedPattern, argArray, argArray.length);
+        return new FormattingTuple(sbuf.toString(), argArray, throwable);
+    }
 
-        int L;
-        for(L = 0; L < argArray.length; L++) {
+    /**
+     * Performs single argument substitution, appending the result to
+     * <code>target</code> instead of returning a new String.
+     *
+     * <p>If <code>arg</code> is a {@link Throwable}, it is not substituted but
+     * returned to the caller, as would be the case with
+     * {@link #format(String, Object)}. A null <code>messagePattern</code> is
+     * appended as "null".
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param arg
+     *          The argument to be substituted in place of the formatting anchor
+     * @return the throwable candidate, null if none
+     * @since 2.0
+     */
+    final public static Throwable formatTo(StringBuilder target, String messagePattern, Object arg) {
+        if(arg instanceof Throwable) {
+            target.append(messagePattern);
+            return (Throwable) arg;
+        }
+        appendOneArgument(target, messagePattern, arg);
+        return null;
+    }
 
-            j = messagePattern.indexOf(DELIM_STR, i);
+    /**
+     * Substitute <code>arg</code> even if it is a {@link Throwable}.
+     */
+    private static void appendOneArgument(StringBuilder target, String messagePattern, Object arg) {
+        MessagePattern parsedPattern = appendFirstSegment(target, messagePattern);
+        if(parsedPattern != null) {
+            appendArgument(target, arg, null);
+            appendTail(target, parsedPattern, 1);
+        }
+    }
 
-            if(j == -1) {
-                // no more variables
-                if(i == 0) { // this is a simple string
-                    return new FormattingTuple(messagePattern, argArray, throwable);
-                } else { // add the tail string which contains no variables and return
-                    // the result.
-                    sbuf.append(messagePattern, i, messagePattern.length());
-                    return new FormattingTuple(sbuf.toString(), argArray, throwable);
-                }
-            } else {
-                if(isEscapedDelimeter(messagePattern, j)) {
-                    if(!isDoubleEscaped(messagePattern, j)) {
-                        L--; // DELIM_START was escaped, thus should not be incremented
-                        sbuf.append(messagePattern, i, j - 1);
-                        sbuf.append(DELIM_START);
-                        i = j + 1;
-                    } else {
-                        // The escape character preceding the delimiter start is
-                        // itself escaped: "abc x:\\{}"
-                        // we have to consume one backward slash
-                        sbuf.append(messagePattern, i, j - 1);
-                        deeplyAppendParameter(sbuf, argArray[L], new HashMap<Object[], Object>());
-                        i = j + 2;
-                    }
-                } else {
-                    // normal case
-                    sbuf.append(messagePattern, i, j);
-                    deeplyAppendParameter(sbuf, argArray[L], new HashMap<Object[], Object>());
-                    i = j + 2;
-                }
-            }
+    /**
+     * Performs single argument substitution of a <code>int</code> argument,
+     * appending the result to <code>target</code> without boxing the argument.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param arg
+     *          The argument to be substituted in place of the formatting anchor
+     * @since 2.0
+     */
+    final public static void formatTo(StringBuilder target, String messagePattern, int arg) {
+        MessagePattern parsedPattern = appendFirstSegment(target, messagePattern);
+        if(parsedPattern != null) {
+            target.append(arg);
+            appendTail(target, parsedPattern, 1);
+        }
+    }
+
+    /**
+     * Performs single argument substitution of a <code>long</code> argument,
+     * appending the result to <code>target</code> without boxing the argument.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param arg
+     *          The argument to be substituted in place of the formatting anchor
+     * @since 2.0
+     */
+    final public static void formatTo(StringBuilder target, String messagePattern, long arg) {
+        MessagePattern parsedPattern = appendFirstSegment(target, messagePattern);
+        if(parsedPattern != null) {
+            target.append(arg);
+            appendTail(target, parsedPattern, 1);
+        }
+    }
+
+    /**
+     * Performs single argument substitution of a <code>double</code> argument,
+     * appending the result to <code>target</code> without boxing the argument.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param arg
+     *          The argument to be substituted in place of the formatting anchor
+     * @since 2.0
+     */
+    final public static void formatTo(StringBuilder target, String messagePattern, double arg) {
+        MessagePattern parsedPattern = appendFirstSegment(target, messagePattern);
+        if(parsedPattern != null) {
+            target.append(arg);
+            appendTail(target, parsedPattern, 1);
+        }
+    }
+
+    /**
+     * Performs single argument substitution of a <code>boolean</code> argument,
+     * appending the result to <code>target</code> without boxing the argument.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param arg
+     *          The argument to be substituted in place of the formatting anchor
+     * @since 2.0
+     */
+    final public static void formatTo(StringBuilder target, String messagePattern, boolean arg) {
+        MessagePattern parsedPattern = appendFirstSegment(target, messagePattern);
+        if(parsedPattern != null) {
+            target.append(arg);
+            appendTail(target, parsedPattern, 1);
+        }
+    }
+
+    /**
+     * Performs single argument substitution of a <code>char</code> argument,
+     * appending the result to <code>target</code> without boxing the argument.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param arg
+     *          The argument to be substituted in place of the formatting anchor
+     * @since 2.0
+     */
+    final public static void formatTo(StringBuilder target, String messagePattern, char arg) {
+        MessagePattern parsedPattern = appendFirstSegment(target, messagePattern);
+        if(parsedPattern != null) {
+            target.append(arg);
+            appendTail(target, parsedPattern, 1);
+        }
+    }
+
+    /**
+     * Performs single argument substitution of a <code>float</code> argument,
+     * appending the result to <code>target</code> without boxing the argument.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param arg
+     *          The argument to be substituted in place of the formatting anchor
+     * @since 2.0
+     */
+    final public static void formatTo(StringBuilder target, String messagePattern, float arg) {
+        MessagePattern parsedPattern = appendFirstSegment(target, messagePattern);
+        if(parsedPattern != null) {
+            target.append(arg);
+            appendTail(target, parsedPattern, 1);
+        }
+    }
+
+    /**
+     * Append the literal text preceding the first formatting anchor.
+     *
+     * @return the parsed pattern, or null if <code>messagePattern</code> is null
+     * or has no formatting anchor in which case it is appended in full
+     */
+    private static MessagePattern appendFirstSegment(StringBuilder target, String messagePattern) {
+        if(messagePattern == null) {
+            target.append(messagePattern);
+            return null;
+        }
+        MessagePattern parsedPattern = MessagePatternCache.getMessagePattern(messagePattern);
+        if(parsedPattern.getAnchorCount() == 0) {
+            target.append(parsedPattern.tail);
+            return null;
+        }
+        target.append(parsedPattern.segments[0]);
+        return parsedPattern;
+    }
+
+    /**
+     * Performs a two argument substitution, appending the result to
+     * <code>target</code> instead of returning a new String.
+     *
+     * <p>If <code>arg2</code> is a {@link Throwable}, it is not substituted but
+     * returned to the caller, as would be the case with
+     * {@link #format(String, Object, Object)}.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param arg1
+     *          The argument to be substituted in place of the first formatting
+     *          anchor
+     * @param arg2
+     *          The argument to be substituted in place of the second formatting
+     *          anchor
+     * @return the throwable candidate, null if none
+     * @since 2.0
+     */
+    final public static Throwable formatTo(StringBuilder target, String messagePattern, Object arg1, Object arg2) {
+        if(arg2 instanceof Throwable) {
+            // arg1 is substituted even if it is also a throwable, as in format()
+            appendOneArgument(target, messagePattern, arg1);
+            return (Throwable) arg2;
+        }
+        if(messagePattern == null) {
+            target.append(messagePattern);
+            return null;
+        }
+        MessagePattern parsedPattern = MessagePatternCache.getMessagePattern(messagePattern);
+        final int anchorCount = parsedPattern.getAnchorCount();
+        if(anchorCount == 0) {
+            target.append(parsedPattern.tail);
+            return null;
+        }
+        target.append(parsedPattern.segments[0]);
+        List<Object[]> seenArrays = appendArgument(target, arg1, null);
+        if(anchorCount > 1) {
+            target.append(parsedPattern.segments[1]);
+            appendArgument(target, arg2, seenArrays);
+        }
+        appendTail(target, parsedPattern, 2);
+        return null;
+    }
+
+    /**
+     * Performs argument substitution for an arbitrary number of arguments,
+     * appending the result to <code>target</code> instead of returning a new
+     * String.
+     *
+     * <p>If the last element of <code>argArray</code> is a {@link Throwable}, it
+     * is not substituted but returned to the caller, as would be the case with
+     * {@link #arrayFormat(String, Object[])}. Contrary to the latter, no
+     * trimmed copy of <code>argArray</code> is made.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param argArray
+     *          the arguments to be substituted in place of the formatting anchors
+     * @return the throwable candidate, null if none
+     * @since 2.0
+     */
+    final public static Throwable formatTo(StringBuilder target, String messagePattern, Object... argArray) {
+        Throwable throwableCandidate = getThrowableCandidate(argArray);
+        if(messagePattern == null || argArray == null) {
+            target.append(messagePattern);
+            return throwableCandidate;
+        }
+        int argCount = throwableCandidate == null ? argArray.length : argArray.length - 1;
+        appendFormatted(target, messagePattern, argArray, argCount);
+        return throwableCandidate;
+    }
+
+    /**
+     * Same as {@link #formatTo(StringBuilder, String, Object...)} but for an
+     * arbitrary {@link Appendable}. Note that unless <code>target</code> is a
+     * {@link StringBuilder}, the message is first formatted into an intermediary
+     * buffer.
+     *
+     * @param target
+     *          the destination to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param argArray
+     *          the arguments to be substituted in place of the formatting anchors
+     * @return the throwable candidate, null if none
+     * @throws IOException if <code>target</code> throws an IOException
+     * @since 2.0
+     */
+    final public static Throwable formatTo(Appendable target, String messagePattern, Object... argArray) throws IOException {
+        if(target instanceof StringBuilder) {
+            return formatTo((StringBuilder) target, messagePattern, argArray);
+        }
+        int capacity = messagePattern == null ? 16 : messagePattern.length() + 50;
+        StringBuilder sbuf = new StringBuilder(capacity);
+        Throwable throwableCandidate = formatTo(sbuf, messagePattern, argArray);
+        target.append(sbuf);
+        return throwableCandidate;
+    }
+
+    /**
+     * Same as {@link #basicArrayFormat(String, Object[])} but appends the result
+     * to <code>target</code>. Assumes that argArray only contains arguments with
+     * no throwable as last element.
+     *
+     * @param target
+     *          the buffer to which the formatted message is appended
+     * @param messagePattern
+     *          The message pattern which will be parsed and formatted
+     * @param argArray
+     *          the arguments to be substituted in place of the formatting anchors
+     * @since 2.0
+     */
+    final public static void basicFormatTo(StringBuilder target, String messagePattern, Object[] argArray) {
+        if(messagePattern == null || argArray == null) {
+            target.append(messagePattern);
+            return;
+        }
+        appendFormatted(target, messagePattern, argArray, argArray.length);
+    }
+
+    private static void appendFormatted(StringBuilder sbuf, String messagePattern, Object[] argArray, int argCount) {
+        if(argCount == 0) {
+            sbuf.append(messagePattern);
+            return;
+        }
+        MessagePattern parsedPattern = MessagePatternCache.getMessagePattern(messagePattern);
+        if(parsedPattern.getAnchorCount() == 0) {
+            sbuf.append(parsedPattern.tail);
+        } else {
+            appendFormatted(sbuf, parsedPattern, argArray, argCount);
+        }
+    }
+
+    /**
+     * Copy the segments of <code>parsedPattern</code> interleaved with the
+     * first <code>argCount</code> arguments into <code>sbuf</code>.
+     */
+    private static void appendFormatted(StringBuilder sbuf, MessagePattern parsedPattern, Object[] argArray, int argCount) {
+        final String[] segments = parsedPattern.segments;
+        final int boundCount = Math.min(segments.length, argCount);
+
+        List<Object[]> seenArrays = null;
+        for(int k = 0; k < boundCount; k++) {
+            sbuf.append(segments[k]);
+            seenArrays = appendArgument(sbuf, argArray[k], seenArrays);
+        }
+        appendTail(sbuf, parsedPattern, argCount);
+    }
+
+    /**
+     * Append what follows the last bound formatting anchor. Assumes at least one
+     * formatting anchor and at least one argument.
+     */
+    private static void appendTail(StringBuilder sbuf, MessagePattern parsedPattern, int argCount) {
+        final int anchorCount = parsedPattern.getAnchorCount();
+        if(argCount > anchorCount) {
+            sbuf.append(parsedPattern.tail);
+        } else {
+            // not enough arguments, the rest of the pattern is copied as is
+            String pattern = parsedPattern.pattern;
+            sbuf.append(pattern, parsedPattern.segmentEnds[argCount - 1], pattern.length());
         }
-        // append the characters following the last {} pair.
-        sbuf.append(messagePattern, i, messagePattern.length());
-        return new FormattingTuple(sbuf.toString(), argArray, throwable);
     }
 
     final static boolean isEscapedDelimeter(String messagePattern, int delimeterStartIndex) {
@@ -254,13 +584,51 @@ final public class MessageFormatter {
         }
     }
 
+    /**
+     * Append an argument substituted in place of a formatting anchor.
+     *
+     * <p>The structure used for cycle detection is only created once an
+     * <code>Object[]</code> argument is encountered. It is returned so that it
+     * can be reused for the remaining arguments of the same call.
+     *
+     * @return the structure used for cycle detection, possibly null
+     */
+    private static List<Object[]> appendArgument(StringBuilder sbuf, Object o, List<Object[]> seenArrays) {
+        if(o instanceof Object[]) {
+            if(seenArrays == null) {
+                seenArrays = new ArrayList<>(4);
+            }
+            objectArrayAppend(sbuf, (Object[]) o, seenArrays);
+        } else {
+            deeplyAppendParameter(sbuf, o, seenArrays);
+        }
+        return seenArrays;
+    }
+
     // special treatment of array values was suggested by 'lizongbo'
-    private static void deeplyAppendParameter(StringBuilder sbuf, Object o, Map<Object[], Object> seenMap) {
+    private static void deeplyAppendParameter(StringBuilder sbuf, Object o, List<Object[]> seenArrays) {
         if(o == null) {
             sbuf.append("null");
             return;
         }
-        if(!o.getClass().isArray()) {
+        if(o instanceof String) {
+            sbuf.append((String) o);
+        } else if(o instanceof Integer) {
+            sbuf.append(((Integer) o).intValue());
+        } else if(o instanceof Long) {
+            sbuf.append(((Long) o).longValue());
+        } else if(o instanceof Boolean) {
+            sbuf.append(((Boolean) o).booleanValue());
+        } else if(o instanceof Double) {
+            sbuf.append(((Double) o).doubleValue());
+        } else if(o instanceof Character) {
+            sbuf.append(((Character) o).charValue());
+        } else if(o instanceof Number || o instanceof Enum) {
+            // no need to check for arrays
+            safeObjectAppend(sbuf, o);
+        } else if(o instanceof CharSequence) {
+            safeCharSequenceAppend(sbuf, (CharSequence) o);
+        } else if(!o.getClass().isArray()) {
             safeObjectAppend(sbuf, o);
         } else {
             // check for primitive array types because they
@@ -282,7 +650,7 @@ final public class MessageFormatter {
             } else if(o instanceof double[]) {
                 doubleArrayAppend(sbuf, (double[]) o);
             } else {
-                objectArrayAppend(sbuf, (Object[]) o, seenMap);
+                objectArrayAppend(sbuf, (Object[]) o, seenArrays);
             }
         }
     }
@@ -298,25 +666,50 @@ final public class MessageFormatter {
 
     }
 
-    private static void objectArrayAppend(StringBuilder sbuf, Object[] a, Map<Object[], Object> seenMap) {
+    private static void safeCharSequenceAppend(StringBuilder sbuf, CharSequence cs) {
+        final int initialLength = sbuf.length();
+        try {
+            sbuf.append(cs);
+        } catch (Throwable t) {
+            Util.report("SLF4J: Failed toString() invocation on an object of type [" + cs.getClass().getName() + "]", t);
+            sbuf.setLength(initialLength);
+            sbuf.append("[FAILED toString()]");
+        }
+    }
+
+    /**
+     * Append the elements of <code>a</code>. The arrays currently being
+     * rendered, i.e. <code>a</code>'s ancestors, are held in
+     * <code>seenArrays</code> and compared by identity in order to detect cycles.
+     */
+    private static void objectArrayAppend(StringBuilder sbuf, Object[] a, List<Object[]> seenArrays) {
         sbuf.append('[');
-        if(!seenMap.containsKey(a)) {
-            seenMap.put(a, null);
+        if(!containsIdentical(seenArrays, a)) {
+            seenArrays.add(a);
             final int len = a.length;
             for(int i = 0; i < len; i++) {
-                deeplyAppendParameter(sbuf, a[i], seenMap);
+                deeplyAppendParameter(sbuf, a[i], seenArrays);
                 if(i != len - 1) {
                     sbuf.append(", ");
                 }
             }
             // allow repeats in siblings
-            seenMap.remove(a);
+            seenArrays.remove(seenArrays.size() - 1);
         } else {
             sbuf.append("...");
         }
         sbuf.append(']');
     }
 
+    private static boolean containsIdentical(List<Object[]> seenArrays, Object[] a) {
+        for(int i = seenArrays.size() - 1; i >= 0; i--) {
+            if(seenArrays.get(i) == a) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static void booleanArrayAppend(StringBuilder sbuf, boolean[] a) {
         sbuf.append('[');
         final int len = a.length;
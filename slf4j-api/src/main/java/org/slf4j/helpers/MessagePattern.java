@@ -0,0 +1,106 @@
+package org.slf4j.helpers;
+
+/**
+ * A message pattern parsed once into literal segments and formatting anchors.
+ *
+ * <p>Escape sequences are resolved at parse time, so that formatting reduces
+ * to copying segments and arguments. The semantics are identical to those of
+ * {@link MessageFormatter}: when there are fewer arguments than anchors, the
+ * remainder of the pattern is copied verbatim and its escapes are left as is.
+ *
+ * <p>Instances are immutable and may be shared between threads.
+ *
+ * @since 2.0
+ */
+final class MessagePattern {
+
+    private static final String[] NO_SEGMENTS = new String[0];
+    private static final int[] NO_SEGMENT_ENDS = new int[0];
+
+    final String pattern;
+
+    /**
+     * Literal text, with escapes resolved, preceding each formatting anchor.
+     */
+    final String[] segments;
+
+    /**
+     * Index in {@link #pattern} immediately following each formatting anchor.
+     */
+    final int[] segmentEnds;
+
+    /**
+     * Literal text, with escapes resolved, following the last formatting anchor.
+     */
+    final String tail;
+
+    private MessagePattern(String pattern, String[] segments, int[] segmentEnds, String tail) {
+        this.pattern = pattern;
+        this.segments = segments;
+        this.segmentEnds = segmentEnds;
+        this.tail = tail;
+    }
+
+    int getAnchorCount() {
+        return segments.length;
+    }
+
+    static MessagePattern parse(final String pattern) {
+        // a first pass counts the anchors so that no list nor boxing is needed
+        final int anchorCount = countAnchors(pattern);
+        if(anchorCount == 0 && pattern.indexOf(MessageFormatter.DELIM_STR) == -1) {
+            return new MessagePattern(pattern, NO_SEGMENTS, NO_SEGMENT_ENDS, pattern);
+        }
+        String[] segments = new String[anchorCount];
+        int[] segmentEnds = new int[anchorCount];
+        StringBuilder sbuf = new StringBuilder(pattern.length());
+
+        int anchor = 0;
+        int i = 0;
+        int j;
+        while((j = pattern.indexOf(MessageFormatter.DELIM_STR, i)) != -1) {
+            if(MessageFormatter.isEscapedDelimeter(pattern, j)) {
+                if(!MessageFormatter.isDoubleEscaped(pattern, j)) {
+                    // DELIM_START was escaped, it is part of the literal text
+                    sbuf.append(pattern, i, j - 1);
+                    sbuf.append(MessageFormatter.DELIM_START);
+                    i = j + 1;
+                    continue;
+                }
+                // the escape character is itself escaped: "abc x:\\{}"
+                // we have to consume one backward slash
+                sbuf.append(pattern, i, j - 1);
+            } else {
+                sbuf.append(pattern, i, j);
+            }
+            segments[anchor] = sbuf.toString();
+            sbuf.setLength(0);
+            i = j + 2;
+            segmentEnds[anchor++] = i;
+        }
+
+        String tail;
+        if(i == 0) {
+            tail = pattern;
+        } else {
+            sbuf.append(pattern, i, pattern.length());
+            tail = sbuf.toString();
+        }
+        return new MessagePattern(pattern, segments, segmentEnds, tail);
+    }
+
+    private static int countAnchors(final String pattern) {
+        int count = 0;
+        int i = 0;
+        int j;
+        while((j = pattern.indexOf(MessageFormatter.DELIM_STR, i)) != -1) {
+            if(MessageFormatter.isEscapedDelimeter(pattern, j) && !MessageFormatter.isDoubleEscaped(pattern, j)) {
+                i = j + 1;
+            } else {
+                count++;
+                i = j + 2;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,100 @@
+package org.slf4j.helpers;
+
+/**
+ * A bounded cache of {@link MessagePattern} instances keyed by the identity of
+ * the pattern string.
+ *
+ * <p>Message patterns are usually compile-time constants and hence the same
+ * String instance is passed on every invocation. The cache is a direct-mapped
+ * table indexed by {@link System#identityHashCode(Object)}, so that patterns
+ * built dynamically can never make the cache grow beyond its capacity.
+ *
+ * <p>A pattern is admitted into an occupied slot only when it is seen a second
+ * time in a row for that slot. A pattern built anew for each call is thus
+ * parsed without being cached and never evicts a constant pattern.
+ *
+ * <p>Lookups and insertions are lock-free. Since {@link MessagePattern} is
+ * immutable, racing writers can at worst cause a pattern to be parsed twice.
+ *
+ * <p>The capacity can be set via the {@value #CACHE_SIZE_PROPERTY} system
+ * property. It is rounded up to a power of two. A value of 0 disables caching.
+ *
+ * @since 2.0
+ */
+final class MessagePatternCache {
+
+    static final String CACHE_SIZE_PROPERTY = "slf4j.messagePatternCacheSize";
+    static final int DEFAULT_CACHE_SIZE = 512;
+    static final int MAX_CACHE_SIZE = 1 << 16;
+
+    static final MessagePatternCache SINGLETON = new MessagePatternCache(readCacheSize());
+
+    private final MessagePattern[] table;
+    // the last pattern which missed an occupied slot, admitted if seen again
+    private final String[] candidates;
+    private final int mask;
+
+    MessagePatternCache(int size) {
+        if(size <= 0) {
+            table = null;
+            candidates = null;
+            mask = 0;
+        } else {
+            int capacity = Integer.highestOneBit(Math.min(size, MAX_CACHE_SIZE));
+            if(capacity < size && capacity < MAX_CACHE_SIZE) {
+                capacity <<= 1;
+            }
+            table = new MessagePattern[capacity];
+            candidates = new String[capacity];
+            mask = capacity - 1;
+        }
+    }
+
+    static MessagePattern getMessagePattern(String pattern) {
+        return SINGLETON.get(pattern);
+    }
+
+    /**
+     * Return the parsed form of <code>pattern</code>, parsing and caching it if
+     * necessary. A pattern missing an occupied slot is cached on its second
+     * consecutive miss.
+     *
+     * @param pattern a non-null message pattern
+     * @return the parsed pattern
+     */
+    MessagePattern get(String pattern) {
+        if(table == null) {
+            return MessagePattern.parse(pattern);
+        }
+        int index = System.identityHashCode(pattern) & mask;
+        MessagePattern cached = table[index];
+        if(cached != null && cached.pattern == pattern) {
+            return cached;
+        }
+        MessagePattern parsed = MessagePattern.parse(pattern);
+        if(cached == null || candidates[index] == pattern) {
+            table[index] = parsed;
+            candidates[index] = null;
+        } else {
+            candidates[index] = pattern;
+        }
+        return parsed;
+    }
+
+    int capacity() {
+        return table == null ? 0 : table.length;
+    }
+
+    private static int readCacheSize() {
+        String sizeStr = Util.safeGetSystemProperty(CACHE_SIZE_PROPERTY);
+        if(sizeStr == null) {
+            return DEFAULT_CACHE_SIZE;
+        }
+        try {
+            return Integer.parseInt(sizeStr.trim());
+        } catch (NumberFormatException e) {
+            Util.report("Invalid value [" + sizeStr + "] for " + CACHE_SIZE_PROPERTY + ", using default " + DEFAULT_CACHE_SIZE);
+            return DEFAULT_CACHE_SIZE;
+        }
+    }
+}
@@ -81,6 +81,54 @@ public class NOPLogger extends MarkerIgnoringBase {
         // NOP
     }
 
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void trace(String format, int arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void trace(String format, long arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void trace(String format, double arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void trace(String format, boolean arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void trace(String format, char arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void trace(String format, float arg) {
+        // NOP
+    }
+
     /**
      * Always returns false.
      *
@@ -131,6 +179,54 @@ public class NOPLogger extends MarkerIgnoringBase {
         // NOP
     }
 
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void debug(String format, int arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void debug(String format, long arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void debug(String format, double arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void debug(String format, boolean arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void debug(String format, char arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void debug(String format, float arg) {
+        // NOP
+    }
+
     /**
      * Always returns false.
      *
@@ -182,6 +278,54 @@ public class NOPLogger extends MarkerIgnoringBase {
         // NOP
     }
 
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void info(String format, int arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void info(String format, long arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void info(String format, double arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void info(String format, boolean arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void info(String format, char arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void info(String format, float arg) {
+        // NOP
+    }
+
     /**
      * Always returns false.
      *
@@ -232,6 +376,54 @@ public class NOPLogger extends MarkerIgnoringBase {
         // NOP
     }
 
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void warn(String format, int arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void warn(String format, long arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void warn(String format, double arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void warn(String format, boolean arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void warn(String format, char arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void warn(String format, float arg) {
+        // NOP
+    }
+
     /**
      * A NOP implementation.
      */
@@ -279,4 +471,52 @@ public class NOPLogger extends MarkerIgnoringBase {
     final public void error(String msg, Throwable t) {
         // NOP
     }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void error(String format, int arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void error(String format, long arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void error(String format, double arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void error(String format, boolean arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void error(String format, char arg) {
+        // NOP
+    }
+
+    /**
+     * A NOP implementation.
+     */
+    @Override
+    final public void error(String format, float arg) {
+        // NOP
+    }
 }
@@ -0,0 +1,243 @@
+package org.slf4j.helpers;
+
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.event.Level;
+import org.slf4j.event.SubstituteLoggingEvent;
+
+/**
+ * The queue holding the events recorded by {@link SubstituteLogger}
+ * instances while the logging backend is being initialized.
+ *
+ * <p>The queue is unbounded unless a capacity is configured. Once a bounded
+ * queue is full, further events are handled according to its
+ * {@link OverflowPolicy}. Dropped events are counted, see
+ * {@link #getDroppedCount()}. Offering an event never blocks.
+ *
+ * <p>The capacity, policy and level are read from the
+ * {@value #CAPACITY_PROPERTY}, {@value #OVERFLOW_POLICY_PROPERTY} and
+ * {@value #OVERFLOW_LEVEL_PROPERTY} system properties by
+ * {@link #fromSystemProperties()}.
+ *
+ * @since 2.0.0
+ */
+public class SubstituteEventQueue extends LinkedBlockingQueue<SubstituteLoggingEvent> {
+
+    private static final long serialVersionUID = -3530287429395566417L;
+
+    public static final String CAPACITY_PROPERTY = "slf4j.substituteQueue.capacity";
+    public static final String OVERFLOW_POLICY_PROPERTY = "slf4j.substituteQueue.overflowPolicy";
+    public static final String OVERFLOW_LEVEL_PROPERTY = "slf4j.substituteQueue.overflowLevel";
+
+    /**
+     * Unbounded, as {@link LinkedBlockingQueue#LinkedBlockingQueue()}.
+     */
+    static final int DEFAULT_CAPACITY = Integer.MAX_VALUE;
+    static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.DROP_NEWEST;
+    static final Level DEFAULT_OVERFLOW_LEVEL = Level.INFO;
+
+    /**
+     * What to do with an event offered to a full queue.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The offered event is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * The oldest queued event is dropped to make room for the offered one.
+         */
+        DROP_OLDEST,
+        /**
+         * An offered event below the overflow level is dropped. Otherwise the
+         * oldest queued event below that level is dropped to make room. If there
+         * is no such event, the offered event is dropped.
+         */
+        DROP_BELOW_LEVEL
+    }
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Level overflowLevel;
+    private final AtomicLong droppedCount = new AtomicLong();
+    /**
+     * Under {@link OverflowPolicy#DROP_BELOW_LEVEL}, the number of queued events
+     * below the overflow level, so that a full queue is not searched for such an
+     * event when there is none. Events taken by consumers are not accounted
+     * for, this number may thus exceed the actual one until the next search.
+     */
+    private final AtomicInteger belowLevelCount = new AtomicInteger();
+
+    public SubstituteEventQueue(int capacity, OverflowPolicy overflowPolicy, Level overflowLevel) {
+        super(capacity);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.overflowLevel = overflowLevel;
+    }
+
+    public static SubstituteEventQueue fromSystemProperties() {
+        return new SubstituteEventQueue(readCapacity(), readOverflowPolicy(), readOverflowLevel());
+    }
+
+    @Override
+    public boolean offer(SubstituteLoggingEvent event) {
+        if(overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL) {
+            return offerOrDropBelowLevel(event);
+        }
+        if(super.offer(event)) {
+            return true;
+        }
+        switch(overflowPolicy) {
+            case DROP_OLDEST:
+                do {
+                    if(poll() != null) {
+                        droppedCount.incrementAndGet();
+                    }
+                } while(!super.offer(event));
+                return true;
+            case DROP_NEWEST:
+            default:
+                droppedCount.incrementAndGet();
+                return false;
+        }
+    }
+
+    /**
+     * Same as {@link #offer(SubstituteLoggingEvent)}. Contrary to the contract of
+     * {@link java.util.Queue#add(Object)}, no exception is thrown if the event is
+     * dropped, as the caller is a logging call.
+     */
+    @Override
+    public boolean add(SubstituteLoggingEvent event) {
+        return offer(event);
+    }
+
+    @Override
+    public boolean offer(SubstituteLoggingEvent event, long timeout, TimeUnit unit) {
+        return offer(event);
+    }
+
+    @Override
+    public void put(SubstituteLoggingEvent event) {
+        offer(event);
+    }
+
+    private boolean offerOrDropBelowLevel(SubstituteLoggingEvent event) {
+        boolean belowLevel = isBelowOverflowLevel(event.getLevel());
+        if(super.offer(event)) {
+            if(belowLevel) {
+                belowLevelCount.incrementAndGet();
+            }
+            return true;
+        }
+        if(belowLevel || !removeOldestBelowOverflowLevel() || !super.offer(event)) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isBelowOverflowLevel(Level level) {
+        return level != null && level.toInt() < overflowLevel.toInt();
+    }
+
+    private boolean removeOldestBelowOverflowLevel() {
+        if(belowLevelCount.get() <= 0) {
+            return false;
+        }
+        Iterator<SubstituteLoggingEvent> iterator = iterator();
+        while(iterator.hasNext()) {
+            if(isBelowOverflowLevel(iterator.next().getLevel())) {
+                iterator.remove();
+                belowLevelCount.decrementAndGet();
+                droppedCount.incrementAndGet();
+                return true;
+            }
+        }
+        // the remaining ones were taken by a consumer
+        belowLevelCount.set(0);
+        return false;
+    }
+
+    /**
+     * @return the capacity of this queue, {@link Integer#MAX_VALUE} if it is
+     * unbounded
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return the number of events dropped since this queue was created or last
+     * cleared
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        belowLevelCount.set(0);
+        droppedCount.set(0);
+    }
+
+    private static int readCapacity() {
+        String capacityStr = Util.safeGetSystemProperty(CAPACITY_PROPERTY);
+        if(capacityStr == null) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            int capacity = Integer.parseInt(capacityStr.trim());
+            if(capacity > 0) {
+                return capacity;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        Util.report("Invalid value [" + capacityStr + "] for " + CAPACITY_PROPERTY + ", the queue is unbounded");
+        return DEFAULT_CAPACITY;
+    }
+
+    private static OverflowPolicy readOverflowPolicy() {
+        String policyStr = Util.safeGetSystemProperty(OVERFLOW_POLICY_PROPERTY);
+        if(policyStr == null) {
+            return DEFAULT_OVERFLOW_POLICY;
+        }
+        switch(policyStr.trim().toLowerCase()) {
+            case "dropnewest":
+            case "drop_newest":
+                return OverflowPolicy.DROP_NEWEST;
+            case "dropoldest":
+            case "drop_oldest":
+                return OverflowPolicy.DROP_OLDEST;
+            case "dropbelowlevel":
+            case "drop_below_level":
+                return OverflowPolicy.DROP_BELOW_LEVEL;
+            default:
+                Util.report("Invalid value [" + policyStr + "] for " + OVERFLOW_POLICY_PROPERTY + ", using default " + DEFAULT_OVERFLOW_POLICY);
+                return DEFAULT_OVERFLOW_POLICY;
+        }
+    }
+
+    private static Level readOverflowLevel() {
+        String levelStr = Util.safeGetSystemProperty(OVERFLOW_LEVEL_PROPERTY);
+        if(levelStr == null) {
+            return DEFAULT_OVERFLOW_LEVEL;
+        }
+        try {
+            return Level.valueOf(levelStr.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Util.report("Invalid value [" + levelStr + "] for " + OVERFLOW_LEVEL_PROPERTY + ", using default " + DEFAULT_OVERFLOW_LEVEL);
+            return DEFAULT_OVERFLOW_LEVEL;
+        }
+    }
+}
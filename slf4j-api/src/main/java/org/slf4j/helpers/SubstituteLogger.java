@@ -2,12 +2,16 @@ package org.slf4j.helpers;
 
 import org.slf4j.Logger;
 import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
 import org.slf4j.event.EventRecodingLogger;
 import org.slf4j.event.LoggingEvent;
 import org.slf4j.event.SubstituteLoggingEvent;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Queue;
 
 /**
@@ -24,292 +28,1321 @@ public class SubstituteLogger implements Logger {
 
     private final String name;
     private volatile Logger _delegate;
-    private Boolean delegateEventAware;
-    private Method logMethodCache;
+    /**
+     * Handle on the <code>log(LoggingEvent)</code> method of delegates which
+     * declare one without implementing a <code>LoggingEventAware</code>
+     * interface, null otherwise. Written before {@link #_delegate}.
+     */
+    private MethodHandle logMethodHandle;
     private EventRecodingLogger eventRecodingLogger;
     private Queue<SubstituteLoggingEvent> eventQueue;
 
-    public final boolean createdPostInitialization;
+    public final boolean createdPostInitialization;
+
+    public SubstituteLogger(String name, Queue<SubstituteLoggingEvent> eventQueue, boolean createdPostInitialization) {
+        this.name = name;
+        this.eventQueue = eventQueue;
+        this.createdPostInitialization = createdPostInitialization;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return delegate().isTraceEnabled();
+    }
+
+    @Override
+    public void trace(String msg) {
+        delegate().trace(msg);
+    }
+
+    @Override
+    public void trace(String format, Object arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, Object... arguments) {
+        delegate().trace(format, arguments);
+    }
+
+    @Override
+    public void trace(String msg, Throwable t) {
+        delegate().trace(msg, t);
+    }
+
+    @Override
+    public void trace(String format, int arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, long arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, double arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, boolean arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, char arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, float arg) {
+        delegate().trace(format, arg);
+    }
+
+    @Override
+    public void trace(String format, boolean arg1, boolean arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, boolean arg1, char arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, boolean arg1, long arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, boolean arg1, float arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, boolean arg1, double arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, boolean arg1, Object arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, char arg1, boolean arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, char arg1, char arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, char arg1, long arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, char arg1, float arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, char arg1, double arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, char arg1, Object arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, long arg1, boolean arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, long arg1, char arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, long arg1, long arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, long arg1, float arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, long arg1, double arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, long arg1, Object arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, float arg1, boolean arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, float arg1, char arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, float arg1, long arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, float arg1, float arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, float arg1, double arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, float arg1, Object arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, double arg1, boolean arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, double arg1, char arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, double arg1, long arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, double arg1, float arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, double arg1, double arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, double arg1, Object arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, Object arg1, boolean arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, Object arg1, char arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, Object arg1, long arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, Object arg1, float arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(String format, Object arg1, double arg2) {
+        delegate().trace(format, arg1, arg2);
+    }
+
+    @Override
+    public boolean isTraceEnabled(Marker marker) {
+        return delegate().isTraceEnabled(marker);
+    }
+
+    @Override
+    public void trace(Marker marker, String msg) {
+        delegate().trace(marker, msg);
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg) {
+        delegate().trace(marker, format, arg);
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object arg1, Object arg2) {
+        delegate().trace(marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void trace(Marker marker, String format, Object... arguments) {
+        delegate().trace(marker, format, arguments);
+    }
+
+    @Override
+    public void trace(Marker marker, String msg, Throwable t) {
+        delegate().trace(marker, msg, t);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return delegate().isDebugEnabled();
+    }
+
+    @Override
+    public void debug(String msg) {
+        delegate().debug(msg);
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, Object... arguments) {
+        delegate().debug(format, arguments);
+    }
+
+    @Override
+    public void debug(String msg, Throwable t) {
+        delegate().debug(msg, t);
+    }
+
+    @Override
+    public void debug(String format, int arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, long arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, double arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, boolean arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, char arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, float arg) {
+        delegate().debug(format, arg);
+    }
+
+    @Override
+    public void debug(String format, boolean arg1, boolean arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, boolean arg1, char arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, boolean arg1, long arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, boolean arg1, float arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, boolean arg1, double arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, boolean arg1, Object arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, char arg1, boolean arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, char arg1, char arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, char arg1, long arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, char arg1, float arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, char arg1, double arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, char arg1, Object arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, long arg1, boolean arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, long arg1, char arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, long arg1, long arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, long arg1, float arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, long arg1, double arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, long arg1, Object arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, float arg1, boolean arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, float arg1, char arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, float arg1, long arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, float arg1, float arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, float arg1, double arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, float arg1, Object arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, double arg1, boolean arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, double arg1, char arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, double arg1, long arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, double arg1, float arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, double arg1, double arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, double arg1, Object arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, Object arg1, boolean arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, Object arg1, char arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, Object arg1, long arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, Object arg1, float arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(String format, Object arg1, double arg2) {
+        delegate().debug(format, arg1, arg2);
+    }
+
+    @Override
+    public boolean isDebugEnabled(Marker marker) {
+        return delegate().isDebugEnabled(marker);
+    }
+
+    @Override
+    public void debug(Marker marker, String msg) {
+        delegate().debug(marker, msg);
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg) {
+        delegate().debug(marker, format, arg);
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object arg1, Object arg2) {
+        delegate().debug(marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void debug(Marker marker, String format, Object... arguments) {
+        delegate().debug(marker, format, arguments);
+    }
+
+    @Override
+    public void debug(Marker marker, String msg, Throwable t) {
+        delegate().debug(marker, msg, t);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return delegate().isInfoEnabled();
+    }
+
+    @Override
+    public void info(String msg) {
+        delegate().info(msg);
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, Object... arguments) {
+        delegate().info(format, arguments);
+    }
+
+    @Override
+    public void info(String msg, Throwable t) {
+        delegate().info(msg, t);
+    }
+
+    @Override
+    public void info(String format, int arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, long arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, double arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, boolean arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, char arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, float arg) {
+        delegate().info(format, arg);
+    }
+
+    @Override
+    public void info(String format, boolean arg1, boolean arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, boolean arg1, char arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, boolean arg1, long arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, boolean arg1, float arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, boolean arg1, double arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, boolean arg1, Object arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, char arg1, boolean arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, char arg1, char arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, char arg1, long arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, char arg1, float arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, char arg1, double arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, char arg1, Object arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, long arg1, boolean arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, long arg1, char arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, long arg1, long arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, long arg1, float arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, long arg1, double arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, long arg1, Object arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, float arg1, boolean arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, float arg1, char arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, float arg1, long arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, float arg1, float arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, float arg1, double arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, float arg1, Object arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, double arg1, boolean arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, double arg1, char arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, double arg1, long arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, double arg1, float arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, double arg1, double arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, double arg1, Object arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, Object arg1, boolean arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, Object arg1, char arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, Object arg1, long arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, Object arg1, float arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public void info(String format, Object arg1, double arg2) {
+        delegate().info(format, arg1, arg2);
+    }
+
+    @Override
+    public boolean isInfoEnabled(Marker marker) {
+        return delegate().isInfoEnabled(marker);
+    }
+
+    @Override
+    public void info(Marker marker, String msg) {
+        delegate().info(marker, msg);
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg) {
+        delegate().info(marker, format, arg);
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object arg1, Object arg2) {
+        delegate().info(marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void info(Marker marker, String format, Object... arguments) {
+        delegate().info(marker, format, arguments);
+    }
+
+    @Override
+    public void info(Marker marker, String msg, Throwable t) {
+        delegate().info(marker, msg, t);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return delegate().isWarnEnabled();
+    }
+
+    @Override
+    public void warn(String msg) {
+        delegate().warn(msg);
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, Object... arguments) {
+        delegate().warn(format, arguments);
+    }
+
+    @Override
+    public void warn(String msg, Throwable t) {
+        delegate().warn(msg, t);
+    }
+
+    @Override
+    public void warn(String format, int arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, long arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, double arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, boolean arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, char arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, float arg) {
+        delegate().warn(format, arg);
+    }
+
+    @Override
+    public void warn(String format, boolean arg1, boolean arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, boolean arg1, char arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, boolean arg1, long arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, boolean arg1, float arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, boolean arg1, double arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, boolean arg1, Object arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, char arg1, boolean arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, char arg1, char arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, char arg1, long arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, char arg1, float arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, char arg1, double arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, char arg1, Object arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, long arg1, boolean arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, long arg1, char arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, long arg1, long arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, long arg1, float arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, long arg1, double arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, long arg1, Object arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, float arg1, boolean arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, float arg1, char arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, float arg1, long arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, float arg1, float arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void warn(String format, float arg1, double arg2) {
+        delegate().warn(format, arg1, arg2);
+    }
 
-    public SubstituteLogger(String name, Queue<SubstituteLoggingEvent> eventQueue, boolean createdPostInitialization) {
-        this.name = name;
-        this.eventQueue = eventQueue;
-        this.createdPostInitialization = createdPostInitialization;
+    @Override
+    public void warn(String format, float arg1, Object arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public String getName() {
-        return name;
+    public void warn(String format, double arg1, boolean arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public boolean isTraceEnabled() {
-        return delegate().isTraceEnabled();
+    public void warn(String format, double arg1, char arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(String msg) {
-        delegate().trace(msg);
+    public void warn(String format, double arg1, long arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(String format, Object arg) {
-        delegate().trace(format, arg);
+    public void warn(String format, double arg1, float arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(String format, Object arg1, Object arg2) {
-        delegate().trace(format, arg1, arg2);
+    public void warn(String format, double arg1, double arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(String format, Object... arguments) {
-        delegate().trace(format, arguments);
+    public void warn(String format, double arg1, Object arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(String msg, Throwable t) {
-        delegate().trace(msg, t);
+    public void warn(String format, Object arg1, boolean arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public boolean isTraceEnabled(Marker marker) {
-        return delegate().isTraceEnabled(marker);
+    public void warn(String format, Object arg1, char arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(Marker marker, String msg) {
-        delegate().trace(marker, msg);
+    public void warn(String format, Object arg1, long arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(Marker marker, String format, Object arg) {
-        delegate().trace(marker, format, arg);
+    public void warn(String format, Object arg1, float arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(Marker marker, String format, Object arg1, Object arg2) {
-        delegate().trace(marker, format, arg1, arg2);
+    public void warn(String format, Object arg1, double arg2) {
+        delegate().warn(format, arg1, arg2);
     }
 
     @Override
-    public void trace(Marker marker, String format, Object... arguments) {
-        delegate().trace(marker, format, arguments);
+    public boolean isWarnEnabled(Marker marker) {
+        return delegate().isWarnEnabled(marker);
     }
 
     @Override
-    public void trace(Marker marker, String msg, Throwable t) {
-        delegate().trace(marker, msg, t);
+    public void warn(Marker marker, String msg) {
+        delegate().warn(marker, msg);
     }
 
     @Override
-    public boolean isDebugEnabled() {
-        return delegate().isDebugEnabled();
+    public void warn(Marker marker, String format, Object arg) {
+        delegate().warn(marker, format, arg);
     }
 
     @Override
-    public void debug(String msg) {
-        delegate().debug(msg);
+    public void warn(Marker marker, String format, Object arg1, Object arg2) {
+        delegate().warn(marker, format, arg1, arg2);
     }
 
     @Override
-    public void debug(String format, Object arg) {
-        delegate().debug(format, arg);
+    public void warn(Marker marker, String format, Object... arguments) {
+        delegate().warn(marker, format, arguments);
     }
 
     @Override
-    public void debug(String format, Object arg1, Object arg2) {
-        delegate().debug(format, arg1, arg2);
+    public void warn(Marker marker, String msg, Throwable t) {
+        delegate().warn(marker, msg, t);
     }
 
     @Override
-    public void debug(String format, Object... arguments) {
-        delegate().debug(format, arguments);
+    public boolean isErrorEnabled() {
+        return delegate().isErrorEnabled();
     }
 
     @Override
-    public void debug(String msg, Throwable t) {
-        delegate().debug(msg, t);
+    public void error(String msg) {
+        delegate().error(msg);
     }
 
     @Override
-    public boolean isDebugEnabled(Marker marker) {
-        return delegate().isDebugEnabled(marker);
+    public void error(String format, Object arg) {
+        delegate().error(format, arg);
     }
 
     @Override
-    public void debug(Marker marker, String msg) {
-        delegate().debug(marker, msg);
+    public void error(String format, Object arg1, Object arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void debug(Marker marker, String format, Object arg) {
-        delegate().debug(marker, format, arg);
+    public void error(String format, Object... arguments) {
+        delegate().error(format, arguments);
     }
 
     @Override
-    public void debug(Marker marker, String format, Object arg1, Object arg2) {
-        delegate().debug(marker, format, arg1, arg2);
+    public void error(String msg, Throwable t) {
+        delegate().error(msg, t);
     }
 
     @Override
-    public void debug(Marker marker, String format, Object... arguments) {
-        delegate().debug(marker, format, arguments);
+    public void error(String format, int arg) {
+        delegate().error(format, arg);
     }
 
     @Override
-    public void debug(Marker marker, String msg, Throwable t) {
-        delegate().debug(marker, msg, t);
+    public void error(String format, long arg) {
+        delegate().error(format, arg);
     }
 
     @Override
-    public boolean isInfoEnabled() {
-        return delegate().isInfoEnabled();
+    public void error(String format, double arg) {
+        delegate().error(format, arg);
     }
 
     @Override
-    public void info(String msg) {
-        delegate().info(msg);
+    public void error(String format, boolean arg) {
+        delegate().error(format, arg);
     }
 
     @Override
-    public void info(String format, Object arg) {
-        delegate().info(format, arg);
+    public void error(String format, char arg) {
+        delegate().error(format, arg);
     }
 
     @Override
-    public void info(String format, Object arg1, Object arg2) {
-        delegate().info(format, arg1, arg2);
+    public void error(String format, float arg) {
+        delegate().error(format, arg);
     }
 
     @Override
-    public void info(String format, Object... arguments) {
-        delegate().info(format, arguments);
+    public void error(String format, boolean arg1, boolean arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void info(String msg, Throwable t) {
-        delegate().info(msg, t);
+    public void error(String format, boolean arg1, char arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public boolean isInfoEnabled(Marker marker) {
-        return delegate().isInfoEnabled(marker);
+    public void error(String format, boolean arg1, long arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void info(Marker marker, String msg) {
-        delegate().info(marker, msg);
+    public void error(String format, boolean arg1, float arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void info(Marker marker, String format, Object arg) {
-        delegate().info(marker, format, arg);
+    public void error(String format, boolean arg1, double arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void info(Marker marker, String format, Object arg1, Object arg2) {
-        delegate().info(marker, format, arg1, arg2);
+    public void error(String format, boolean arg1, Object arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void info(Marker marker, String format, Object... arguments) {
-        delegate().info(marker, format, arguments);
+    public void error(String format, char arg1, boolean arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void info(Marker marker, String msg, Throwable t) {
-        delegate().info(marker, msg, t);
+    public void error(String format, char arg1, char arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public boolean isWarnEnabled() {
-        return delegate().isWarnEnabled();
+    public void error(String format, char arg1, long arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(String msg) {
-        delegate().warn(msg);
+    public void error(String format, char arg1, float arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(String format, Object arg) {
-        delegate().warn(format, arg);
+    public void error(String format, char arg1, double arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(String format, Object arg1, Object arg2) {
-        delegate().warn(format, arg1, arg2);
+    public void error(String format, char arg1, Object arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(String format, Object... arguments) {
-        delegate().warn(format, arguments);
+    public void error(String format, long arg1, boolean arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(String msg, Throwable t) {
-        delegate().warn(msg, t);
+    public void error(String format, long arg1, char arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public boolean isWarnEnabled(Marker marker) {
-        return delegate().isWarnEnabled(marker);
+    public void error(String format, long arg1, long arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(Marker marker, String msg) {
-        delegate().warn(marker, msg);
+    public void error(String format, long arg1, float arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(Marker marker, String format, Object arg) {
-        delegate().warn(marker, format, arg);
+    public void error(String format, long arg1, double arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(Marker marker, String format, Object arg1, Object arg2) {
-        delegate().warn(marker, format, arg1, arg2);
+    public void error(String format, long arg1, Object arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(Marker marker, String format, Object... arguments) {
-        delegate().warn(marker, format, arguments);
+    public void error(String format, float arg1, boolean arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void warn(Marker marker, String msg, Throwable t) {
-        delegate().warn(marker, msg, t);
+    public void error(String format, float arg1, char arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public boolean isErrorEnabled() {
-        return delegate().isErrorEnabled();
+    public void error(String format, float arg1, long arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void error(String msg) {
-        delegate().error(msg);
+    public void error(String format, float arg1, float arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void error(String format, Object arg) {
-        delegate().error(format, arg);
+    public void error(String format, float arg1, double arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void error(String format, Object arg1, Object arg2) {
+    public void error(String format, float arg1, Object arg2) {
         delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void error(String format, Object... arguments) {
-        delegate().error(format, arguments);
+    public void error(String format, double arg1, boolean arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
-    public void error(String msg, Throwable t) {
-        delegate().error(msg, t);
+    public void error(String format, double arg1, char arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, double arg1, long arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, double arg1, float arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, double arg1, double arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, double arg1, Object arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, Object arg1, boolean arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, Object arg1, char arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, Object arg1, long arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, Object arg1, float arg2) {
+        delegate().error(format, arg1, arg2);
+    }
+
+    @Override
+    public void error(String format, Object arg1, double arg2) {
+        delegate().error(format, arg1, arg2);
     }
 
     @Override
@@ -393,34 +1426,153 @@ public class SubstituteLogger implements Logger {
      * @param delegate
      */
     public void setDelegate(Logger delegate) {
+        this.logMethodHandle = findLogMethodHandle(delegate);
         this._delegate = delegate;
     }
 
-    public boolean isDelegateEventAware() {
-        if(delegateEventAware != null) {
-            return delegateEventAware;
-        }
+    private static final Object[] EMPTY_ARGS = new Object[0];
 
+    private static final MethodType LOG_METHOD_TYPE = MethodType.methodType(void.class, LoggingEvent.class);
+    private static final MethodType ERASED_LOG_METHOD_TYPE = MethodType.methodType(void.class, Logger.class, LoggingEvent.class);
+
+    private static MethodHandle findLogMethodHandle(Logger delegate) {
+        if(delegate == null || delegate instanceof org.slf4j.event.LoggingEventAware || delegate instanceof org.slf4j.spi.LoggingEventAware) {
+            return null;
+        }
         try {
-            logMethodCache = _delegate.getClass().getMethod("log", LoggingEvent.class);
-            delegateEventAware = Boolean.TRUE;
-        } catch (NoSuchMethodException e) {
-            delegateEventAware = Boolean.FALSE;
+            MethodHandle handle = MethodHandles.publicLookup().findVirtual(delegate.getClass(), "log", LOG_METHOD_TYPE);
+            return handle.asType(ERASED_LOG_METHOD_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
         }
-        return delegateEventAware;
     }
 
+    /**
+     * Whether events can be handed over to the delegate as is, either because it
+     * implements one of the <code>LoggingEventAware</code> interfaces or because
+     * it declares a public <code>log(LoggingEvent)</code> method.
+     */
+    public boolean isDelegateEventAware() {
+        Logger delegate = _delegate;
+        return delegate instanceof org.slf4j.event.LoggingEventAware || delegate instanceof org.slf4j.spi.LoggingEventAware
+                        || logMethodHandle != null;
+    }
+
+    /**
+     * Replay <code>event</code> on the delegate, see {@link #replay(List)}.
+     */
     public void log(LoggingEvent event) {
-        if(isDelegateEventAware()) {
-            try {
-                logMethodCache.invoke(_delegate, event);
-            } catch (IllegalAccessException e) {
-            } catch (IllegalArgumentException e) {
-            } catch (InvocationTargetException e) {
+        Logger delegate = _delegate;
+        if(delegate instanceof org.slf4j.event.LoggingEventAware) {
+            ((org.slf4j.event.LoggingEventAware) delegate).log(event);
+        } else if(delegate instanceof org.slf4j.spi.LoggingEventAware) {
+            ((org.slf4j.spi.LoggingEventAware) delegate).log(event);
+        } else if(logMethodHandle != null) {
+            invokeLogMethod(logMethodHandle, delegate, event);
+        } else if(delegate != null) {
+            logViaPublicLoggerAPI(delegate, event);
+        }
+    }
+
+    /**
+     * Replay the given events, which must have been recorded by this logger, on
+     * the delegate. Events are handed over as is to event-aware delegates and
+     * are replayed via the {@link Logger} API on other delegates.
+     *
+     * @param events the events to replay
+     * @since 2.0.0
+     */
+    public void replay(List<? extends LoggingEvent> events) {
+        Logger delegate = _delegate;
+        if(delegate instanceof org.slf4j.event.LoggingEventAware) {
+            org.slf4j.event.LoggingEventAware eventAware = (org.slf4j.event.LoggingEventAware) delegate;
+            for(LoggingEvent event : events) {
+                eventAware.log(event);
+            }
+        } else if(delegate instanceof org.slf4j.spi.LoggingEventAware) {
+            org.slf4j.spi.LoggingEventAware eventAware = (org.slf4j.spi.LoggingEventAware) delegate;
+            for(LoggingEvent event : events) {
+                eventAware.log(event);
             }
+        } else if(logMethodHandle != null) {
+            MethodHandle handle = logMethodHandle;
+            for(LoggingEvent event : events) {
+                invokeLogMethod(handle, delegate, event);
+            }
+        } else if(delegate != null) {
+            for(LoggingEvent event : events) {
+                logViaPublicLoggerAPI(delegate, event);
+            }
+        }
+    }
+
+    private static void invokeLogMethod(MethodHandle handle, Logger delegate, LoggingEvent event) {
+        try {
+            handle.invokeExact(delegate, event);
+        } catch (Throwable t) {
+            Util.report("Failed to replay logging event on logger [" + delegate.getName() + "]", t);
         }
     }
 
+    /**
+     * The {@link Logger} API accepts a single marker. Several markers are
+     * therefore combined into a detached marker bearing the name and the
+     * references of the first one and referencing the others, which thus
+     * contains each of them.
+     */
+    private static Marker combineMarkers(List<Marker> markers) {
+        if(markers == null || markers.isEmpty()) {
+            return null;
+        }
+        Marker first = markers.get(0);
+        if(markers.size() == 1) {
+            return first;
+        }
+        Marker combined = MarkerFactory.getDetachedMarker(first.getName());
+        for(Iterator<Marker> references = first.iterator(); references.hasNext();) {
+            combined.add(references.next());
+        }
+        for(int i = 1; i < markers.size(); i++) {
+            combined.add(markers.get(i));
+        }
+        return combined;
+    }
+
+    private static void logViaPublicLoggerAPI(Logger delegate, LoggingEvent event) {
+        String msg = event.getMessage();
+        Object[] args = event.getArgumentArray();
+        Throwable t = event.getThrowable();
+        if(args == null && t == null) {
+            args = EMPTY_ARGS;
+        } else if(t != null) {
+            int argLen = args == null ? 0 : args.length;
+            Object[] combinedArgs = new Object[argLen + 1];
+            if(args != null) {
+                System.arraycopy(args, 0, combinedArgs, 0, argLen);
+            }
+            combinedArgs[argLen] = t;
+            args = combinedArgs;
+        }
+        Marker marker = combineMarkers(event.getMarkers());
+
+        switch(event.getLevel()) {
+            case TRACE:
+                delegate.trace(marker, msg, args);
+                break;
+            case DEBUG:
+                delegate.debug(marker, msg, args);
+                break;
+            case INFO:
+                delegate.info(marker, msg, args);
+                break;
+            case WARN:
+                delegate.warn(marker, msg, args);
+                break;
+            case ERROR:
+                delegate.error(marker, msg, args);
+                break;
+        }
+    }
 
     public boolean isDelegateNull() {
         return _delegate == null;
@@ -45,14 +45,32 @@ public class SubstituteLoggerFactory implements ILoggerFactory {
 
     final Map<String, SubstituteLogger> loggers = new ConcurrentHashMap<>();
 
-    final LinkedBlockingQueue<SubstituteLoggingEvent> eventQueue = new LinkedBlockingQueue<>();
+    final SubstituteEventQueue eventQueue = SubstituteEventQueue.fromSystemProperties();
 
+    /**
+     * Target of the substitute loggers once initialization is over, see
+     * {@link #postInitialization(ILoggerFactory)}.
+     */
+    volatile ILoggerFactory delegateFactory;
+
+    /**
+     * Return the substitute logger named <code>name</code>, creating it if
+     * necessary. This method does not take any global lock.
+     */
     @Override
-    synchronized public Logger getLogger(String name) {
+    public Logger getLogger(String name) {
         SubstituteLogger logger = loggers.get(name);
         if(logger == null) {
-            logger = new SubstituteLogger(name, eventQueue, postInitialization);
-            loggers.put(name, logger);
+            logger = loggers.computeIfAbsent(name, n -> new SubstituteLogger(n, eventQueue, postInitialization));
+            // A logger created concurrently with postInitialization(ILoggerFactory)
+            // may be missed by the loop setting delegates. Since the logger is
+            // published before delegateFactory is read here, and delegateFactory
+            // is published before the loop starts, either the loop or this thread
+            // sets its delegate.
+            ILoggerFactory factory = delegateFactory;
+            if(factory != null && logger.isDelegateNull()) {
+                logger.setDelegate(factory.getLogger(name));
+            }
         }
         return logger;
     }
@@ -69,11 +87,41 @@ public class SubstituteLoggerFactory implements ILoggerFactory {
         return eventQueue;
     }
 
+    /**
+     * @return the number of events which were not recorded because the event
+     * queue was full
+     * @since 2.0.0
+     */
+    public long getDroppedEventCount() {
+        return eventQueue.getDroppedCount();
+    }
+
+    public int getEventQueueCapacity() {
+        return eventQueue.getCapacity();
+    }
+
     public void postInitialization() {
         postInitialization = true;
     }
 
+    /**
+     * Mark the end of the initialization phase and delegate all substitute
+     * loggers, including those created concurrently with this call, to loggers
+     * obtained from <code>delegateFactory</code>.
+     *
+     * @param delegateFactory the factory of the actual loggers
+     * @since 2.0.0
+     */
+    public void postInitialization(ILoggerFactory delegateFactory) {
+        this.delegateFactory = delegateFactory;
+        postInitialization = true;
+        for(SubstituteLogger logger : loggers.values()) {
+            logger.setDelegate(delegateFactory.getLogger(logger.getName()));
+        }
+    }
+
     public void clear() {
+        delegateFactory = null;
         loggers.clear();
         eventQueue.clear();
     }
@@ -8,7 +8,7 @@ import org.slf4j.spi.SLF4JServiceProvider;
 public class SubstituteServiceProvider implements SLF4JServiceProvider {
     private SubstituteLoggerFactory loggerFactory = new SubstituteLoggerFactory();
     private IMarkerFactory markerFactory = new BasicMarkerFactory();
-    private MDCAdapter mdcAdapter = new BasicMDCAdapter();
+    private MDCAdapter mdcAdapter = MDCAdapters.newBasicMDCAdapter();
 
     @Override
     public ILoggerFactory getLoggerFactory() {
@@ -35,67 +35,16 @@ public final class Util {
     }
 
     /**
-     * In order to call {@link SecurityManager#getClassContext()}, which is a
-     * protected method, we add this wrapper which allows the method to be visible
-     * inside this package.
-     */
-    private static final class ClassContextSecurityManager extends SecurityManager {
-        @Override
-        protected Class<?>[] getClassContext() {
-            return super.getClassContext();
-        }
-    }
-
-    private static ClassContextSecurityManager SECURITY_MANAGER;
-    private static boolean SECURITY_MANAGER_CREATION_ALREADY_ATTEMPTED = false;
-
-    private static ClassContextSecurityManager getSecurityManager() {
-        if(SECURITY_MANAGER != null) {
-            return SECURITY_MANAGER;
-        } else if(SECURITY_MANAGER_CREATION_ALREADY_ATTEMPTED) {
-            return null;
-        } else {
-            SECURITY_MANAGER = safeCreateSecurityManager();
-            SECURITY_MANAGER_CREATION_ALREADY_ATTEMPTED = true;
-            return SECURITY_MANAGER;
-        }
-    }
-
-    private static ClassContextSecurityManager safeCreateSecurityManager() {
-        try {
-            return new ClassContextSecurityManager();
-        } catch (java.lang.SecurityException sm) {
-            return null;
-        }
-    }
-
-    /**
-     * Returns the name of the class which called the invoking method.
+     * Returns the class which called the invoking method.
+     *
+     * <p>On Java 9 and later this relies on {@link StackWalker}, on older
+     * platforms on {@link SecurityManager#getClassContext()}.
      *
-     * @return the name of the class which called the invoking method.
+     * @return the class which called the invoking method, or null if it cannot
+     * be determined
      */
     public static Class<?> getCallingClass() {
-        ClassContextSecurityManager securityManager = getSecurityManager();
-        if(securityManager == null) {
-            return null;
-        }
-        Class<?>[] trace = securityManager.getClassContext();
-        String thisClassName = Util.class.getName();
-
-        // Advance until Util is found
-        int i;
-        for(i = 0; i < trace.length; i++) {
-            if(thisClassName.equals(trace[i].getName())) {
-                break;
-            }
-        }
-
-        // trace[i] = Util; trace[i+1] = caller; trace[i+2] = caller's caller
-        if(i >= trace.length || i + 2 >= trace.length) {
-            throw new IllegalStateException("Failed to find org.slf4j.helpers.Util or its caller in the stack; " + "this should not happen");
-        }
-
-        return trace[i + 2];
+        return CallerFinder.getCallingClass();
     }
 
     static public void report(String msg, Throwable t) {
@@ -44,7 +44,7 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder {
 
     @Override
     public LoggingEventBuilder addArgument(Supplier<Object> objectSupplier) {
-        loggingEvent.addArgument(objectSupplier.get());
+        loggingEvent.addDeferredArgument(objectSupplier);
         return this;
     }
 
@@ -78,15 +78,44 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder {
         innerLog(loggingEvent);
     }
 
-    private void innerLog(LoggingEvent loggingEvent) {
+    private void innerLog(DefaultLoggingEvent loggingEvent) {
+        dispatch(logger, loggingEvent);
+    }
+
+    /**
+     * Hand <code>loggingEvent</code> over to <code>logger</code>. Loggers which
+     * are {@link LoggingEventAware} receive it once its time stamp and thread
+     * name are set, as is if it is not reusable or if they
+     * {@link LoggingEventAware#acceptsReusableEvents() accept reusable events},
+     * as a snapshot otherwise. Other loggers are reached via their public API.
+     */
+    static void dispatch(Logger logger, StampableLoggingEvent loggingEvent) {
         if(logger instanceof LoggingEventAware) {
-            ((LoggingEventAware) logger).log(loggingEvent);
+            EventClock clock = EventClocks.getClock();
+            if(clock.isPrecise()) {
+                loggingEvent.setInstant(clock.instant());
+            } else {
+                loggingEvent.setTimeStamp(clock.currentTimeMillis());
+            }
+            loggingEvent.setThreadName(Thread.currentThread().getName());
+            LoggingEventAware eventAware = (LoggingEventAware) logger;
+            if(loggingEvent instanceof ReusableLoggingEvent && !eventAware.acceptsReusableEvents()) {
+                eventAware.log(((ReusableLoggingEvent) loggingEvent).snapshot());
+            } else {
+                eventAware.log(loggingEvent);
+            }
         } else {
-            logViaPublicLoggerAPI(loggingEvent);
+            logViaPublicLoggerAPI(logger, loggingEvent);
         }
     }
 
-    private void logViaPublicLoggerAPI(LoggingEvent loggingEvent) {
+    private static void logViaPublicLoggerAPI(Logger logger, LoggingEvent loggingEvent) {
+        // deferred arguments and key value pairs must not be computed for
+        // disabled events
+        if(!isLevelEnabled(logger, loggingEvent.getLevel())) {
+            return;
+        }
+
         Object[] argArray = loggingEvent.getArgumentArray();
         int argLen = argArray == null ? 0 : argArray.length;
 
@@ -126,6 +155,23 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder {
 
     }
 
+    private static boolean isLevelEnabled(Logger logger, Level level) {
+        switch(level) {
+            case TRACE:
+                return logger.isTraceEnabled();
+            case DEBUG:
+                return logger.isDebugEnabled();
+            case INFO:
+                return logger.isInfoEnabled();
+            case WARN:
+                return logger.isWarnEnabled();
+            case ERROR:
+                return logger.isErrorEnabled();
+            default:
+                return false;
+        }
+    }
+
     /**
      * Prepend markers and key-value pairs to the message.
      *
@@ -133,11 +179,11 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder {
      * @param msg
      * @return
      */
-    private String mergeMarkersAndKeyValuePairs(LoggingEvent loggingEvent, String msg) {
+    private static String mergeMarkersAndKeyValuePairs(LoggingEvent loggingEvent, String msg) {
 
         StringBuilder sb = null;
 
-        if(this.loggingEvent.getMarkers() != null) {
+        if(loggingEvent.getMarkers() != null) {
             sb = new StringBuilder();
             for(Marker marker : loggingEvent.getMarkers()) {
                 sb.append(marker);
@@ -183,7 +229,7 @@ public class DefaultLoggingEventBuilder implements LoggingEventBuilder {
 
     @Override
     public LoggingEventBuilder addKeyValue(String key, Supplier<Object> value) {
-        loggingEvent.addKeyValue(key, value.get());
+        loggingEvent.addDeferredKeyValue(key, value);
         return this;
     }
 
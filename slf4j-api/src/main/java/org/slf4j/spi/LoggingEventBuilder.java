@@ -18,10 +18,25 @@ public interface LoggingEventBuilder {
 
     LoggingEventBuilder addArgument(Object p);
 
+    /**
+     * Add an argument whose value is computed only if and when it is needed,
+     * at most once.
+     *
+     * @param objectSupplier supplies the argument value
+     * @return this builder
+     */
     LoggingEventBuilder addArgument(Supplier<Object> objectSupplier);
 
     LoggingEventBuilder addKeyValue(String key, Object value);
 
+    /**
+     * Add a key value pair whose value is computed only if and when it is needed,
+     * at most once.
+     *
+     * @param key   the key
+     * @param value supplies the value
+     * @return this builder
+     */
     LoggingEventBuilder addKeyValue(String key, Supplier<Object> value);
 
     void log(String message);
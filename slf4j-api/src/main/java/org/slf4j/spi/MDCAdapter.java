@@ -1,5 +1,7 @@
 package org.slf4j.spi;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
 
 /**
@@ -30,6 +32,38 @@ public interface MDCAdapter {
      */
     String get(String key);
 
+    /**
+     * Put a context value of any type as identified with the <code>key</code>
+     * parameter into the current thread's context map. Implementations may
+     * store the value as is and convert it to a String only when the context
+     * is rendered, sparing the conversion when nothing is logged.
+     *
+     * <p>The default implementation converts the value eagerly and delegates
+     * to {@link #put(String, String)}.
+     *
+     * @param key non-null key
+     * @param val the value, may be null if the implementation supports it
+     * @since 2.0.0
+     */
+    default void putObject(String key, Object val) {
+        put(key, val == null ? null : val.toString());
+    }
+
+    /**
+     * Get the context value identified by the <code>key</code> parameter. If
+     * the value was put via {@link #putObject(String, Object)} and the
+     * implementation stores values as is, the original object is returned.
+     *
+     * <p>The default implementation delegates to {@link #get(String)}.
+     *
+     * @param key non-null key
+     * @return the value identified by the <code>key</code> parameter
+     * @since 2.0.0
+     */
+    default Object getObject(String key) {
+        return get(key);
+    }
+
     /**
      * Remove the the context identified by the <code>key</code> parameter. 
      * The <code>key</code> parameter cannot be null. 
@@ -64,4 +98,138 @@ public interface MDCAdapter {
      * @since 1.5.1
      */
     void setContextMap(Map<String, String> contextMap);
+
+    /**
+     * Return an opaque snapshot of the current thread's context, to be passed
+     * to {@link #restoreContextSnapshot(Object)}, possibly on another thread.
+     * The snapshot is not affected by later changes to the context. Returned
+     * value may be null if the context is empty.
+     *
+     * <p>The default implementation returns {@link #getCopyOfContextMap()}.
+     * Implementations able to take snapshots more cheaply than by copying the
+     * context map should override this method together with
+     * {@link #restoreContextSnapshot(Object)}.
+     *
+     * @return a snapshot of the current thread's context, may be null
+     * @since 2.0.0
+     */
+    default Object getContextSnapshot() {
+        return getCopyOfContextMap();
+    }
+
+    /**
+     * Replace the current thread's context by a snapshot obtained from
+     * {@link #getContextSnapshot()} on this adapter. A null snapshot clears
+     * the context.
+     *
+     * @param snapshot a snapshot obtained from this adapter, may be null
+     * @since 2.0.0
+     */
+    @SuppressWarnings("unchecked")
+    default void restoreContextSnapshot(Object snapshot) {
+        if(snapshot == null) {
+            clear();
+        } else {
+            setContextMap((Map<String, String>) snapshot);
+        }
+    }
+
+    /**
+     * Push a value onto the deque identified by <code>key</code> in the
+     * current thread's context.
+     *
+     * <p>The default implementations of the deque methods store the i-th
+     * value of the deque, counting from the bottom, under the key made of
+     * <code>key</code> followed by i, e.g. <code>NDC0</code>,
+     * <code>NDC1</code>, in the context map. Finding the depth of a deque
+     * then takes time proportional to that depth. Implementations may
+     * override these methods, for instance to cache the depth, but should
+     * keep this layout so that deque values remain visible in, and are
+     * inherited and propagated with, the context map.
+     *
+     * @param key   identifies the deque
+     * @param value the value to push, may not be null
+     * @since 2.0.0
+     */
+    default void pushByKey(String key, String value) {
+        put(key + getDequeSizeByKey(key), value);
+    }
+
+    /**
+     * Pop a value from the deque identified by <code>key</code> in the
+     * current thread's context.
+     *
+     * @param key identifies the deque
+     * @return the value at the top of the deque, or null if it is empty
+     * @since 2.0.0
+     */
+    default String popByKey(String key) {
+        int size = getDequeSizeByKey(key);
+        if(size == 0) {
+            return null;
+        }
+        String topKey = key + (size - 1);
+        String value = get(topKey);
+        remove(topKey);
+        return value;
+    }
+
+    /**
+     * Return the value at the top of the deque identified by <code>key</code>
+     * without removing it.
+     *
+     * @param key identifies the deque
+     * @return the value at the top of the deque, or null if it is empty
+     * @since 2.0.0
+     */
+    default String peekByKey(String key) {
+        int size = getDequeSizeByKey(key);
+        return size == 0 ? null : get(key + (size - 1));
+    }
+
+    /**
+     * @param key identifies the deque
+     * @return the number of values in the deque identified by <code>key</code>
+     * @since 2.0.0
+     */
+    default int getDequeSizeByKey(String key) {
+        int size = 0;
+        while(get(key + size) != null) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Return a copy of the deque identified by <code>key</code>, whose first
+     * element is the top of the deque. Returned value may be null.
+     *
+     * @param key identifies the deque
+     * @return a copy of the deque, may be null
+     * @since 2.0.0
+     */
+    default Deque<String> getCopyOfDequeByKey(String key) {
+        int size = getDequeSizeByKey(key);
+        if(size == 0) {
+            return null;
+        }
+        Deque<String> deque = new ArrayDeque<>(size);
+        for(int i = 0; i < size; i++) {
+            deque.push(get(key + i));
+        }
+        return deque;
+    }
+
+    /**
+     * Remove all values from the deque identified by <code>key</code>.
+     *
+     * @param key identifies the deque
+     * @since 2.0.0
+     */
+    default void clearDequeByKey(String key) {
+        int size = getDequeSizeByKey(key);
+        for(int i = 0; i < size; i++) {
+            remove(key + i);
+        }
+    }
 }
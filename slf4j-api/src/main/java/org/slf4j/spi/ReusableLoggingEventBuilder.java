@@ -0,0 +1,193 @@
+package org.slf4j.spi;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.event.ReusableLoggingEvent;
+import org.slf4j.helpers.Util;
+
+/**
+ * A {@link LoggingEventBuilder} which, together with its
+ * {@link ReusableLoggingEvent}, is reused by the thread owning it.
+ *
+ * <p>Recycling is disabled by default. It is enabled by setting the
+ * {@value #RECYCLE_EVENTS_PROPERTY} system property to <code>true</code>, in
+ * which case {@link Logger#makeLoggingEventBuilder(Level)} returns the builder
+ * of the calling thread instead of a new {@link DefaultLoggingEventBuilder}.
+ *
+ * <p>The builder is released when one of its <code>log</code> methods returns.
+ * Consequently, a builder must not be used after its <code>log</code> method
+ * was called. A fluent call made from within a <code>log</code> method on the
+ * same thread, for example from an argument supplier, is served by a newly
+ * allocated {@link DefaultLoggingEventBuilder}. A fluent call made while the
+ * builder of the thread was acquired but its <code>log</code> method not yet
+ * called, either because the builder was abandoned or because an argument of
+ * the pending call is being computed, replaces that builder with a new one.
+ * An abandoned builder is thus dropped rather than disabling recycling for
+ * the thread.
+ *
+ * <p>Loggers which are {@link org.slf4j.event.LoggingEventAware} receive the
+ * reusable event only if they
+ * {@link org.slf4j.event.LoggingEventAware#acceptsReusableEvents() accept reusable events},
+ * and a {@link ReusableLoggingEvent#snapshot() snapshot} of it otherwise.
+ * Other loggers are reached via their public API with a freshly allocated
+ * argument array, as they may retain it.
+ *
+ * @since 2.0.0
+ */
+public final class ReusableLoggingEventBuilder implements LoggingEventBuilder {
+
+    public static final String RECYCLE_EVENTS_PROPERTY = "slf4j.recycleLoggingEvents";
+
+    private static final boolean RECYCLING_ENABLED = Util.safeGetBooleanSystemProperty(RECYCLE_EVENTS_PROPERTY);
+
+    private static final ThreadLocal<ReusableLoggingEventBuilder> THREAD_LOCAL_BUILDER = ThreadLocal.withInitial(ReusableLoggingEventBuilder::new);
+
+    private static final int IDLE = 0;
+    private static final int BUILDING = 1;
+    private static final int LOGGING = 2;
+
+    private final ReusableLoggingEvent loggingEvent = new ReusableLoggingEvent();
+    private Logger logger;
+    private int state = IDLE;
+
+    private ReusableLoggingEventBuilder() {
+    }
+
+    /**
+     * Whether recycling was enabled via {@value #RECYCLE_EVENTS_PROPERTY}.
+     *
+     * @return true if recycling is enabled
+     */
+    public static boolean isRecyclingEnabled() {
+        return RECYCLING_ENABLED;
+    }
+
+    /**
+     * Return the builder of the calling thread prepared for a new event, or a
+     * new {@link DefaultLoggingEventBuilder} if that builder is logging.
+     *
+     * @param logger the logger issuing the event
+     * @param level  the level of the event
+     * @return a builder for the event
+     */
+    public static LoggingEventBuilder acquire(Logger logger, Level level) {
+        ReusableLoggingEventBuilder builder = THREAD_LOCAL_BUILDER.get();
+        if(builder.state == LOGGING) {
+            return new DefaultLoggingEventBuilder(logger, level);
+        }
+        if(builder.state == BUILDING) {
+            // abandoned, or still to be used by its caller once this call
+            // returns: in both cases it is no longer the builder of the thread
+            builder = new ReusableLoggingEventBuilder();
+            THREAD_LOCAL_BUILDER.set(builder);
+        }
+        builder.state = BUILDING;
+        builder.logger = logger;
+        builder.loggingEvent.reset(level, logger);
+        return builder;
+    }
+
+    @Override
+    public LoggingEventBuilder setCause(Throwable cause) {
+        loggingEvent.setThrowable(cause);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addMarker(Marker marker) {
+        loggingEvent.addMarker(marker);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(Object p) {
+        loggingEvent.addArgument(p);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addArgument(Supplier<Object> objectSupplier) {
+        loggingEvent.addDeferredArgument(objectSupplier);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addKeyValue(String key, Object value) {
+        loggingEvent.addKeyValue(key, value);
+        return this;
+    }
+
+    @Override
+    public LoggingEventBuilder addKeyValue(String key, Supplier<Object> value) {
+        loggingEvent.addDeferredKeyValue(key, value);
+        return this;
+    }
+
+    @Override
+    public void log(String message) {
+        try {
+            state = LOGGING;
+            loggingEvent.setMessage(message);
+            DefaultLoggingEventBuilder.dispatch(logger, loggingEvent);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public void log(String message, Object arg) {
+        try {
+            state = LOGGING;
+            loggingEvent.setMessage(message);
+            loggingEvent.addArgument(arg);
+            DefaultLoggingEventBuilder.dispatch(logger, loggingEvent);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public void log(String message, Object arg0, Object arg1) {
+        try {
+            state = LOGGING;
+            loggingEvent.setMessage(message);
+            loggingEvent.addArgument(arg0);
+            loggingEvent.addArgument(arg1);
+            DefaultLoggingEventBuilder.dispatch(logger, loggingEvent);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public void log(String message, Object... args) {
+        try {
+            state = LOGGING;
+            loggingEvent.setMessage(message);
+            loggingEvent.addArguments(args);
+            DefaultLoggingEventBuilder.dispatch(logger, loggingEvent);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public void log(Supplier<String> messageSupplier) {
+        try {
+            state = LOGGING;
+            loggingEvent.setMessage(messageSupplier == null ? null : messageSupplier.get());
+            DefaultLoggingEventBuilder.dispatch(logger, loggingEvent);
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        loggingEvent.clear();
+        logger = null;
+        state = IDLE;
+    }
+}
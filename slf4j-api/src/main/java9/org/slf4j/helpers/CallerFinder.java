@@ -0,0 +1,49 @@
+package org.slf4j.helpers;
+
+import java.util.Optional;
+
+/**
+ * Finds the class which called the method invoking
+ * {@link Util#getCallingClass()}.
+ *
+ * <p>This implementation walks the stack with a {@link StackWalker}. Only the
+ * topmost frames are inspected, so that the cost does not depend on the depth
+ * of the stack.
+ *
+ * @since 2.0.0
+ */
+final class CallerFinder {
+
+    /**
+     * Maximum number of frames inspected. The frame of {@link Util} is at most
+     * a couple of frames below this class.
+     */
+    private static final int MAX_FRAMES = 16;
+
+    private static final StackWalker WALKER = safeCreateStackWalker();
+
+    private CallerFinder() {
+    }
+
+    private static StackWalker safeCreateStackWalker() {
+        try {
+            return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+        } catch (java.lang.SecurityException sm) {
+            return null;
+        }
+    }
+
+    static Class<?> getCallingClass() {
+        if(WALKER == null) {
+            return null;
+        }
+        Optional<Class<?>> callingClass = WALKER.walk(frames -> frames.limit(MAX_FRAMES)
+                        .<Class<?>>map(StackWalker.StackFrame::getDeclaringClass)
+                        .dropWhile(c -> c != Util.class)
+                        // skip Util and its caller
+                        .skip(2)
+                        .findFirst());
+        return callingClass.orElseThrow(() -> new IllegalStateException(
+                        "Failed to find org.slf4j.helpers.Util or its caller in the stack; " + "this should not happen"));
+    }
+}
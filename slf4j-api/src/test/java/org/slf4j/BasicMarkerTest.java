@@ -205,4 +205,149 @@ public class BasicMarkerTest {
         assertTrue(parent.remove(otherChild));
     }
 
+    @Test
+    public void testContainmentFollowsAddAndRemove() {
+        final String diffPrefix = "closure" + diff;
+        Marker security = factory.getMarker(diffPrefix + "SECURITY");
+        Marker audit = factory.getMarker(diffPrefix + "AUDIT");
+        Marker login = factory.getMarker(diffPrefix + "LOGIN");
+        Marker failedLogin = factory.getMarker(diffPrefix + "FAILED_LOGIN");
+        security.add(audit);
+        audit.add(login);
+        assertTrue(security.contains(login));
+        assertFalse(security.contains(failedLogin));
+        assertFalse(security.contains(failedLogin.getName()));
+
+        login.add(failedLogin);
+        assertTrue(security.contains(failedLogin));
+        assertTrue(security.contains(failedLogin.getName()));
+        assertTrue(audit.contains(failedLogin));
+
+        audit.remove(login);
+        assertFalse(security.contains(login));
+        assertFalse(security.contains(failedLogin.getName()));
+        assertTrue(login.contains(failedLogin));
+        assertFalse(security.contains(diffPrefix + "NEVER_CREATED"));
+    }
+
+    @Test
+    public void testContainmentFollowsChangesToUnreferencedMarkers() {
+        final String diffPrefix = "unreferenced" + diff;
+        Marker parent = factory.getMarker(diffPrefix + PARENT_MARKER_STR);
+        Marker child = factory.getMarker(diffPrefix + CHILD_MARKER_STR);
+        parent.add(child);
+        assertTrue(parent.contains(child));
+
+        // not referenced by any marker, its changes only affect itself
+        Marker combined = factory.getDetachedMarker(diffPrefix + "COMBINED");
+        combined.add(parent);
+        assertTrue(combined.contains(child));
+        assertTrue(parent.contains(child));
+        combined.remove(parent);
+        assertFalse(combined.contains(child));
+
+        // referenced by parent, its changes affect parent as well
+        Marker grandChild = factory.getMarker(diffPrefix + "GRAND_CHILD");
+        child.add(grandChild);
+        assertTrue(parent.contains(grandChild));
+        child.remove(grandChild);
+        assertFalse(parent.contains(grandChild));
+    }
+
+    @Test
+    public void testContainmentWithForeignMarker() {
+        final String diffPrefix = "foreign" + diff;
+        Marker parent = factory.getMarker(diffPrefix + PARENT_MARKER_STR);
+        Marker foreign = new ForeignMarker(factory.getDetachedMarker(diffPrefix + "FOREIGN"));
+        Marker child = factory.getMarker(diffPrefix + CHILD_MARKER_STR);
+        foreign.add(child);
+        parent.add(foreign);
+
+        assertTrue(parent.contains(foreign));
+        assertTrue(parent.contains(child));
+        assertTrue(parent.contains(diffPrefix + CHILD_MARKER_STR));
+        assertFalse(parent.contains(blue));
+    }
+
+    @Test
+    public void testContainmentOnceIdsAreExhausted() {
+        final String diffPrefix = "exhausted" + diff;
+        Marker parent = factory.getMarker(diffPrefix + PARENT_MARKER_STR);
+        Marker child = factory.getMarker(diffPrefix + CHILD_MARKER_STR);
+        parent.add(child);
+        assertTrue(parent.contains(child));
+
+        // more names than can be assigned an id
+        Marker last = null;
+        for (int i = 0; i < 2000; i++) {
+            Marker detached = factory.getDetachedMarker(diffPrefix + i);
+            if (last != null) {
+                detached.add(last);
+            }
+            assertTrue(detached.contains(detached));
+            last = detached;
+        }
+        last.add(parent);
+        assertTrue(last.contains(diffPrefix + 0));
+        assertTrue(last.contains(child));
+        assertTrue(last.contains(child.getName()));
+        assertFalse(last.contains(blue));
+        assertTrue(parent.contains(child));
+        assertFalse(parent.contains(last));
+    }
+
+    /**
+     * A {@link Marker} which is not a BasicMarker.
+     */
+    static class ForeignMarker implements Marker {
+        private static final long serialVersionUID = 1L;
+        final Marker delegate;
+
+        ForeignMarker(Marker delegate) {
+            this.delegate = delegate;
+        }
+
+        public String getName() {
+            return delegate.getName();
+        }
+
+        public void add(Marker reference) {
+            delegate.add(reference);
+        }
+
+        public boolean remove(Marker reference) {
+            return delegate.remove(reference);
+        }
+
+        @Deprecated
+        public boolean hasChildren() {
+            return delegate.hasReferences();
+        }
+
+        public boolean hasReferences() {
+            return delegate.hasReferences();
+        }
+
+        public Iterator<Marker> iterator() {
+            return delegate.iterator();
+        }
+
+        public boolean contains(Marker other) {
+            return delegate.contains(other);
+        }
+
+        public boolean contains(String name) {
+            return delegate.contains(name);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return delegate.equals(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate.hashCode();
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package org.slf4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.helpers.NOPServiceProvider;
+
+public class ExplicitProviderTest {
+
+    @After
+    public void tearDown() {
+        System.clearProperty(LoggerFactory.PROVIDER_PROPERTY_KEY);
+        LoggerFactory.reset();
+    }
+
+    @Test
+    public void providerIsInstantiatedDirectly() {
+        System.setProperty(LoggerFactory.PROVIDER_PROPERTY_KEY, NOPServiceProvider.class.getName());
+        LoggerFactory.reset();
+
+        LoggerFactory.getLogger(ExplicitProviderTest.class);
+        assertEquals(LoggerFactory.SUCCESSFUL_INITIALIZATION, LoggerFactory.INITIALIZATION_STATE);
+        assertTrue(LoggerFactory.PROVIDER instanceof NOPServiceProvider);
+    }
+
+    @Test
+    public void missingProviderFallsBackToDiscovery() {
+        System.setProperty(LoggerFactory.PROVIDER_PROPERTY_KEY, "com.example.MissingProvider");
+        assertNull(LoggerFactory.loadExplicitlySpecifiedProvider());
+
+        LoggerFactory.reset();
+        LoggerFactory.getLogger(ExplicitProviderTest.class);
+        // there are no providers on the class path of this module
+        assertEquals(LoggerFactory.NOP_FALLBACK_INITIALIZATION, LoggerFactory.INITIALIZATION_STATE);
+    }
+
+    @Test
+    public void classNotImplementingProviderIsIgnored() {
+        System.setProperty(LoggerFactory.PROVIDER_PROPERTY_KEY, String.class.getName());
+        assertNull(LoggerFactory.loadExplicitlySpecifiedProvider());
+    }
+}
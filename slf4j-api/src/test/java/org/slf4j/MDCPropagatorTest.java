@@ -0,0 +1,108 @@
+package org.slf4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.helpers.CopyOnWriteMDCAdapter;
+import org.slf4j.spi.MDCAdapter;
+
+@RunWith(Parameterized.class)
+public class MDCPropagatorTest {
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> adapters() {
+        return Arrays.asList(new Object[][] { { "basic", new BasicMDCAdapter() }, { "copyOnWrite", new CopyOnWriteMDCAdapter() } });
+    }
+
+    final MDCAdapter mdc;
+    final MDCPropagator propagator;
+    final ExecutorService worker = Executors.newSingleThreadExecutor();
+
+    public MDCPropagatorTest(String name, MDCAdapter mdc) {
+        this.mdc = mdc;
+        this.propagator = MDCPropagator.create(mdc);
+    }
+
+    @After
+    public void tearDown() {
+        worker.shutdownNow();
+        mdc.clear();
+    }
+
+    @Test
+    public void runnableSeesSubmitterContextAndRestoresWorkerContext() throws Exception {
+        worker.submit(() -> mdc.put("worker", "w")).get();
+
+        mdc.put("request", "r1");
+        Runnable task = propagator.wrapRunnable(() -> {
+            assertEquals("r1", mdc.get("request"));
+            assertNull(mdc.get("worker"));
+            mdc.put("written", "x");
+        });
+        mdc.put("request", "r2");
+        worker.submit(task).get();
+
+        AtomicReference<String> workerValue = new AtomicReference<>();
+        AtomicReference<String> requestValue = new AtomicReference<>();
+        worker.submit(() -> {
+            workerValue.set(mdc.get("worker"));
+            requestValue.set(mdc.get("request"));
+        }).get();
+        assertEquals("w", workerValue.get());
+        assertNull(requestValue.get());
+        assertEquals("r2", mdc.get("request"));
+        assertNull(mdc.get("written"));
+    }
+
+    @Test
+    public void wrappedExecutorServiceCapturesAtSubmission() throws Exception {
+        ExecutorService executor = propagator.wrapExecutorService(worker);
+        mdc.put("request", "r1");
+        assertEquals("r1", executor.submit(() -> mdc.get("request")).get());
+        assertEquals(Arrays.asList("r1", "r1"), Arrays.asList(executor.invokeAll(Arrays.asList(() -> mdc.get("request"), () -> mdc.get("request"))).get(0).get(),
+                        executor.invokeAny(Arrays.asList(() -> mdc.get("request")))));
+        mdc.clear();
+        assertNull(executor.submit(() -> mdc.get("request")).get());
+    }
+
+    @Test
+    public void wrappedScheduledExecutorService() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ScheduledExecutorService executor = propagator.wrapScheduledExecutorService(scheduler);
+            mdc.put("request", "r1");
+            assertEquals("r1", executor.schedule(() -> mdc.get("request"), 1, TimeUnit.MILLISECONDS).get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void wrappedSupplierWithCompletableFuture() throws Exception {
+        mdc.put("request", "r1");
+        String value = CompletableFuture.supplyAsync(propagator.wrapSupplier(() -> mdc.get("request")), propagator.wrapExecutor(worker)).get();
+        assertEquals("r1", value);
+    }
+
+    @Test
+    public void emptyContextIsPropagated() throws Exception {
+        worker.submit(() -> mdc.put("worker", "w")).get();
+        assertNull(worker.submit(propagator.wrapCallable(() -> mdc.get("worker"))).get());
+        assertEquals("w", worker.submit(() -> mdc.get("worker")).get());
+    }
+}
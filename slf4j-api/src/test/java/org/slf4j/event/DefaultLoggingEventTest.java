@@ -0,0 +1,89 @@
+package org.slf4j.event;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.slf4j.Marker;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.helpers.NOPLogger;
+import org.slf4j.spi.DefaultLoggingEventBuilder;
+
+public class DefaultLoggingEventTest {
+
+	AtomicInteger invocationCount = new AtomicInteger();
+
+	Supplier<Object> countingSupplier(Object value) {
+		return () -> {
+			invocationCount.incrementAndGet();
+			return value;
+		};
+	}
+
+	@Test
+	public void deferredArgumentsAreResolvedOnceOnDemand() {
+		DefaultLoggingEvent event = new DefaultLoggingEvent(Level.INFO, NOPLogger.NOP_LOGGER);
+		event.addArgument("a");
+		event.addDeferredArgument(countingSupplier("b"));
+		event.addArgument("c");
+		assertEquals(0, invocationCount.get());
+
+		assertArrayEquals(new Object[] { "a", "b", "c" }, event.getArgumentArray());
+		assertArrayEquals(new Object[] { "a", "b", "c" }, event.getArgumentArray());
+		assertEquals("b", event.getArguments().get(1));
+		assertEquals(1, invocationCount.get());
+	}
+
+	@Test
+	public void deferredKeyValuePairsAreResolvedOnceOnDemand() {
+		DefaultLoggingEvent event = new DefaultLoggingEvent(Level.INFO, NOPLogger.NOP_LOGGER);
+		event.addKeyValue("k0", "v0");
+		event.addDeferredKeyValue("k1", countingSupplier("v1"));
+		assertEquals(0, invocationCount.get());
+
+		List<KeyValuePair> kvpList = event.getKeyValuePairs();
+		assertEquals("k0", kvpList.get(0).key);
+		assertEquals("v0", kvpList.get(0).value);
+		assertEquals("k1", kvpList.get(1).key);
+		assertEquals("v1", kvpList.get(1).value);
+		event.getKeyValuePairs();
+		assertEquals(1, invocationCount.get());
+	}
+
+	@Test
+	public void disabledLoggerDoesNotResolveSuppliers() {
+		new DefaultLoggingEventBuilder(NOPLogger.NOP_LOGGER, Level.INFO).addArgument(countingSupplier("a"))
+				.addKeyValue("k", countingSupplier("v")).log("{}");
+		assertEquals(0, invocationCount.get());
+	}
+
+	@Test
+	public void markersKeepListSemantics() {
+		BasicMarkerFactory markerFactory = new BasicMarkerFactory();
+		Marker audit = markerFactory.getMarker("AUDIT");
+		Marker security = markerFactory.getMarker("SECURITY");
+		security.add(audit);
+		DefaultLoggingEvent event = new DefaultLoggingEvent(Level.INFO, NOPLogger.NOP_LOGGER);
+		event.addMarker(security);
+		event.addMarker(null);
+		event.addMarker(markerFactory.getMarker("OTHER"));
+		event.addMarker(markerFactory.getDetachedMarker("SECURITY"));
+
+		List<Marker> markers = event.getMarkers();
+		assertEquals(4, markers.size());
+		assertSame(security, markers.get(0));
+		assertNull(markers.get(1));
+		assertEquals(security, markers.get(3));
+		assertTrue(((MarkerList) markers).anyContains(audit));
+		assertTrue(((MarkerList) markers).anyContains("AUDIT"));
+		assertFalse(((MarkerList) markers).anyContains("NONE"));
+	}
+}
@@ -0,0 +1,123 @@
+package org.slf4j.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.helpers.SubstituteLogger;
+import org.slf4j.spi.DefaultLoggingEventBuilder;
+import org.slf4j.spi.ReusableLoggingEventBuilder;
+
+public class EventClockTest {
+
+	static class EventAwareLogger extends EventRecodingLogger implements LoggingEventAware {
+
+		private static final long serialVersionUID = 1L;
+
+		LoggingEvent lastEvent;
+		Instant lastInstant;
+		String lastThreadName;
+
+		EventAwareLogger(LinkedBlockingQueue<SubstituteLoggingEvent> queue) {
+			super(new SubstituteLogger("clock", queue, false), queue);
+		}
+
+		@Override
+		public void log(LoggingEvent event) {
+			lastEvent = event;
+			lastInstant = event.getInstant();
+			lastThreadName = event.getThreadName();
+		}
+	}
+
+	EventAwareLogger logger = new EventAwareLogger(new LinkedBlockingQueue<>());
+	EventClock originalClock;
+
+	@Before
+	public void setUp() {
+		originalClock = EventClocks.getClock();
+	}
+
+	@After
+	public void tearDown() {
+		EventClocks.setClock(originalClock);
+	}
+
+	@Test
+	public void builderStampsEventWithClockAndThreadName() {
+		Instant instant = Instant.ofEpochSecond(1_000_000, 123_456_789);
+		TestEventClock clock = new TestEventClock(instant);
+		EventClocks.setClock(clock);
+
+		new DefaultLoggingEventBuilder(logger, Level.INFO).log("hello");
+		assertEquals(instant, logger.lastInstant);
+		assertEquals(instant.toEpochMilli(), logger.lastEvent.getTimeStamp());
+		assertEquals(Thread.currentThread().getName(), logger.lastThreadName);
+
+		clock.advance(Duration.ofNanos(1));
+		ReusableLoggingEventBuilder.acquire(logger, Level.INFO).log("hello");
+		assertEquals(instant.plusNanos(1), logger.lastInstant);
+	}
+
+	@Test
+	public void millisecondClockYieldsMillisecondInstant() {
+		EventClocks.setClock(() -> 1234L);
+
+		new DefaultLoggingEventBuilder(logger, Level.INFO).log("hello");
+		assertEquals(1234L, logger.lastEvent.getTimeStamp());
+		assertEquals(Instant.ofEpochMilli(1234L), logger.lastInstant);
+	}
+
+	@Test
+	public void publicApiLoggersAreNotStamped() {
+		LinkedBlockingQueue<SubstituteLoggingEvent> queue = new LinkedBlockingQueue<>();
+		EventRecodingLogger recordingLogger = new EventRecodingLogger(new SubstituteLogger("clock", queue, false), queue);
+		EventClocks.setClock(() -> {
+			throw new AssertionError("clock should not be read");
+		});
+
+		new DefaultLoggingEventBuilder(recordingLogger, Level.INFO).log("hello");
+		assertEquals("hello", queue.poll().getMessage());
+	}
+
+	@Test
+	public void coarseClockTicks() throws InterruptedException {
+		CoarseEventClock clock = new CoarseEventClock(1);
+		try {
+			long start = clock.currentTimeMillis();
+			long deadline = System.currentTimeMillis() + 5000;
+			while (clock.currentTimeMillis() == start && System.currentTimeMillis() < deadline) {
+				Thread.sleep(5);
+			}
+			assertTrue(clock.currentTimeMillis() > start);
+		} finally {
+			clock.stop();
+		}
+	}
+
+	@Test
+	public void replacedCoarseClockIsStopped() throws InterruptedException {
+		CoarseEventClock clock = new CoarseEventClock(1);
+		EventClocks.setClock(clock);
+		assertTrue(clock.ticker.isAlive());
+
+		EventClocks.setClock(originalClock);
+		clock.ticker.join(5000);
+		assertFalse(clock.ticker.isAlive());
+	}
+
+	@Test
+	public void unsetTimeStampYieldsEpoch() {
+		DefaultLoggingEvent event = new DefaultLoggingEvent(Level.INFO, logger);
+		assertNull(event.getThreadName());
+		assertEquals(Instant.EPOCH, event.getInstant());
+	}
+}
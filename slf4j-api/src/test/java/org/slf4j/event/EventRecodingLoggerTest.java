@@ -73,6 +73,42 @@ public class EventRecodingLoggerTest {
 		verifyMessageWithoutMarker(level, null, null);
 	}
 
+	@Test
+	public void primitiveParameter() {
+		logger.trace("{}", 1);
+		verifyArguments(Level.TRACE, "{}", new Object[] { 1 }, null);
+		logger.debug("{}", 2L);
+		verifyArguments(Level.DEBUG, "{}", new Object[] { 2L }, null);
+		logger.info("{}", 3.5d);
+		verifyArguments(Level.INFO, "{}", new Object[] { 3.5d }, null);
+		logger.warn("{}", true);
+		verifyArguments(Level.WARN, "{}", new Object[] { true }, null);
+		logger.error("{}", 'c');
+		verifyArguments(Level.ERROR, "{}", new Object[] { 'c' }, null);
+		logger.error("{}", 1.5f);
+		verifyArguments(Level.ERROR, "{}", new Object[] { 1.5f }, null);
+	}
+
+	@Test
+	public void primitiveParameters() {
+		logger.info("processed {} rows in {} ms", 12, 345L);
+		verifyArguments(Level.INFO, "processed {} rows in {} ms", new Object[] { 12L, 345L }, null);
+		logger.info("{} {}", 5, 0.5d);
+		verifyArguments(Level.INFO, "{} {}", new Object[] { 5L, 0.5d }, null);
+		logger.info("{} {}", 1.1f, 2.5d);
+		verifyArguments(Level.INFO, "{} {}", new Object[] { 1.1f, 2.5d }, null);
+		logger.info("{} {}", 'c', 7);
+		verifyArguments(Level.INFO, "{} {}", new Object[] { 'c', 7L }, null);
+		logger.info("{} {}", true, 8);
+		verifyArguments(Level.INFO, "{} {}", new Object[] { true, 8L }, null);
+		logger.info("{} {}", Integer.valueOf(9), 10);
+		verifyArguments(Level.INFO, "{} {}", new Object[] { 9, 10L }, null);
+		logger.info("{} {}", 11, "eleven");
+		verifyArguments(Level.INFO, "{} {}", new Object[] { 11L, "eleven" }, null);
+		logger.error("failed for {}", 13, exception);
+		verifyArguments(Level.ERROR, "failed for {}", new Object[] { 13L }, exception);
+	}
+
 	@Test
 	public void oneParameter() {
 		for (Level level : Level.values()) {
@@ -490,6 +526,15 @@ public class EventRecodingLoggerTest {
 		verifyMessage(level, marker, threeParams, exception);
 	}
 
+	private void verifyArguments(Level level, String pattern, Object[] arguments, Throwable exception) {
+		assertEquals("missing event: ", 1, queue.size());
+		SubstituteLoggingEvent event = queue.poll();
+		assertEquals(level, event.getLevel());
+		assertEquals(pattern, event.getMessage());
+		assertArrayEquals(arguments, event.getArgumentArray());
+		assertEquals(exception, event.getThrowable());
+	}
+
 	private void verifyMessageWithoutMarker(Level level, Object[] arguments, Throwable exception) {
 		verifyMessage(level, null, arguments, exception);
 	}
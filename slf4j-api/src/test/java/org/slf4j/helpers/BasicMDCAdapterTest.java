@@ -27,9 +27,12 @@ package org.slf4j.helpers;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 
 import org.junit.After;
@@ -42,7 +45,11 @@ import org.slf4j.spi.MDCAdapter;
  * @author Lukasz Cwik
  */
 public class BasicMDCAdapterTest {
-    MDCAdapter mdc = new BasicMDCAdapter();
+    MDCAdapter mdc = createMDCAdapter();
+
+    MDCAdapter createMDCAdapter() {
+        return new BasicMDCAdapter();
+    }
 
     @After
     public void tearDown() throws Exception {
@@ -116,6 +123,76 @@ public class BasicMDCAdapterTest {
         assertEquals("parentValue", mdc.get("sharedKey"));
     }
 
+    @Test
+    public void testPushAndPopByKey() {
+        assertNull(mdc.popByKey("NDC"));
+        mdc.pushByKey("NDC", "a");
+        mdc.pushByKey("NDC", "b");
+        mdc.pushByKey("other", "x");
+        assertEquals(2, mdc.getDequeSizeByKey("NDC"));
+        assertEquals("b", mdc.peekByKey("NDC"));
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(mdc.getCopyOfDequeByKey("NDC")));
+        assertEquals("b", mdc.popByKey("NDC"));
+        assertEquals("a", mdc.popByKey("NDC"));
+        assertNull(mdc.popByKey("NDC"));
+        assertNull(mdc.getCopyOfDequeByKey("NDC"));
+        assertEquals("x", mdc.peekByKey("other"));
+    }
+
+    @Test
+    public void testDequesAreClearedWithMDC() {
+        mdc.pushByKey("NDC", "a");
+        mdc.clearDequeByKey("NDC");
+        assertEquals(0, mdc.getDequeSizeByKey("NDC"));
+        mdc.pushByKey("NDC", "a");
+        mdc.clear();
+        assertEquals(0, mdc.getDequeSizeByKey("NDC"));
+    }
+
+    @Test
+    public void testPutObject() {
+        mdc.putObject("count", 42);
+        assertEquals("42", mdc.get("count"));
+        assertEquals("42", mdc.getCopyOfContextMap().get("count"));
+    }
+
+    @Test
+    public void testObjectValuesAreStoredAsIs() {
+        BasicMDCAdapter basic = new BasicMDCAdapter();
+        Object value = new Object();
+        basic.putObject("object", value);
+        assertSame(value, basic.getObject("object"));
+        assertEquals(value.toString(), basic.get("object"));
+        basic.clear();
+    }
+
+    @Test
+    public void testDequesAreKeptInContextMap() throws Exception {
+        mdc.pushByKey("NDC", "a");
+        mdc.pushByKey("NDC", "b");
+        Map<String, String> copy = mdc.getCopyOfContextMap();
+        assertEquals("a", copy.get("NDC0"));
+        assertEquals("b", copy.get("NDC1"));
+
+        runAndWait(new Runnable() {
+            public void run() {
+                assertEquals("b", mdc.popByKey("NDC"));
+                assertEquals(1, mdc.getDequeSizeByKey("NDC"));
+            }
+        });
+        assertEquals(2, mdc.getDequeSizeByKey("NDC"));
+
+        Object snapshot = mdc.getContextSnapshot();
+        mdc.pushByKey("NDC", "c");
+        mdc.restoreContextSnapshot(snapshot);
+        assertEquals("b", mdc.peekByKey("NDC"));
+
+        mdc.remove("NDC1");
+        assertEquals(1, mdc.getDequeSizeByKey("NDC"));
+        mdc.setContextMap(copy);
+        assertEquals("b", mdc.popByKey("NDC"));
+    }
+
     private void runAndWait(Runnable runnable) throws Exception {
         RecordingExceptionHandler handler = new RecordingExceptionHandler();
         Thread thread = new Thread(runnable);
@@ -0,0 +1,87 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+import org.junit.Test;
+
+public class CachingDateFormatterTest {
+
+    static final long BASE = 1697535296000L; // 2023-10-17T09:34:56Z
+
+    void assertFormatsLike(String pattern) {
+        DateTimeFormatter reference = DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.of("Europe/Zurich"));
+        CachingDateFormatter formatter = new CachingDateFormatter(reference);
+        StringBuilder buf = new StringBuilder();
+        for (long t = BASE - 2500; t < BASE + 2500; t += 7) {
+            String expected = reference.format(Instant.ofEpochMilli(t));
+            assertEquals(pattern, expected, formatter.format(t));
+            buf.setLength(0);
+            buf.append('>');
+            formatter.formatTo(buf, t);
+            assertEquals(pattern, ">" + expected, buf.toString());
+        }
+    }
+
+    @Test
+    public void simpleDateFormatSemantics() {
+        String[] portable = { "yyyy-MM-dd HH:mm:ss.SSS", "HH:mm:ss,SSS Z", "yy/M/d h:mm a", "EEE, d MMM yyyy", "D 'day' ''yy", "kk:mm" };
+        for (String pattern : portable) {
+            assertTrue(pattern, CachingDateFormatter.hasSimpleDateFormatSemantics(pattern));
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern);
+            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.systemDefault());
+            for (long t = BASE - 2500; t < BASE + 2500; t += 7) {
+                assertEquals(pattern, simpleDateFormat.format(new Date(t)), dateTimeFormatter.format(Instant.ofEpochMilli(t)));
+            }
+        }
+        String[] differing = { "uuuu-MM-dd", "YYYY-MM-dd", "HH:mm:ss.SS", "HH:mm:ss.S", "MMMMM", "HH:mm [ss]", "zzz", "'unterminated" };
+        for (String pattern : differing) {
+            assertFalse(pattern, CachingDateFormatter.hasSimpleDateFormatSemantics(pattern));
+        }
+    }
+
+    @Test
+    public void millisArePatched() {
+        assertFormatsLike("yyyy-MM-dd HH:mm:ss.SSS");
+        assertFormatsLike("HH:mm:ss,SSS zzz");
+        assertFormatsLike("ssSSS");
+        assertFormatsLike("SSS");
+        assertFormatsLike("ss.SSSS");
+    }
+
+    @Test
+    public void withoutMillis() {
+        assertFormatsLike("yyyy/MM/dd HH:mm:ss");
+        assertFormatsLike("EEE, d MMM yyyy HH:mm:ss Z");
+    }
+
+    @Test
+    public void uncacheablePatterns() {
+        assertFormatsLike("HH:mm:ss.SS");
+        assertFormatsLike("A");
+        assertFormatsLike("HH:mm:ss.SSS A");
+    }
+
+    @Test
+    public void olderTimeStampsAfterNewerOnes() {
+        DateTimeFormatter reference = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.of("UTC"));
+        CachingDateFormatter formatter = new CachingDateFormatter(reference);
+        assertEquals("09:34:57.001", formatter.format(BASE + 1001));
+        assertEquals("09:34:55.999", formatter.format(BASE - 1));
+        assertEquals("09:34:57.002", formatter.format(BASE + 1002));
+    }
+
+    @Test
+    public void findMillisIndex() {
+        assertEquals(-1, CachingDateFormatter.findMillisIndex("12:00:00", "12:00:00"));
+        assertEquals(9, CachingDateFormatter.findMillisIndex("12:00:00.987", "12:00:00.654"));
+        assertEquals(-2, CachingDateFormatter.findMillisIndex("12:00:00.98", "12:00:00.65"));
+    }
+}
@@ -0,0 +1,113 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.slf4j.spi.MDCAdapter;
+
+/**
+ * Runs the {@link BasicMDCAdapterTest} tests against {@link CopyOnWriteMDCAdapter},
+ * plus tests specific to copy-on-write semantics.
+ */
+public class CopyOnWriteMDCAdapterTest extends BasicMDCAdapterTest {
+
+    @Override
+    MDCAdapter createMDCAdapter() {
+        return new CopyOnWriteMDCAdapter();
+    }
+
+    @Test
+    public void snapshotIsNotAffectedByLaterUpdates() {
+        mdc.put("k", "v1");
+        Map<String, String> snapshot = ((CopyOnWriteMDCAdapter) mdc).getContextMap();
+        mdc.put("k", "v2");
+        mdc.put("other", "x");
+        mdc.remove("k");
+
+        assertEquals(1, snapshot.size());
+        assertEquals("v1", snapshot.get("k"));
+        assertEquals("x", mdc.get("other"));
+        assertNull(mdc.get("k"));
+    }
+
+    @Test
+    public void snapshotIsInstalledWithoutCopy() {
+        CopyOnWriteMDCAdapter adapter = (CopyOnWriteMDCAdapter) mdc;
+        adapter.put("k", "v");
+        Map<String, String> snapshot = adapter.getContextMap();
+        adapter.clear();
+        adapter.setContextMap(snapshot);
+        assertSame(snapshot, adapter.getContextMap());
+    }
+
+    @Test
+    public void snapshotIsUnmodifiable() {
+        mdc.put("k", "v");
+        try {
+            ((CopyOnWriteMDCAdapter) mdc).getContextMap().put("k", "w");
+            fail("expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void copyOfContextMapIsModifiable() {
+        mdc.put("k", "v");
+        Map<String, String> copy = mdc.getCopyOfContextMap();
+        copy.put("k", "w");
+        assertEquals("v", mdc.get("k"));
+    }
+
+    @Test
+    public void objectValuesAreStoredAsIs() {
+        Object value = new Object();
+        for(int i = 0; i < 2 * CompactContextMap.MAX_ARRAY_SIZE; i++) {
+            mdc.putObject("object" + i, value);
+            assertSame(value, mdc.getObject("object0"));
+            assertEquals(value.toString(), mdc.get("object" + i));
+            assertEquals(value.toString(), mdc.getCopyOfContextMap().get("object0"));
+        }
+        Object snapshot = mdc.getContextSnapshot();
+        mdc.clear();
+        mdc.restoreContextSnapshot(snapshot);
+        assertSame(value, mdc.getObject("object1"));
+    }
+
+    @Test
+    public void largeMapsSwitchLayout() {
+        Map<String, String> expected = new HashMap<>();
+        for(int i = 0; i < 2 * CompactContextMap.MAX_ARRAY_SIZE; i++) {
+            mdc.put("k" + i, "v" + i);
+            expected.put("k" + i, "v" + i);
+            assertEquals(expected, mdc.getCopyOfContextMap());
+        }
+        for(int i = 0; i < 2 * CompactContextMap.MAX_ARRAY_SIZE; i++) {
+            mdc.remove("k" + i);
+            expected.remove("k" + i);
+            assertEquals(expected.isEmpty() ? null : expected, mdc.getCopyOfContextMap());
+        }
+    }
+
+    @Test
+    public void nullValuesAreRetained() {
+        mdc.put("k", null);
+        assertTrue(mdc.getCopyOfContextMap().containsKey("k"));
+        assertNull(mdc.get("k"));
+    }
+
+    @Test
+    public void setContextMapCopiesForeignMaps() {
+        Map<String, String> source = new HashMap<>();
+        source.put("a", "1");
+        mdc.setContextMap(source);
+        source.put("a", "2");
+        assertEquals("1", mdc.get("a"));
+    }
+}
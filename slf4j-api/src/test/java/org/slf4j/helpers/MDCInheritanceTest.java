@@ -0,0 +1,106 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.slf4j.spi.MDCAdapter;
+
+public class MDCInheritanceTest {
+
+    @Test
+    public void basicAdapterWithoutInheritance() throws Exception {
+        assertChildStartsEmpty(new BasicMDCAdapter(MDCInheritance.NONE));
+    }
+
+    @Test
+    public void copyOnWriteAdapterWithoutInheritance() throws Exception {
+        assertChildStartsEmpty(new CopyOnWriteMDCAdapter(MDCInheritance.NONE));
+    }
+
+    @Test
+    public void basicAdapterWithLazyInheritance() throws Exception {
+        assertChildSharesUntilWrite(new BasicMDCAdapter(MDCInheritance.LAZY));
+    }
+
+    @Test
+    public void copyOnWriteAdapterWithLazyInheritance() throws Exception {
+        assertChildSharesUntilWrite(new CopyOnWriteMDCAdapter(MDCInheritance.LAZY));
+    }
+
+    @Test
+    public void lazyInheritanceIsolatesSiblings() throws Exception {
+        MDCAdapter mdc = new BasicMDCAdapter(MDCInheritance.LAZY);
+        mdc.put("k", "parent");
+        AtomicReference<String> seenBySecond = new AtomicReference<>();
+        runAndWait(() -> mdc.put("k", "first"));
+        runAndWait(() -> seenBySecond.set(mdc.get("k")));
+        assertEquals("parent", seenBySecond.get());
+        assertEquals("parent", mdc.get("k"));
+        mdc.clear();
+    }
+
+    @Test
+    public void lazyInheritanceKeepsChildViewStableWhenParentWrites() throws Exception {
+        MDCAdapter mdc = new BasicMDCAdapter(MDCInheritance.LAZY);
+        mdc.put("k", "before");
+        CountDownLatch parentWrote = new CountDownLatch(1);
+        AtomicReference<Map<String, String>> childView = new AtomicReference<>();
+        Thread child = new Thread(() -> {
+            try {
+                parentWrote.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            childView.set(mdc.getCopyOfContextMap());
+        });
+        child.start();
+        mdc.put("k", "after");
+        mdc.remove("k");
+        parentWrote.countDown();
+        child.join();
+
+        assertEquals("before", childView.get().get("k"));
+        assertNull(mdc.get("k"));
+        mdc.clear();
+    }
+
+    private void assertChildStartsEmpty(MDCAdapter mdc) throws Exception {
+        mdc.put("k", "parent");
+        AtomicReference<Map<String, String>> childMap = new AtomicReference<>();
+        runAndWait(() -> childMap.set(mdc.getCopyOfContextMap()));
+        assertNull(childMap.get());
+        assertEquals("parent", mdc.get("k"));
+        mdc.clear();
+    }
+
+    private void assertChildSharesUntilWrite(MDCAdapter mdc) throws Exception {
+        mdc.put("k", "parent");
+        AtomicReference<String> inherited = new AtomicReference<>();
+        AtomicReference<String> written = new AtomicReference<>();
+        runAndWait(() -> {
+            inherited.set(mdc.get("k"));
+            mdc.put("k", "child");
+            mdc.put("other", "child");
+            written.set(mdc.get("k"));
+        });
+        assertEquals("parent", inherited.get());
+        assertEquals("child", written.get());
+        assertEquals("parent", mdc.get("k"));
+        assertNull(mdc.get("other"));
+
+        mdc.put("k", "parent2");
+        assertEquals("parent2", mdc.get("k"));
+        mdc.clear();
+    }
+
+    private static void runAndWait(Runnable runnable) throws InterruptedException {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        thread.join();
+    }
+}
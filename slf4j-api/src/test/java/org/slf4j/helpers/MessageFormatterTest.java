@@ -140,6 +140,21 @@ public class MessageFormatterTest {
         assertEquals("Value {} is smaller than 1", result);
     }
 
+    @Test
+    public void escapesFollowingLastBoundAnchorAreKeptVerbatim() {
+        result = MessageFormatter.format("Value {} is smaller than {} \\{}", i1, i2).getMessage();
+        assertEquals("Value 1 is smaller than 2 \\{}", result);
+
+        result = MessageFormatter.arrayFormat("Value {} is smaller than {} \\{}", new Object[] { i1, i2, i3 }).getMessage();
+        assertEquals("Value 1 is smaller than 2 {}", result);
+
+        result = MessageFormatter.format("Value {} \\{} {}", i1).getMessage();
+        assertEquals("Value 1 \\{} {}", result);
+
+        result = MessageFormatter.basicArrayFormat("No anchor \\{}", new Object[] { i1 });
+        assertEquals("No anchor {}", result);
+    }
+
     @Test
     public void testExceptionIn_toString() {
         Object o = new Object() {
@@ -327,4 +342,147 @@ public class MessageFormatterTest {
         assertEquals(t, ft.getThrowable());
 
     }
+
+    @Test
+    public void formatToAppendsToTarget() {
+        StringBuilder sb = new StringBuilder("prefix ");
+        assertNull(MessageFormatter.formatTo(sb, "Value is {}.", i3));
+        assertEquals("prefix Value is 3.", sb.toString());
+
+        sb.setLength(0);
+        assertNull(MessageFormatter.formatTo(sb, "Value {} is smaller than {}.", i1, i2));
+        assertEquals("Value 1 is smaller than 2.", sb.toString());
+
+        sb.setLength(0);
+        assertNull(MessageFormatter.formatTo(sb, "Value {} is smaller than {} and {}.", i1, i2, i3));
+        assertEquals("Value 1 is smaller than 2 and 3.", sb.toString());
+
+        sb.setLength(0);
+        assertNull(MessageFormatter.formatTo(sb, "Value {} is smaller than \\{} tail", i1, i2));
+        assertEquals("Value 1 is smaller than {} tail", sb.toString());
+
+        sb.setLength(0);
+        assertNull(MessageFormatter.formatTo(sb, "{}{}{}", i1));
+        assertEquals("1{}{}", sb.toString());
+
+        sb.setLength(0);
+        assertNull(MessageFormatter.formatTo(sb, null, i1));
+        assertEquals("null", sb.toString());
+    }
+
+    @Test
+    public void formatToReturnsThrowableCandidate() {
+        Throwable t = new Throwable();
+        StringBuilder sb = new StringBuilder();
+
+        assertSame(t, MessageFormatter.formatTo(sb, "Value is {}.", t));
+        assertEquals("Value is {}.", sb.toString());
+
+        sb.setLength(0);
+        assertSame(t, MessageFormatter.formatTo(sb, "Value {} is smaller than {}.", i1, t));
+        assertEquals("Value 1 is smaller than {}.", sb.toString());
+
+        sb.setLength(0);
+        Object[] ia = new Object[] { i1, i2, i3, t };
+        assertSame(t, MessageFormatter.formatTo(sb, "{}{}{}{}", ia));
+        assertEquals(MessageFormatter.arrayFormat("{}{}{}{}", ia).getMessage(), sb.toString());
+    }
+
+    @Test
+    public void formatToWithTwoThrowables() {
+        Throwable t1 = new IllegalStateException("first");
+        Throwable t2 = new Throwable("second");
+        StringBuilder sb = new StringBuilder();
+
+        FormattingTuple ft = MessageFormatter.format("x={}", t1, t2);
+        assertSame(t2, MessageFormatter.formatTo(sb, "x={}", t1, t2));
+        assertEquals(ft.getMessage(), sb.toString());
+        assertEquals("x=java.lang.IllegalStateException: first", sb.toString());
+        assertSame(ft.getThrowable(), t2);
+    }
+
+    @Test
+    public void formatToAppendable() throws Exception {
+        java.io.StringWriter sw = new java.io.StringWriter();
+        Throwable t = new Throwable();
+        assertSame(t, MessageFormatter.formatTo(sw, "Value {} is smaller than {} and {}.", i1, i2, i3, t));
+        assertEquals("Value 1 is smaller than 2 and 3.", sw.toString());
+    }
+
+    @Test
+    public void basicFormatToKeepsTrailingThrowable() {
+        StringBuilder sb = new StringBuilder();
+        Exception e = new Exception("x");
+        MessageFormatter.basicFormatTo(sb, "{} {}", new Object[] { i1, e });
+        assertEquals(MessageFormatter.basicArrayFormat("{} {}", new Object[] { i1, e }), sb.toString());
+    }
+
+    enum Color {
+        RED, GREEN {
+            @Override
+            public String toString() {
+                return "green";
+            }
+        }
+    }
+
+    @Test
+    public void scalarArguments() {
+        result = MessageFormatter.arrayFormat("{} {} {} {} {} {} {} {}",
+                        new Object[] { "s", 1, 2L, 3.5d, 4.5f, true, 'c', (short) 7 }).getMessage();
+        assertEquals("s 1 2 3.5 4.5 true c 7", result);
+
+        result = MessageFormatter.format("{} {}", Color.RED, Color.GREEN).getMessage();
+        assertEquals("RED green", result);
+
+        result = MessageFormatter.format("{} {}", new StringBuilder("sb"), new java.math.BigDecimal("1.10")).getMessage();
+        assertEquals("sb 1.10", result);
+    }
+
+    @Test
+    public void testExceptionInCharSequence() {
+        CharSequence cs = new CharSequence() {
+            public int length() {
+                return 3;
+            }
+
+            public char charAt(int index) {
+                if(index == 2) {
+                    throw new IllegalStateException("a");
+                }
+                return 'a';
+            }
+
+            public CharSequence subSequence(int start, int end) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        result = MessageFormatter.format("Troublesome object {}", cs).getMessage();
+        assertEquals("Troublesome object [FAILED toString()]", result);
+    }
+
+    @Test
+    public void sameArrayInSeveralArguments() {
+        Object[] a = new Object[] { i1, i2 };
+        result = MessageFormatter.arrayFormat("{} {} {}", new Object[] { a, a, new Object[] { a, a } }).getMessage();
+        assertEquals("[1, 2] [1, 2] [[1, 2], [1, 2]]", result);
+
+        StringBuilder sb = new StringBuilder();
+        MessageFormatter.formatTo(sb, "{} {}", a, a);
+        assertEquals("[1, 2] [1, 2]", sb.toString());
+    }
+
+    @Test
+    public void formatToPrimitive() {
+        StringBuilder sb = new StringBuilder();
+        MessageFormatter.formatTo(sb, "a={} ", 1);
+        MessageFormatter.formatTo(sb, "b={} ", 2L);
+        MessageFormatter.formatTo(sb, "c={} ", 3.5d);
+        MessageFormatter.formatTo(sb, "d={} ", true);
+        MessageFormatter.formatTo(sb, "e={} ", 'e');
+        MessageFormatter.formatTo(sb, "f={} ", 1.1f);
+        MessageFormatter.formatTo(sb, "g={} \\{}", 7);
+        MessageFormatter.formatTo(sb, " h \\{}", 8);
+        assertEquals("a=1 b=2 c=3.5 d=true e=e f=1.1 g=7 \\{} h {}", sb.toString());
+    }
 }
@@ -0,0 +1,83 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class MessagePatternCacheTest {
+
+    @Test
+    public void sameInstanceIsReturnedForSamePattern() {
+        MessagePatternCache cache = new MessagePatternCache(16);
+        String pattern = "a {} b {}";
+        MessagePattern mp0 = cache.get(pattern);
+        MessagePattern mp1 = cache.get(pattern);
+        assertSame(mp0, mp1);
+    }
+
+    @Test
+    public void cacheIsKeyedByIdentity() {
+        MessagePatternCache cache = new MessagePatternCache(16);
+        String pattern0 = "a {} b {}";
+        String pattern1 = new String(pattern0);
+        MessagePattern mp0 = cache.get(pattern0);
+        MessagePattern mp1 = cache.get(pattern1);
+        assertSame(pattern1, mp1.pattern);
+        assertNotSame(mp0, mp1);
+    }
+
+    @Test
+    public void dynamicPatternsDoNotEvictCachedPatterns() {
+        MessagePatternCache cache = new MessagePatternCache(1);
+        String constant = "constant {}";
+        MessagePattern cached = cache.get(constant);
+        for(int i = 0; i < 100; i++) {
+            String dynamic = "dynamic {} " + i;
+            assertSame(dynamic, cache.get(dynamic).pattern);
+            assertSame(cached, cache.get(constant));
+        }
+    }
+
+    @Test
+    public void patternIsAdmittedOnSecondMiss() {
+        MessagePatternCache cache = new MessagePatternCache(1);
+        cache.get("first {}");
+        String second = "second {}";
+        MessagePattern mp0 = cache.get(second);
+        MessagePattern mp1 = cache.get(second);
+        assertNotSame(mp0, mp1);
+        assertSame(mp1, cache.get(second));
+    }
+
+    @Test
+    public void capacityIsBounded() {
+        MessagePatternCache cache = new MessagePatternCache(5);
+        assertEquals(8, cache.capacity());
+        for(int i = 0; i < 10000; i++) {
+            String pattern = "dynamic {} " + i;
+            assertEquals(pattern.replace("{}", "x"), MessageFormatter.basicArrayFormat(pattern, new Object[] { "x" }));
+            cache.get(pattern);
+        }
+        assertEquals(8, cache.capacity());
+        assertEquals(MessagePatternCache.MAX_CACHE_SIZE, new MessagePatternCache(Integer.MAX_VALUE).capacity());
+    }
+
+    @Test
+    public void disabledCache() {
+        MessagePatternCache cache = new MessagePatternCache(0);
+        assertEquals(0, cache.capacity());
+        String pattern = "a {}";
+        assertNotSame(cache.get(pattern), cache.get(pattern));
+    }
+
+    @Test
+    public void escapesAreResolvedAtParseTime() {
+        MessagePattern mp = MessagePattern.parse("a \\{} b {} c C:\\\\{} d \\{}");
+        assertEquals(2, mp.getAnchorCount());
+        assertArrayEquals(new String[] { "a {} b ", " c C:\\" }, mp.segments);
+        assertEquals(" d {}", mp.tail);
+    }
+}
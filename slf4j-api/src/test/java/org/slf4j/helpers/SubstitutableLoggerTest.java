@@ -73,11 +73,32 @@ public class SubstitutableLoggerTest {
     private void invokeMethods(Logger proxyLogger) throws InvocationTargetException, IllegalAccessException {
         for (Method m : Logger.class.getDeclaredMethods()) {
         	if (!EXCLUDED_METHODS.contains(m.getName())) {
-                m.invoke(proxyLogger, new Object[m.getParameterTypes().length]);
+                m.invoke(proxyLogger, defaultArguments(m.getParameterTypes()));
             }
         }
     }
 
+    private static Object[] defaultArguments(Class<?>[] parameterTypes) {
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> type = parameterTypes[i];
+            if (type == int.class) {
+                args[i] = 0;
+            } else if (type == long.class) {
+                args[i] = 0L;
+            } else if (type == double.class) {
+                args[i] = 0d;
+            } else if (type == float.class) {
+                args[i] = 0f;
+            } else if (type == boolean.class) {
+                args[i] = false;
+            } else if (type == char.class) {
+                args[i] = 'c';
+            }
+        }
+        return args;
+    }
+
     private class LoggerInvocationHandler implements InvocationHandler {
         private final Set<String> invokedMethodSignatures = new HashSet<String>();
 
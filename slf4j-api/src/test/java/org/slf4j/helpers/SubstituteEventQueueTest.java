@@ -0,0 +1,112 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.slf4j.event.Level;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.SubstituteEventQueue.OverflowPolicy;
+
+public class SubstituteEventQueueTest {
+
+    static SubstituteLoggingEvent event(Level level, String message) {
+        SubstituteLoggingEvent event = new SubstituteLoggingEvent();
+        event.setLevel(level);
+        event.setMessage(message);
+        return event;
+    }
+
+    static List<String> messages(SubstituteEventQueue queue) {
+        List<String> messages = new ArrayList<>();
+        for (SubstituteLoggingEvent event : queue) {
+            messages.add(event.getMessage());
+        }
+        return messages;
+    }
+
+    @Test
+    public void dropNewest() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(2, OverflowPolicy.DROP_NEWEST, Level.INFO);
+        assertTrue(queue.add(event(Level.INFO, "a")));
+        assertTrue(queue.add(event(Level.INFO, "b")));
+        assertFalse(queue.add(event(Level.ERROR, "c")));
+        assertFalse(queue.offer(event(Level.ERROR, "d")));
+
+        assertEquals(Arrays.asList("a", "b"), messages(queue));
+        assertEquals(2, queue.getDroppedCount());
+    }
+
+    @Test
+    public void dropOldest() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(2, OverflowPolicy.DROP_OLDEST, Level.INFO);
+        queue.add(event(Level.INFO, "a"));
+        queue.add(event(Level.INFO, "b"));
+        assertTrue(queue.add(event(Level.INFO, "c")));
+
+        assertEquals(Arrays.asList("b", "c"), messages(queue));
+        assertEquals(1, queue.getDroppedCount());
+    }
+
+    @Test
+    public void dropBelowLevel() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(3, OverflowPolicy.DROP_BELOW_LEVEL, Level.WARN);
+        queue.add(event(Level.WARN, "a"));
+        queue.add(event(Level.DEBUG, "b"));
+        queue.add(event(Level.INFO, "c"));
+
+        // below the level, dropped
+        assertFalse(queue.add(event(Level.INFO, "d")));
+        // displaces the oldest event below the level
+        assertTrue(queue.add(event(Level.ERROR, "e")));
+        assertTrue(queue.add(event(Level.WARN, "f")));
+        // nothing left to displace
+        assertFalse(queue.add(event(Level.ERROR, "g")));
+
+        assertEquals(Arrays.asList("a", "e", "f"), messages(queue));
+        assertEquals(4, queue.getDroppedCount());
+    }
+
+    @Test
+    public void dropBelowLevelWhenFullOfEventsAtLevel() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(2, OverflowPolicy.DROP_BELOW_LEVEL, Level.WARN);
+        queue.add(event(Level.DEBUG, "a"));
+        queue.add(event(Level.WARN, "b"));
+        // a consumer takes the event below the level
+        assertEquals("a", queue.poll().getMessage());
+        queue.add(event(Level.ERROR, "c"));
+
+        assertFalse(queue.add(event(Level.ERROR, "d")));
+        assertFalse(queue.add(event(Level.DEBUG, "e")));
+        queue.poll();
+        assertTrue(queue.add(event(Level.DEBUG, "f")));
+        assertTrue(queue.add(event(Level.ERROR, "g")));
+
+        assertEquals(Arrays.asList("c", "g"), messages(queue));
+        assertEquals(3, queue.getDroppedCount());
+    }
+
+    @Test
+    public void unboundedByDefault() {
+        SubstituteEventQueue queue = SubstituteEventQueue.fromSystemProperties();
+        assertEquals(Integer.MAX_VALUE, queue.getCapacity());
+        assertEquals(Integer.MAX_VALUE, queue.remainingCapacity());
+    }
+
+    @Test
+    public void clearResetsDroppedCount() {
+        SubstituteEventQueue queue = new SubstituteEventQueue(1, OverflowPolicy.DROP_NEWEST, Level.INFO);
+        queue.add(event(Level.INFO, "a"));
+        queue.add(event(Level.INFO, "b"));
+        assertEquals(1, queue.getDroppedCount());
+
+        queue.clear();
+        assertEquals(0, queue.getDroppedCount());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+
+/**
+ * Hammers {@link SubstituteLoggerFactory#getLogger(String)} from many threads
+ * while the initialization phase ends, and reports the lookup throughput.
+ */
+public class SubstituteLoggerFactoryMultithreadedTest {
+
+    final static int THREAD_COUNT = 4 + Runtime.getRuntime().availableProcessors() * 2;
+    final static int LOGGER_COUNT = 256;
+    final static int LOOP_LEN = 20000;
+
+    final SubstituteLoggerFactory factory = new SubstituteLoggerFactory();
+    final CyclicBarrier barrier = new CyclicBarrier(THREAD_COUNT + 1);
+    final List<Logger> createdLoggers = Collections.synchronizedList(new ArrayList<Logger>());
+    final AtomicLong lookupCount = new AtomicLong();
+
+    class AccessingThread extends Thread {
+        final int index;
+
+        AccessingThread(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            try {
+                barrier.await();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            for (int i = 0; i < LOOP_LEN; i++) {
+                // a mix of existing and new loggers
+                Logger logger = factory.getLogger("logger-" + ((i * 31 + index) % (LOGGER_COUNT + i / 100)));
+                if (i % 512 == 0) {
+                    createdLoggers.add(logger);
+                }
+            }
+            lookupCount.addAndGet(LOOP_LEN);
+        }
+    }
+
+    @Test
+    public void allLoggersAreDelegatedAfterInitialization() throws Exception {
+        AccessingThread[] threads = new AccessingThread[THREAD_COUNT];
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            threads[i] = new AccessingThread(i);
+            threads[i].start();
+        }
+
+        barrier.await();
+        long start = System.nanoTime();
+        // end the initialization phase while lookups are in progress
+        Thread.yield();
+        factory.postInitialization(new NOPLoggerFactory());
+
+        for (AccessingThread thread : threads) {
+            thread.join();
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        System.out.println(THREAD_COUNT + " threads performed " + lookupCount.get() + " lookups in " + elapsedMillis + " ms ("
+                        + lookupCount.get() / elapsedMillis + " lookups/ms)");
+
+        for (SubstituteLogger logger : factory.getLoggers()) {
+            assertFalse("logger " + logger.getName() + " has no delegate", logger.isDelegateNull());
+        }
+        for (Logger logger : createdLoggers) {
+            assertSame(logger, factory.getLogger(logger.getName()));
+        }
+    }
+}
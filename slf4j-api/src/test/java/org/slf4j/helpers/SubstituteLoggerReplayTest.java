@@ -0,0 +1,134 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.slf4j.event.EventRecodingLogger;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.event.LoggingEventAware;
+import org.slf4j.event.SubstituteLoggingEvent;
+
+public class SubstituteLoggerReplayTest {
+
+    public static class EventAwareLogger extends NOPLogger implements LoggingEventAware {
+        private static final long serialVersionUID = 1L;
+        final List<LoggingEvent> events = new ArrayList<>();
+
+        @Override
+        public void log(LoggingEvent event) {
+            events.add(event);
+        }
+    }
+
+    /**
+     * Declares log(LoggingEvent) without implementing LoggingEventAware.
+     */
+    public static class LogMethodLogger extends NOPLogger {
+        private static final long serialVersionUID = 1L;
+        final List<LoggingEvent> events = new ArrayList<>();
+
+        public void log(LoggingEvent event) {
+            if (event.getMessage() == null) {
+                throw new IllegalArgumentException("null message");
+            }
+            events.add(event);
+        }
+    }
+
+    LinkedBlockingQueue<SubstituteLoggingEvent> queue = new LinkedBlockingQueue<>();
+    SubstituteLogger substituteLogger = new SubstituteLogger("replay", queue, false);
+
+    List<SubstituteLoggingEvent> recordEvents() {
+        substituteLogger.info("a {}", 1);
+        substituteLogger.warn("b", new Exception("boom"));
+        List<SubstituteLoggingEvent> recorded = new ArrayList<>();
+        queue.drainTo(recorded);
+        return recorded;
+    }
+
+    @Test
+    public void eventAwareDelegate() {
+        List<SubstituteLoggingEvent> recorded = recordEvents();
+        EventAwareLogger delegate = new EventAwareLogger();
+        substituteLogger.setDelegate(delegate);
+
+        assertTrue(substituteLogger.isDelegateEventAware());
+        substituteLogger.replay(recorded);
+        assertEquals(recorded, delegate.events);
+    }
+
+    @Test
+    public void delegateDeclaringLogMethod() {
+        List<SubstituteLoggingEvent> recorded = recordEvents();
+        LogMethodLogger delegate = new LogMethodLogger();
+        substituteLogger.setDelegate(delegate);
+
+        assertTrue(substituteLogger.isDelegateEventAware());
+        substituteLogger.replay(recorded);
+        assertEquals(recorded, delegate.events);
+
+        // failures are reported rather than propagated
+        substituteLogger.log(new SubstituteLoggingEvent());
+        assertEquals(2, delegate.events.size());
+    }
+
+    @Test
+    public void otherDelegatesAreReplayedViaPublicAPI() {
+        List<SubstituteLoggingEvent> recorded = recordEvents();
+        LinkedBlockingQueue<SubstituteLoggingEvent> targetQueue = new LinkedBlockingQueue<>();
+        SubstituteLogger target = new SubstituteLogger("target", targetQueue, false);
+        substituteLogger.setDelegate(new EventRecodingLogger(target, targetQueue));
+
+        assertFalse(substituteLogger.isDelegateEventAware());
+        substituteLogger.replay(recorded);
+
+        SubstituteLoggingEvent first = targetQueue.poll();
+        assertEquals(Level.INFO, first.getLevel());
+        assertEquals("a {}", first.getMessage());
+        assertArrayEquals(new Object[] { 1 }, first.getArgumentArray());
+
+        SubstituteLoggingEvent second = targetQueue.poll();
+        assertEquals(Level.WARN, second.getLevel());
+        assertEquals("b", second.getMessage());
+        assertSame(recorded.get(1).getThrowable(), second.getThrowable());
+        assertEquals(Arrays.asList(), Arrays.asList(second.getArgumentArray()));
+    }
+
+    @Test
+    public void allMarkersAreReplayedViaPublicAPI() {
+        Marker parent = MarkerFactory.getDetachedMarker("parent");
+        Marker child = MarkerFactory.getDetachedMarker("child");
+        parent.add(child);
+        Marker other = MarkerFactory.getDetachedMarker("other");
+        SubstituteLoggingEvent event = new SubstituteLoggingEvent();
+        event.setLevel(Level.INFO);
+        event.setMessage("m");
+        event.addMarker(parent);
+        event.addMarker(other);
+        LinkedBlockingQueue<SubstituteLoggingEvent> targetQueue = new LinkedBlockingQueue<>();
+        SubstituteLogger target = new SubstituteLogger("target", targetQueue, false);
+        substituteLogger.setDelegate(new EventRecodingLogger(target, targetQueue));
+
+        substituteLogger.replay(Arrays.asList(event));
+
+        List<Marker> markers = targetQueue.poll().getMarkers();
+        assertEquals(1, markers.size());
+        Marker combined = markers.get(0);
+        assertEquals("parent", combined.getName());
+        assertTrue(combined.contains(parent));
+        assertTrue(combined.contains(child));
+        assertTrue(combined.contains(other));
+    }
+}
@@ -0,0 +1,30 @@
+package org.slf4j.helpers;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class UtilTest {
+
+    static class Callee {
+        static Class<?> whoCalledMe() {
+            return Util.getCallingClass();
+        }
+    }
+
+    @Test
+    public void callingClass() {
+        assertEquals(UtilTest.class, Callee.whoCalledMe());
+    }
+
+    @Test
+    public void callingClassFromAnonymousClass() {
+        Object caller = new Object() {
+            @Override
+            public String toString() {
+                return Callee.whoCalledMe().getName();
+            }
+        };
+        assertEquals(caller.getClass().getName(), caller.toString());
+    }
+}
@@ -0,0 +1,230 @@
+package org.slf4j.spi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.event.DefaultLoggingEvent;
+import org.slf4j.event.EventRecodingLogger;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.event.LoggingEventAware;
+import org.slf4j.event.ReusableLoggingEvent;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.helpers.SubstituteLogger;
+
+public class ReusableLoggingEventBuilderTest {
+
+    static class EventAwareLogger extends EventRecodingLogger implements LoggingEventAware {
+
+        private static final long serialVersionUID = 1L;
+
+        List<LoggingEvent> received = new ArrayList<>();
+        List<DefaultLoggingEvent> snapshots = new ArrayList<>();
+
+        EventAwareLogger(LinkedBlockingQueue<SubstituteLoggingEvent> queue) {
+            super(new SubstituteLogger("reusable", queue, false), queue);
+        }
+
+        @Override
+        public void log(LoggingEvent event) {
+            received.add(event);
+            if(event instanceof ReusableLoggingEvent) {
+                snapshots.add(((ReusableLoggingEvent) event).snapshot());
+            } else {
+                snapshots.add((DefaultLoggingEvent) event);
+            }
+        }
+
+        @Override
+        public boolean acceptsReusableEvents() {
+            return true;
+        }
+    }
+
+    static class RetainingLogger extends EventRecodingLogger implements LoggingEventAware {
+
+        private static final long serialVersionUID = 1L;
+
+        List<LoggingEvent> received = new ArrayList<>();
+
+        RetainingLogger(LinkedBlockingQueue<SubstituteLoggingEvent> queue) {
+            super(new SubstituteLogger("retaining", queue, false), queue);
+        }
+
+        @Override
+        public void log(LoggingEvent event) {
+            received.add(event);
+        }
+    }
+
+    LinkedBlockingQueue<SubstituteLoggingEvent> queue = new LinkedBlockingQueue<>();
+    EventAwareLogger eventAwareLogger = new EventAwareLogger(queue);
+
+    @Test
+    public void builderIsReusedByTheSameThread() {
+        LoggingEventBuilder first = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        first.log("first");
+        LoggingEventBuilder second = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        second.log("second");
+
+        assertSame(first, second);
+        assertSame(eventAwareLogger.received.get(0), eventAwareLogger.received.get(1));
+        assertEquals("first", eventAwareLogger.snapshots.get(0).getMessage());
+        assertEquals("second", eventAwareLogger.snapshots.get(1).getMessage());
+    }
+
+    @Test
+    public void snapshotSurvivesReuse() {
+        BasicMarkerFactory markerFactory = new BasicMarkerFactory();
+        ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.WARN).addMarker(markerFactory.getMarker("M"))
+                        .addKeyValue("k", "v").addKeyValue("d", () -> "deferred").addArgument(() -> "b")
+                        .log("{} {} {}", "a", "c");
+        ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO).log("other");
+
+        DefaultLoggingEvent snapshot = eventAwareLogger.snapshots.get(0);
+        assertEquals(Level.WARN, snapshot.getLevel());
+        assertEquals("{} {} {}", snapshot.getMessage());
+        assertArrayEquals(new Object[] { "b", "a", "c" }, snapshot.getArgumentArray());
+        assertEquals("M", snapshot.getMarkers().get(0).getName());
+        assertEquals(2, snapshot.getKeyValuePairs().size());
+        assertEquals("deferred", snapshot.getKeyValuePairs().get(1).value);
+
+        // the reused event drops its references once the call returns
+        LoggingEvent reused = eventAwareLogger.received.get(0);
+        assertSame(reused, eventAwareLogger.received.get(1));
+        assertNull(reused.getMessage());
+        assertNull(reused.getArguments());
+        assertNull(reused.getMarkers());
+        assertNull(reused.getKeyValuePairs());
+    }
+
+    @Test
+    public void loggersNotAcceptingReusableEventsReceiveSnapshots() {
+        RetainingLogger retainingLogger = new RetainingLogger(queue);
+        LoggingEventBuilder first = ReusableLoggingEventBuilder.acquire(retainingLogger, Level.INFO);
+        first.addKeyValue("k", "v").log("first {}", "a");
+        LoggingEventBuilder second = ReusableLoggingEventBuilder.acquire(retainingLogger, Level.WARN);
+        second.log("second");
+
+        assertSame(first, second);
+        LoggingEvent retained = retainingLogger.received.get(0);
+        assertTrue(retained instanceof DefaultLoggingEvent);
+        assertEquals(Level.INFO, retained.getLevel());
+        assertEquals("first {}", retained.getMessage());
+        assertArrayEquals(new Object[] { "a" }, retained.getArgumentArray());
+        assertEquals("v", retained.getKeyValuePairs().get(0).value);
+        assertNotNull(retained.getThreadName());
+        assertEquals("second", retainingLogger.received.get(1).getMessage());
+    }
+
+    @Test
+    public void nestedCallsUseFreshBuilder() {
+        LoggingEventBuilder outer = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        outer.addArgument(() -> {
+            LoggingEventBuilder inner = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.DEBUG);
+            assertTrue(inner instanceof DefaultLoggingEventBuilder);
+            inner.log("inner");
+            return "value";
+        });
+        outer.log("outer {}");
+
+        assertEquals(2, eventAwareLogger.snapshots.size());
+        assertEquals("inner", eventAwareLogger.snapshots.get(0).getMessage());
+        assertEquals("outer {}", eventAwareLogger.snapshots.get(1).getMessage());
+        LoggingEventBuilder next = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        next.log("next");
+        assertSame(outer, next);
+    }
+
+    @Test
+    public void builderIsReleasedWhenSupplierThrows() {
+        LoggingEventBuilder builder = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        try {
+            builder.log(() -> {
+                throw new IllegalStateException();
+            });
+            fail("expected IllegalStateException");
+        } catch (IllegalStateException e) {
+        }
+        LoggingEventBuilder next = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        next.log("next");
+        assertSame(builder, next);
+    }
+
+    @Test
+    public void abandonedBuilderIsReplaced() {
+        LoggingEventBuilder abandoned = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        try {
+            abandoned.addArgument("a").addArgument(compute());
+            fail("expected IllegalStateException");
+        } catch (IllegalStateException e) {
+        }
+
+        LoggingEventBuilder next = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        assertTrue(next instanceof ReusableLoggingEventBuilder);
+        assertNotSame(abandoned, next);
+        next.log("next");
+        LoggingEventBuilder recycled = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        recycled.log("recycled");
+
+        assertSame(next, recycled);
+        assertEquals("next", eventAwareLogger.snapshots.get(0).getMessage());
+        assertNull(eventAwareLogger.snapshots.get(0).getArgumentArray());
+        assertEquals("recycled", eventAwareLogger.snapshots.get(1).getMessage());
+    }
+
+    private static Object compute() {
+        throw new IllegalStateException();
+    }
+
+    @Test
+    public void fluentCallInArgumentExpression() {
+        LoggingEventBuilder outer = ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO);
+        outer.addArgument(computeWhileLogging()).log("outer {}");
+
+        assertEquals(2, eventAwareLogger.snapshots.size());
+        assertEquals("inner", eventAwareLogger.snapshots.get(0).getMessage());
+        assertEquals("outer {}", eventAwareLogger.snapshots.get(1).getMessage());
+        assertArrayEquals(new Object[] { "value" }, eventAwareLogger.snapshots.get(1).getArgumentArray());
+    }
+
+    private Object computeWhileLogging() {
+        ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.DEBUG).log("inner");
+        return "value";
+    }
+
+    @Test
+    public void argumentsOutgrowInitialCapacity() {
+        ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO).log("many", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO).log("two", 0, 1);
+
+        assertArrayEquals(new Object[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }, eventAwareLogger.snapshots.get(0).getArgumentArray());
+        assertArrayEquals(new Object[] { 0, 1 }, eventAwareLogger.snapshots.get(1).getArgumentArray());
+    }
+
+    @Test
+    public void publicApiLoggersReceiveIndependentArguments() {
+        Logger recordingLogger = new EventRecodingLogger(new SubstituteLogger("recording", queue, false), queue);
+        ReusableLoggingEventBuilder.acquire(recordingLogger, Level.INFO).log("{}", "a");
+        ReusableLoggingEventBuilder.acquire(recordingLogger, Level.INFO).log("{}", "b");
+
+        SubstituteLoggingEvent first = queue.poll();
+        SubstituteLoggingEvent second = queue.poll();
+        assertNotSame(first.getArgumentArray(), second.getArgumentArray());
+        assertArrayEquals(new Object[] { "a" }, first.getArgumentArray());
+        assertArrayEquals(new Object[] { "b" }, second.getArgumentArray());
+    }
+}
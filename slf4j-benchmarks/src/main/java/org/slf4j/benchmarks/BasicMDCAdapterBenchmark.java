@@ -0,0 +1,85 @@
+package org.slf4j.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.helpers.CopyOnWriteMDCAdapter;
+import org.slf4j.spi.MDCAdapter;
+
+/**
+ * Measures put, get and snapshot operations on {@link BasicMDCAdapter} and
+ * {@link CopyOnWriteMDCAdapter}. The context holds a handful of entries, as is
+ * typical for request-scoped MDC. The <code>handOff</code> benchmark captures
+ * and installs a snapshot, as done when passing the context to another task.
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BasicMDCAdapterBenchmark {
+
+    @Param({ "basic", "copyOnWrite" })
+    String adapter;
+
+    MDCAdapter mdcAdapter;
+
+    Map<String, String> snapshot;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        mdcAdapter = "copyOnWrite".equals(adapter) ? new CopyOnWriteMDCAdapter() : new BasicMDCAdapter();
+        mdcAdapter.put("requestId", "4f1d9a7e");
+        mdcAdapter.put("user", "alice");
+        mdcAdapter.put("tenant", "acme");
+        mdcAdapter.put("route", "/api/orders");
+        snapshot = mdcAdapter.getCopyOfContextMap();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        mdcAdapter.clear();
+    }
+
+    @Benchmark
+    public void put() {
+        mdcAdapter.put("user", "bob");
+    }
+
+    @Benchmark
+    public String get() {
+        return mdcAdapter.get("requestId");
+    }
+
+    @Benchmark
+    public Map<String, String> getCopyOfContextMap() {
+        return mdcAdapter.getCopyOfContextMap();
+    }
+
+    @Benchmark
+    public void setContextMap() {
+        mdcAdapter.setContextMap(snapshot);
+    }
+
+    @Benchmark
+    public void handOff() {
+        mdcAdapter.restoreContextSnapshot(mdcAdapter.getContextSnapshot());
+    }
+}
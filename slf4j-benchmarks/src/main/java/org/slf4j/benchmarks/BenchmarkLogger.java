@@ -0,0 +1,70 @@
+package org.slf4j.benchmarks;
+
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * A minimal {@link LegacyAbstractLogger} used as the subject of benchmarks. It
+ * formats enabled calls with {@link MessageFormatter} and retains the result so
+ * that the work cannot be eliminated by the JIT, but performs no I/O.
+ *
+ * @since 2.0
+ */
+public class BenchmarkLogger extends LegacyAbstractLogger {
+
+    private static final long serialVersionUID = 5347286153627148567L;
+
+    final int threshold;
+
+    /**
+     * Last formatted message, read by benchmarks in order to defeat dead code
+     * elimination.
+     */
+    public String lastMessage;
+
+    public BenchmarkLogger(String name, Level threshold) {
+        this.name = name;
+        this.threshold = threshold.toInt();
+    }
+
+    private boolean isLevelEnabled(Level level) {
+        return level.toInt() >= threshold;
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return isLevelEnabled(Level.TRACE);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return isLevelEnabled(Level.DEBUG);
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return isLevelEnabled(Level.INFO);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return isLevelEnabled(Level.WARN);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return isLevelEnabled(Level.ERROR);
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String msg, Object[] arguments, Throwable throwable) {
+        lastMessage = MessageFormatter.basicArrayFormat(msg, arguments);
+    }
+}
@@ -0,0 +1,76 @@
+package org.slf4j.benchmarks;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.CachingDateFormatter;
+
+/**
+ * Compares formatting the current time with a {@link SimpleDateFormat} shared
+ * under a lock, as SimpleLogger used to, with a {@link CachingDateFormatter}.
+ * Run with several threads, e.g. <code>-t 4</code>, to see the contention on
+ * the shared format.
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DateFormatBenchmark {
+
+    @Param({ "yyyy-MM-dd HH:mm:ss.SSS", "HH:mm:ss" })
+    String pattern;
+
+    DateFormat dateFormat;
+    CachingDateFormatter cachingDateFormatter;
+
+    @Setup
+    public void setUp() {
+        dateFormat = new SimpleDateFormat(pattern);
+        cachingDateFormatter = new CachingDateFormatter(pattern);
+    }
+
+    @Benchmark
+    public String synchronizedSimpleDateFormat() {
+        Date now = new Date();
+        synchronized (dateFormat) {
+            return dateFormat.format(now);
+        }
+    }
+
+    @Benchmark
+    public String cachingDateFormatter() {
+        return cachingDateFormatter.format(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public int cachingDateFormatterFormatTo(ThreadBuffer threadBuffer) {
+        StringBuilder buf = threadBuffer.buf;
+        buf.setLength(0);
+        cachingDateFormatter.formatTo(buf, System.currentTimeMillis());
+        return buf.length();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadBuffer {
+        StringBuilder buf = new StringBuilder(64);
+    }
+}
@@ -0,0 +1,72 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+
+/**
+ * Measures calls on an {@link org.slf4j.helpers.AbstractLogger} for which the
+ * requested level is disabled. These calls should cost a level check and
+ * nothing else, in particular they should not allocate.
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DisabledLoggerBenchmark {
+
+    final BenchmarkLogger logger = new BenchmarkLogger(DisabledLoggerBenchmark.class.getName(), Level.WARN);
+
+    String stringArg = "world";
+    Integer integerArg = 42;
+    long longArg = 123456789L;
+    Object[] varArgs = new Object[] { "a", "b", "c" };
+
+    @Benchmark
+    public void noArg() {
+        logger.debug("hello world");
+    }
+
+    @Benchmark
+    public void oneArg() {
+        logger.debug("hello {}", stringArg);
+    }
+
+    @Benchmark
+    public void oneLongArg() {
+        logger.debug("processed {} rows", longArg);
+    }
+
+    @Benchmark
+    public void twoLongArgs() {
+        logger.debug("processed {} rows in {} ms", longArg, longArg);
+    }
+
+    @Benchmark
+    public void twoArgs() {
+        logger.debug("hello {} {}", stringArg, integerArg);
+    }
+
+    @Benchmark
+    public void varArgs() {
+        logger.debug("hello {} {} {}", stringArg, integerArg, stringArg);
+    }
+
+    @Benchmark
+    public void arrayArgs() {
+        logger.debug("hello {} {} {}", varArgs);
+    }
+}
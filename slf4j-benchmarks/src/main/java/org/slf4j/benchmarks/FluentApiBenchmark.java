@@ -0,0 +1,101 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+import org.slf4j.event.LoggingEvent;
+import org.slf4j.event.LoggingEventAware;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.spi.ReusableLoggingEventBuilder;
+
+/**
+ * Measures the fluent API, i.e. <code>atInfo().addKeyValue(..).log(..)</code>
+ * calls going through {@link org.slf4j.spi.DefaultLoggingEventBuilder}, both for
+ * loggers which are {@link LoggingEventAware} and for loggers which are reached
+ * via the public Logger API.
+ *
+ * <p>The <code>reusable</code> benchmarks obtain their builder from
+ * {@link ReusableLoggingEventBuilder} directly, which is what
+ * <code>atInfo()</code> does when the
+ * {@value ReusableLoggingEventBuilder#RECYCLE_EVENTS_PROPERTY} system property
+ * is set.
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FluentApiBenchmark {
+
+    static class EventAwareBenchmarkLogger extends BenchmarkLogger implements LoggingEventAware {
+
+        private static final long serialVersionUID = -2916281045624585618L;
+
+        EventAwareBenchmarkLogger(String name, Level threshold) {
+            super(name, threshold);
+        }
+
+        @Override
+        public void log(LoggingEvent event) {
+            lastMessage = MessageFormatter.basicArrayFormat(event.getMessage(), event.getArgumentArray());
+        }
+
+        @Override
+        public boolean acceptsReusableEvents() {
+            return true;
+        }
+    }
+
+    final BenchmarkLogger publicApiLogger = new BenchmarkLogger(FluentApiBenchmark.class.getName(), Level.INFO);
+    final BenchmarkLogger eventAwareLogger = new EventAwareBenchmarkLogger(FluentApiBenchmark.class.getName(), Level.INFO);
+
+    String stringArg = "world";
+    Integer integerArg = 42;
+
+    @Benchmark
+    public void disabled() {
+        publicApiLogger.atDebug().addKeyValue("k", stringArg).log("hello {}", integerArg);
+    }
+
+    @Benchmark
+    public String publicApi() {
+        publicApiLogger.atInfo().addKeyValue("k", stringArg).log("hello {}", integerArg);
+        return publicApiLogger.lastMessage;
+    }
+
+    @Benchmark
+    public String eventAware() {
+        eventAwareLogger.atInfo().addKeyValue("k", stringArg).log("hello {}", integerArg);
+        return eventAwareLogger.lastMessage;
+    }
+
+    @Benchmark
+    public String eventAwareSupplier() {
+        eventAwareLogger.atInfo().addKeyValue("k", () -> stringArg).addArgument(() -> integerArg).log("hello {}");
+        return eventAwareLogger.lastMessage;
+    }
+
+    @Benchmark
+    public String reusablePublicApi() {
+        ReusableLoggingEventBuilder.acquire(publicApiLogger, Level.INFO).addKeyValue("k", stringArg).log("hello {}", integerArg);
+        return publicApiLogger.lastMessage;
+    }
+
+    @Benchmark
+    public String reusableEventAware() {
+        ReusableLoggingEventBuilder.acquire(eventAwareLogger, Level.INFO).addKeyValue("k", stringArg).log("hello {}", integerArg);
+        return eventAwareLogger.lastMessage;
+    }
+}
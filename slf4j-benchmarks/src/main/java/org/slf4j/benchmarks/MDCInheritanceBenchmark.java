@@ -0,0 +1,63 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.BasicMDCAdapter;
+import org.slf4j.helpers.MDCInheritance;
+
+/**
+ * Measures the cost of creating a thread while the creating thread holds an
+ * MDC context, for each {@link MDCInheritance} mode of
+ * {@link BasicMDCAdapter}. Inherited values are computed when the thread is
+ * constructed, so threads are not started.
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MDCInheritanceBenchmark {
+
+    static final Runnable NO_OP = () -> {
+    };
+
+    @Param({ "COPY", "NONE", "LAZY" })
+    MDCInheritance inheritance;
+
+    BasicMDCAdapter mdcAdapter;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        mdcAdapter = new BasicMDCAdapter(inheritance);
+        mdcAdapter.put("requestId", "4f1d9a7e");
+        mdcAdapter.put("user", "alice");
+        mdcAdapter.put("tenant", "acme");
+        mdcAdapter.put("route", "/api/orders");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        mdcAdapter.clear();
+    }
+
+    @Benchmark
+    public Thread createThread() {
+        return new Thread(NO_OP);
+    }
+}
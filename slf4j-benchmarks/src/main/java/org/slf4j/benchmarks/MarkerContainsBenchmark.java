@@ -0,0 +1,67 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Marker;
+import org.slf4j.helpers.BasicMarkerFactory;
+
+/**
+ * Measures {@link Marker#contains(Marker)} and {@link Marker#contains(String)}
+ * on a three level hierarchy, as evaluated by marker based filters for each
+ * event.
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MarkerContainsBenchmark {
+
+    Marker root;
+    Marker leaf;
+    Marker unrelated;
+
+    @Setup
+    public void setUp() {
+        BasicMarkerFactory factory = new BasicMarkerFactory();
+        root = factory.getMarker("SECURITY");
+        for(int i = 0; i < 4; i++) {
+            Marker child = factory.getMarker("SECURITY_" + i);
+            root.add(child);
+            for(int j = 0; j < 4; j++) {
+                Marker grandChild = factory.getMarker("SECURITY_" + i + "_" + j);
+                child.add(grandChild);
+                leaf = grandChild;
+            }
+        }
+        unrelated = factory.getMarker("UNRELATED");
+    }
+
+    @Benchmark
+    public boolean containsLeaf() {
+        return root.contains(leaf);
+    }
+
+    @Benchmark
+    public boolean containsUnrelated() {
+        return root.contains(unrelated);
+    }
+
+    @Benchmark
+    public boolean containsLeafByName() {
+        return root.contains("SECURITY_3_3");
+    }
+}
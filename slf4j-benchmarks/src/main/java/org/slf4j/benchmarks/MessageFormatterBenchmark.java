@@ -0,0 +1,102 @@
+package org.slf4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.FormattingTuple;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Measures enabled logging calls, i.e. calls which end up formatting their
+ * message through {@link MessageFormatter#arrayFormat(String, Object[])}.
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageFormatterBenchmark {
+
+    final BenchmarkLogger logger = new BenchmarkLogger(MessageFormatterBenchmark.class.getName(), Level.DEBUG);
+
+    String stringArg = "world";
+    Integer integerArg = 42;
+    Object[] argArray = new Object[] { "a", 1, Boolean.TRUE };
+    Object[] argArrayWithThrowable = new Object[] { "a", 1, new Exception("test") };
+    Object[] nestedArrayArg = new Object[] { new int[] { 1, 2, 3 }, new Object[] { "x", "y" } };
+    StringBuilder buffer = new StringBuilder(256);
+
+    @Benchmark
+    public FormattingTuple arrayFormat() {
+        return MessageFormatter.arrayFormat("a={} b={} c={}", argArray);
+    }
+
+    @Benchmark
+    public FormattingTuple arrayFormatWithThrowable() {
+        return MessageFormatter.arrayFormat("a={} b={}", argArrayWithThrowable);
+    }
+
+    @Benchmark
+    public FormattingTuple arrayFormatNestedArrays() {
+        return MessageFormatter.arrayFormat("ints={} objects={}", nestedArrayArg);
+    }
+
+    @Benchmark
+    public String basicArrayFormat() {
+        return MessageFormatter.basicArrayFormat("a={} b={} c={}", argArray);
+    }
+
+    @Benchmark
+    public StringBuilder formatTo() {
+        buffer.setLength(0);
+        MessageFormatter.formatTo(buffer, "a={} b={} c={}", argArray);
+        return buffer;
+    }
+
+    @Benchmark
+    public StringBuilder formatToTwoArgs() {
+        buffer.setLength(0);
+        MessageFormatter.formatTo(buffer, "hello {} {}", stringArg, integerArg);
+        return buffer;
+    }
+
+    /**
+     * A pattern built for each call, which is never cached.
+     */
+    @Benchmark
+    public StringBuilder formatToDynamicPattern() {
+        buffer.setLength(0);
+        MessageFormatter.formatTo(buffer, "hello " + stringArg + " {}", integerArg);
+        return buffer;
+    }
+
+    @Benchmark
+    public String enabledOneArg() {
+        logger.debug("hello {}", stringArg);
+        return logger.lastMessage;
+    }
+
+    @Benchmark
+    public String enabledTwoArgs() {
+        logger.debug("hello {} {}", stringArg, integerArg);
+        return logger.lastMessage;
+    }
+
+    @Benchmark
+    public String enabledVarArgs() {
+        logger.debug("hello {} {} {}", stringArg, integerArg, stringArg);
+        return logger.lastMessage;
+    }
+}
@@ -0,0 +1,65 @@
+package org.slf4j.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures logging an event with slf4j-simple to a file, through
+ * <code>PrintStream</code> or with <code>org.slf4j.simpleLogger.directWrite</code>.
+ * Run with the GC profiler, <code>-prof gc</code>, to compare the allocation
+ * rate per event, <code>gc.alloc.rate.norm</code>, which is expected to be
+ * close to zero for the direct path.
+ *
+ * <p>Each value of <code>directWrite</code> runs in its own fork, as
+ * SimpleLogger reads its configuration once.
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimpleLoggerWriteBenchmark {
+
+    @Param({ "false", "true" })
+    String directWrite;
+
+    File logFile;
+    Logger logger;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = File.createTempFile("simpleLoggerBenchmark", ".log");
+        System.setProperty("org.slf4j.simpleLogger.logFile", logFile.getPath());
+        System.setProperty("org.slf4j.simpleLogger.directWrite", directWrite);
+        logger = LoggerFactory.getLogger(SimpleLoggerWriteBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        logFile.delete();
+    }
+
+    @Benchmark
+    public void logConstantMessage() {
+        logger.info("A constant message of typical length, without any argument");
+    }
+}
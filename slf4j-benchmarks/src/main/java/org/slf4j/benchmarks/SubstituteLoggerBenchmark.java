@@ -0,0 +1,93 @@
+package org.slf4j.benchmarks;
+
+import java.util.AbstractQueue;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.event.Level;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.SubstituteLogger;
+
+/**
+ * Measures calls made through a {@link SubstituteLogger}, before a delegate is
+ * set (events are recorded) and after a delegate is set (calls are forwarded).
+ *
+ * @since 2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubstituteLoggerBenchmark {
+
+    /**
+     * A queue which discards everything offered to it so that recording
+     * benchmarks run in constant memory.
+     */
+    static class DiscardingQueue extends AbstractQueue<SubstituteLoggingEvent> {
+
+        @Override
+        public boolean offer(SubstituteLoggingEvent e) {
+            return true;
+        }
+
+        @Override
+        public SubstituteLoggingEvent poll() {
+            return null;
+        }
+
+        @Override
+        public SubstituteLoggingEvent peek() {
+            return null;
+        }
+
+        @Override
+        public Iterator<SubstituteLoggingEvent> iterator() {
+            return Collections.emptyIterator();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    }
+
+    final SubstituteLogger recordingLogger = new SubstituteLogger("recording", new DiscardingQueue(), false);
+    final SubstituteLogger delegatingLogger = new SubstituteLogger("delegating", new DiscardingQueue(), false);
+    final BenchmarkLogger delegate = new BenchmarkLogger("delegating", Level.INFO);
+
+    String stringArg = "world";
+    Integer integerArg = 42;
+
+    public SubstituteLoggerBenchmark() {
+        delegatingLogger.setDelegate(delegate);
+    }
+
+    @Benchmark
+    public void beforeDelegation() {
+        recordingLogger.info("hello {} {}", stringArg, integerArg);
+    }
+
+    @Benchmark
+    public String afterDelegation() {
+        delegatingLogger.info("hello {} {}", stringArg, integerArg);
+        return delegate.lastMessage;
+    }
+
+    @Benchmark
+    public void afterDelegationDisabled() {
+        delegatingLogger.debug("hello {} {}", stringArg, integerArg);
+    }
+}
@@ -26,37 +26,22 @@ package org.slf4j;
 
 import org.slf4j.MDC;
 
+/**
+ * A nested diagnostic context implemented as the deque identified by
+ * {@link #PREFIX} in the MDC, see {@link MDC#pushByKey(String, String)}.
+ * As before, its values are visible in the context map under the keys
+ * <code>NDC0</code>, <code>NDC1</code>, ... from the bottom of the deque.
+ */
 public class NDC {
     public final static String PREFIX = "NDC";
 
-    private static int size() {
-        int i = 0;
-        while (true) {
-            String val = MDC.get(PREFIX + i);
-            if (val != null) {
-                i++;
-            } else {
-                break;
-            }
-        }
-        return i;
-    }
-
     public static void push(String val) {
-        int next = size();
-        MDC.put(PREFIX + next, val);
+        MDC.pushByKey(PREFIX, val);
     }
 
     public static String pop() {
-        int next = size();
-        if (next == 0) {
-            return "";
-        }
-        int last = next - 1;
-        String key = PREFIX + last;
-        String val = MDC.get(key);
-        MDC.remove(key);
-        return val;
+        String val = MDC.popByKey(PREFIX);
+        return val == null ? "" : val;
     }
 
 }
@@ -2,8 +2,8 @@ package org.slf4j.jul;
 
 import org.slf4j.ILoggerFactory;
 import org.slf4j.IMarkerFactory;
-import org.slf4j.helpers.BasicMDCAdapter;
 import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.helpers.MDCAdapters;
 import org.slf4j.spi.MDCAdapter;
 import org.slf4j.spi.SLF4JServiceProvider;
 
@@ -44,6 +44,6 @@ public class JULServiceProvider implements SLF4JServiceProvider {
 	public void initialize() {
 		loggerFactory = new JDK14LoggerFactory();
 		markerFactory = new BasicMarkerFactory();
-		mdcAdapter = new BasicMDCAdapter();
+		mdcAdapter = MDCAdapters.newBasicMDCAdapter();
 	}
 }
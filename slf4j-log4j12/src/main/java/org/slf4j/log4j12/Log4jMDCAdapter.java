@@ -50,7 +50,8 @@ public class Log4jMDCAdapter implements MDCAdapter {
 
     @Override
     public String get(String key) {
-        return (String) org.apache.log4j.MDC.get(key);
+        Object val = org.apache.log4j.MDC.get(key);
+        return val == null ? null : val.toString();
     }
 
     /**
@@ -70,6 +71,21 @@ public class Log4jMDCAdapter implements MDCAdapter {
         org.apache.log4j.MDC.put(key, val);
     }
 
+    /**
+     * Put <code>val</code> into log4j's MDC as is. Log4j converts it to a
+     * String when rendering <code>%X{key}</code>. Log4j does <em>not</em>
+     * support null for the <code>val</code> parameter.
+     */
+    @Override
+    public void putObject(String key, Object val) {
+        org.apache.log4j.MDC.put(key, val);
+    }
+
+    @Override
+    public Object getObject(String key) {
+        return org.apache.log4j.MDC.get(key);
+    }
+
     @Override
     public void remove(String key) {
         org.apache.log4j.MDC.remove(key);
@@ -80,7 +96,17 @@ public class Log4jMDCAdapter implements MDCAdapter {
     public Map getCopyOfContextMap() {
         Map old = org.apache.log4j.MDC.getContext();
         if (old != null) {
-            return new HashMap(old);
+            Map copy = new HashMap(old);
+            // values put via putObject are converted as the returned map holds Strings
+            Iterator entrySetIterator = copy.entrySet().iterator();
+            while (entrySetIterator.hasNext()) {
+                Map.Entry mapEntry = (Map.Entry) entrySetIterator.next();
+                Object val = mapEntry.getValue();
+                if (val != null && !(val instanceof String)) {
+                    mapEntry.setValue(val.toString());
+                }
+            }
+            return copy;
         } else {
             return null;
         }
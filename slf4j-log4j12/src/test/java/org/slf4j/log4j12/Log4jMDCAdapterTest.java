@@ -0,0 +1,38 @@
+package org.slf4j.log4j12;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class Log4jMDCAdapterTest {
+
+    Log4jMDCAdapter mdcAdapter = new Log4jMDCAdapter();
+
+    @After
+    public void tearDown() {
+        mdcAdapter.clear();
+    }
+
+    @Test
+    public void objectValuesAreStoredAsIs() {
+        Long requestId = 42L;
+        mdcAdapter.putObject("requestId", requestId);
+        assertSame(requestId, mdcAdapter.getObject("requestId"));
+        assertSame(requestId, org.apache.log4j.MDC.get("requestId"));
+        assertEquals("42", mdcAdapter.get("requestId"));
+    }
+
+    @Test
+    public void copyOfContextMapHoldsStrings() {
+        mdcAdapter.putObject("requestId", 42L);
+        mdcAdapter.put("user", "alice");
+        @SuppressWarnings("unchecked")
+        Map<String, String> copy = mdcAdapter.getCopyOfContextMap();
+        assertEquals("42", copy.get("requestId"));
+        assertEquals("alice", copy.get("user"));
+    }
+}
@@ -0,0 +1,221 @@
+package org.slf4j.simple;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.event.Level;
+import org.slf4j.helpers.Util;
+
+/**
+ * Writes the lines rendered by {@link SimpleLogger} from a dedicated thread,
+ * so that logging threads only pay for rendering the line and enqueuing it.
+ *
+ * <p>Lines are passed through a preallocated {@link RingBuffer}. The writer
+ * thread drains it in batches, each written to the target stream in a single
+ * call, after which the {@link FlushPolicy} applies once for the whole batch.
+ * When the buffer is full, the {@link BackpressurePolicy} decides whether the
+ * logging thread waits or the line is dropped.
+ *
+ * <p>The shutdown hook of {@link SimpleLoggerConfiguration} drains the buffer
+ * before the JVM exits. Lines logged after the writer stopped are written by
+ * the logging thread itself.
+ *
+ * <p>Enabled by the {@value SimpleLogger#ASYNC_KEY} property; the instance in
+ * use is returned by {@link SimpleLogger#getAsyncWriter()}.
+ *
+ * @since 2.0.0
+ */
+public final class AsyncWriter {
+
+    /**
+     * What a logging thread does when the buffer is full.
+     */
+    public enum BackpressurePolicy {
+        /** wait until the writer thread frees a slot */
+        BLOCK,
+        /** drop the line */
+        DROP,
+        /** drop TRACE, DEBUG and INFO lines, wait for WARN and ERROR lines */
+        DROP_BELOW_WARN;
+
+        static BackpressurePolicy fromString(String policyStr) {
+            switch (policyStr.trim()) {
+            case "block":
+                return BLOCK;
+            case "drop":
+                return DROP;
+            case "dropBelowWarn":
+                return DROP_BELOW_WARN;
+            default:
+                Util.report("Unknown value [" + policyStr + "] for " + SimpleLogger.ASYNC_POLICY_KEY + ", using block");
+                return BLOCK;
+            }
+        }
+    }
+
+    static final int MAX_BATCH_CHARS = 64 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final OutputChoice outputChoice;
+    private final RingBuffer<String> buffer;
+    private final BackpressurePolicy policy;
+    private final FlushPolicy flushPolicy;
+    private final Thread writerThread;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final StringBuilder batch = new StringBuilder(1024);
+    private int batchLineCount;
+
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+    private volatile boolean terminated;
+
+    AsyncWriter(OutputChoice outputChoice, int capacity, BackpressurePolicy policy, FlushPolicy flushPolicy) {
+        this.outputChoice = outputChoice;
+        this.buffer = new RingBuffer<>(capacity);
+        this.policy = policy;
+        this.flushPolicy = flushPolicy;
+        this.writerThread = new Thread(this::run, "slf4j-simple-async-writer");
+        writerThread.setDaemon(true);
+    }
+
+    void start() {
+        writerThread.start();
+    }
+
+    /**
+     * Enqueue <code>line</code>, which includes its line separator.
+     */
+    void write(Level level, String line) {
+        while (!buffer.offer(line)) {
+            if (terminated) {
+                writeDirectly(line);
+                return;
+            }
+            if (policy == BackpressurePolicy.DROP
+                            || (policy == BackpressurePolicy.DROP_BELOW_WARN && level.toInt() < Level.WARN.toInt())) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        if (terminated) {
+            // the writer thread may have stopped before seeing the line
+            drain();
+        } else if (sleeping) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            if (drain()) {
+                continue;
+            }
+            sleeping = true;
+            if (buffer.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            sleeping = false;
+        }
+        terminated = true;
+        drain();
+    }
+
+    /**
+     * Write out all enqueued lines. Only called by the writer thread, except
+     * once it terminated.
+     *
+     * @return whether any line was written
+     */
+    private synchronized boolean drain() {
+        boolean wrote = false;
+        String line;
+        while ((line = buffer.poll()) != null) {
+            batch.append(line);
+            batchLineCount++;
+            if (batch.length() >= MAX_BATCH_CHARS) {
+                flushBatch();
+            }
+            wrote = true;
+        }
+        if (batch.length() > 0) {
+            flushBatch();
+        }
+        return wrote;
+    }
+
+    private void flushBatch() {
+        PrintStream targetStream = outputChoice.getTargetPrintStream();
+        targetStream.print(batch);
+        flushPolicy.afterWrite(targetStream, null, batchLineCount, batch.length());
+        batchLineCount = 0;
+        if (batch.capacity() > MAX_BATCH_CHARS) {
+            batch.setLength(0);
+            batch.trimToSize();
+        } else {
+            batch.setLength(0);
+        }
+    }
+
+    private void writeDirectly(String line) {
+        synchronized (this) {
+            PrintStream targetStream = outputChoice.getTargetPrintStream();
+            targetStream.print(line);
+            flushPolicy.afterWrite(targetStream, null, 1, line.length());
+        }
+    }
+
+    /**
+     * Stop the writer thread once it has written all enqueued lines, waiting
+     * for it for a few seconds at most. Later lines are written by the logging
+     * threads.
+     */
+    void shutdown() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        if (Thread.currentThread() != writerThread && writerThread.isAlive()) {
+            try {
+                writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long dropped = droppedCount.get();
+        if (dropped > 0) {
+            Util.report("The asynchronous writer of SimpleLogger dropped " + dropped + " events");
+        }
+    }
+
+    /**
+     * @return the number of events dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return the number of events currently waiting in the buffer
+     */
+    public int getQueuedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * @return the number of events ever enqueued
+     */
+    public long getEnqueuedCount() {
+        return buffer.offeredCount();
+    }
+
+    /**
+     * @return the backpressure policy in use
+     */
+    public BackpressurePolicy getPolicy() {
+        return policy;
+    }
+}
@@ -0,0 +1,156 @@
+package org.slf4j.simple;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.Util;
+
+/**
+ * Renders a logging event into the buffer which {@link SimpleLogger} then
+ * writes to its output target. The encoder is selected by the
+ * {@value SimpleLogger#ENCODER_KEY} property, see {@link #forName(String, boolean, boolean)}.
+ *
+ * <p>Encoders append directly to the given buffer. Escaping is done by hand,
+ * without reflection or any JSON library.
+ *
+ * @since 2.0.0
+ */
+abstract class Encoder {
+
+    static final String PLAIN = "plain";
+    static final String LOGFMT = "logfmt";
+    static final String JSON = "json";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Return the encoder named <code>name</code>, or the plain encoder if the
+     * name is unknown.
+     *
+     * @param name            one of "plain", "logfmt" or "json"
+     * @param levelInBrackets whether the plain encoder puts the level in brackets
+     * @param relativeTime    whether date-times are the number of milliseconds
+     *                        since start up, rather than formatted dates
+     */
+    static Encoder forName(String name, boolean levelInBrackets, boolean relativeTime) {
+        switch (name.trim().toLowerCase()) {
+        case PLAIN:
+            return new PlainEncoder(levelInBrackets);
+        case LOGFMT:
+            return new LogfmtEncoder();
+        case JSON:
+            return new JsonEncoder(relativeTime);
+        default:
+            Util.report("Unknown encoder [" + name + "] for " + SimpleLogger.ENCODER_KEY + ", using " + PLAIN);
+            return new PlainEncoder(levelInBrackets);
+        }
+    }
+
+    /**
+     * Append the rendering of an event to <code>buf</code>, without the
+     * trailing line separator.
+     *
+     * @param buf            the buffer to append to
+     * @param dateTime       the date-time of the event, or null if not shown
+     * @param threadName     the name of the thread, or null if not shown
+     * @param level          the level of the event
+     * @param loggerName     the name of the logger, or null if not shown
+     * @param markers        the markers of the event, may be null
+     * @param mdc            the MDC context, or null if not shown
+     * @param keyValuePairs  the key/value pairs of the event, may be null
+     * @param messagePattern the message pattern
+     * @param arguments      the arguments of the message pattern, may be null
+     * @param t              the throwable of the event, may be null
+     */
+    abstract void encode(StringBuilder buf, CharSequence dateTime, String threadName, Level level, String loggerName,
+                    List<Marker> markers, Map<String, String> mdc, List<KeyValuePair> keyValuePairs,
+                    String messagePattern, Object[] arguments, Throwable t);
+
+    /**
+     * Whether {@link #encode} renders the throwable. If not, it is written
+     * after the encoded event by {@link SimpleLogger#writeThrowable}.
+     */
+    abstract boolean encodesThrowable();
+
+    static String stackTraceOf(Throwable t) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        t.printStackTrace(pw);
+        pw.flush();
+        return sw.toString();
+    }
+
+    static boolean needsEscape(char c) {
+        return c < ' ' || c == '"' || c == '\\';
+    }
+
+    /**
+     * Append <code>s</code> to <code>buf</code>, escaped for a JSON string,
+     * without the surrounding quotes. The result is also a valid quoted logfmt
+     * value.
+     */
+    static void appendEscaped(StringBuilder buf, CharSequence s) {
+        int len = s.length();
+        int start = 0;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (!needsEscape(c)) {
+                continue;
+            }
+            buf.append(s, start, i);
+            start = i + 1;
+            switch (c) {
+            case '"':
+                buf.append("\\\"");
+                break;
+            case '\\':
+                buf.append("\\\\");
+                break;
+            case '\n':
+                buf.append("\\n");
+                break;
+            case '\r':
+                buf.append("\\r");
+                break;
+            case '\t':
+                buf.append("\\t");
+                break;
+            default:
+                buf.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+            }
+        }
+        buf.append(s, start, len);
+    }
+
+    /**
+     * Escape the characters of <code>buf</code> from index <code>from</code>
+     * onwards, as {@link #appendEscaped} does. Messages are formatted straight
+     * into the buffer and escaped afterwards, which costs no copy in the usual
+     * case of a message without characters to escape.
+     *
+     * @return whether any character was escaped
+     */
+    static boolean escapeFrom(StringBuilder buf, int from) {
+        int len = buf.length();
+        for (int i = from; i < len; i++) {
+            if (needsEscape(buf.charAt(i))) {
+                String tail = buf.substring(i);
+                buf.setLength(i);
+                appendEscaped(buf, tail);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static void appendJsonString(StringBuilder buf, CharSequence s) {
+        buf.append('"');
+        appendEscaped(buf, s);
+        buf.append('"');
+    }
+}
@@ -0,0 +1,136 @@
+package org.slf4j.simple;
+
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.event.Level;
+import org.slf4j.helpers.Util;
+
+/**
+ * Decides when {@link SimpleLogger} flushes its output target, as selected by
+ * the {@value SimpleLogger#FLUSH_POLICY_KEY} property.
+ *
+ * <p>Flushing after each event, the historical behavior, costs at least one
+ * write system call per event when logging to a file. The other policies let
+ * lines accumulate in the output buffer in between flushes. Whatever the
+ * policy, the target is flushed on shutdown, see
+ * {@link SimpleLoggerConfiguration#shutdown()}.
+ *
+ * @since 2.0.0
+ */
+final class FlushPolicy {
+
+    enum Type {
+        /** flush after each event */
+        ALWAYS,
+        /** flush once every <em>threshold</em> events */
+        COUNT,
+        /** flush once <em>threshold</em> characters were written */
+        SIZE,
+        /** flush every <em>threshold</em> milliseconds from a background thread */
+        INTERVAL,
+        /** flush after each event of level WARN or ERROR */
+        WARN;
+    }
+
+    static final FlushPolicy ALWAYS = new FlushPolicy(Type.ALWAYS, 0);
+
+    private final Type type;
+    private final long threshold;
+    private final AtomicLong pending = new AtomicLong();
+    private ScheduledExecutorService flusher;
+
+    FlushPolicy(Type type, long threshold) {
+        this.type = type;
+        this.threshold = threshold;
+    }
+
+    static Type typeFromString(String typeStr) {
+        switch (typeStr.trim()) {
+        case "always":
+            return Type.ALWAYS;
+        case "count":
+            return Type.COUNT;
+        case "size":
+            return Type.SIZE;
+        case "interval":
+            return Type.INTERVAL;
+        case "warn":
+            return Type.WARN;
+        default:
+            Util.report("Unknown value [" + typeStr + "] for " + SimpleLogger.FLUSH_POLICY_KEY + ", using always");
+            return Type.ALWAYS;
+        }
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Called after lines were written to <code>targetStream</code>.
+     *
+     * @param targetStream the stream written to
+     * @param level        the level of the line, or null for a batch of
+     *                     lines of unknown levels
+     * @param lineCount    the number of lines written
+     * @param charCount    the number of characters written
+     */
+    void afterWrite(PrintStream targetStream, Level level, int lineCount, int charCount) {
+        switch (type) {
+        case ALWAYS:
+            targetStream.flush();
+            break;
+        case COUNT:
+            flushIfPending(targetStream, lineCount);
+            break;
+        case SIZE:
+            flushIfPending(targetStream, charCount);
+            break;
+        case WARN:
+            if (level == null || level.toInt() >= Level.WARN.toInt()) {
+                targetStream.flush();
+            }
+            break;
+        case INTERVAL:
+            break;
+        }
+    }
+
+    private void flushIfPending(PrintStream targetStream, int amount) {
+        long total = pending.addAndGet(amount);
+        // if another thread added to the count meanwhile, it flushes instead
+        if (total >= threshold && pending.compareAndSet(total, 0)) {
+            targetStream.flush();
+        }
+    }
+
+    /**
+     * Start the background flusher of the {@link Type#INTERVAL} policy.
+     */
+    void start(OutputChoice outputChoice) {
+        if (type != Type.INTERVAL) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "slf4j-simple-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(() -> outputChoice.getTargetPrintStream().flush(), threshold, threshold,
+                        TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the background flusher, if any, and flush the target.
+     */
+    void close(OutputChoice outputChoice) {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        outputChoice.getTargetPrintStream().flush();
+    }
+}
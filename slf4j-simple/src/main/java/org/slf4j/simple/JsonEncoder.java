@@ -0,0 +1,132 @@
+package org.slf4j.simple;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Renders each event as a JSON object on a single line, for example
+ *
+ * <pre>
+ * {"time":176,"level":"INFO","thread":"main","logger":"examples.Sort","markers":["AUDIT"],"message":"Populating an array.","kv":{"size":2},"mdc":{"user":"alice"}}
+ * </pre>
+ *
+ * The time is a number when it is relative to start up, and a string when
+ * formatted. Key/value pairs whose value is a boolean or a finite number are
+ * rendered as JSON booleans and numbers, other values as strings. A throwable
+ * is rendered as the <code>exception</code> string holding its stack trace.
+ *
+ * @since 2.0.0
+ */
+class JsonEncoder extends Encoder {
+
+    private final boolean relativeTime;
+
+    JsonEncoder(boolean relativeTime) {
+        this.relativeTime = relativeTime;
+    }
+
+    @Override
+    void encode(StringBuilder buf, CharSequence dateTime, String threadName, Level level, String loggerName,
+                    List<Marker> markers, Map<String, String> mdc, List<KeyValuePair> keyValuePairs,
+                    String messagePattern, Object[] arguments, Throwable t) {
+        buf.append('{');
+        if (dateTime != null) {
+            buf.append("\"time\":");
+            if (relativeTime) {
+                buf.append(dateTime);
+            } else {
+                appendJsonString(buf, dateTime);
+            }
+            buf.append(',');
+        }
+        buf.append("\"level\":\"").append(level.name()).append('"');
+        if (threadName != null) {
+            buf.append(",\"thread\":");
+            appendJsonString(buf, threadName);
+        }
+        if (loggerName != null) {
+            buf.append(",\"logger\":");
+            appendJsonString(buf, loggerName);
+        }
+        if (markers != null && !markers.isEmpty()) {
+            buf.append(",\"markers\":[");
+            for (int i = 0; i < markers.size(); i++) {
+                if (i > 0) {
+                    buf.append(',');
+                }
+                appendJsonString(buf, markers.get(i).getName());
+            }
+            buf.append(']');
+        }
+
+        buf.append(",\"message\":\"");
+        int start = buf.length();
+        MessageFormatter.basicFormatTo(buf, messagePattern, arguments);
+        escapeFrom(buf, start);
+        buf.append('"');
+
+        if (keyValuePairs != null && !keyValuePairs.isEmpty()) {
+            buf.append(",\"kv\":{");
+            for (int i = 0; i < keyValuePairs.size(); i++) {
+                KeyValuePair kvp = keyValuePairs.get(i);
+                if (i > 0) {
+                    buf.append(',');
+                }
+                appendJsonString(buf, String.valueOf(kvp.key));
+                buf.append(':');
+                appendJsonValue(buf, kvp.value);
+            }
+            buf.append('}');
+        }
+        if (mdc != null && !mdc.isEmpty()) {
+            buf.append(",\"mdc\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    buf.append(',');
+                }
+                first = false;
+                appendJsonString(buf, entry.getKey());
+                buf.append(':');
+                appendJsonValue(buf, entry.getValue());
+            }
+            buf.append('}');
+        }
+        if (t != null) {
+            buf.append(",\"exception\":");
+            appendJsonString(buf, stackTraceOf(t));
+        }
+        buf.append('}');
+    }
+
+    @Override
+    boolean encodesThrowable() {
+        return true;
+    }
+
+    private static void appendJsonValue(StringBuilder buf, Object value) {
+        if (value == null) {
+            buf.append("null");
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                        || value instanceof Short || value instanceof Byte || value instanceof BigInteger
+                        || value instanceof BigDecimal) {
+            buf.append(value);
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                appendJsonString(buf, value.toString());
+            } else {
+                buf.append(value);
+            }
+        } else {
+            appendJsonString(buf, value.toString());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.slf4j.simple;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * The buffers a thread renders and encodes its log lines into, reused from
+ * one event to the next so that logging allocates nothing in steady state.
+ *
+ * <p>Buffers grown beyond {@value #MAX_RETAINED_CHARS} characters by an
+ * unusually long line are released after use rather than retained. A thread
+ * logging while rendering a line, say from the <code>toString()</code> method
+ * of an argument, gets fresh buffers for the nested event.
+ *
+ * @since 2.0.0
+ */
+final class LineBuffers {
+
+    static final int MAX_RETAINED_CHARS = 8 * 1024;
+    private static final int INITIAL_CHARS = 256;
+
+    private static final ThreadLocal<LineBuffers> THREAD_BUFFERS = new ThreadLocal<LineBuffers>() {
+        @Override
+        protected LineBuffers initialValue() {
+            return new LineBuffers();
+        }
+    };
+
+    /** the line being rendered */
+    StringBuilder line = new StringBuilder(INITIAL_CHARS);
+    /** the date-time of the line being rendered */
+    final StringBuilder dateTime = new StringBuilder(32);
+
+    private boolean inUse;
+
+    private CharsetEncoder charsetEncoder;
+    private char[] chars;
+    private CharBuffer charBuffer;
+    private ByteBuffer bytes;
+
+    private LineBuffers() {
+    }
+
+    /**
+     * Return the buffers of the current thread, cleared, or fresh buffers if
+     * they are already in use. They must be given back with {@link #release()}.
+     */
+    static LineBuffers acquire() {
+        LineBuffers buffers = THREAD_BUFFERS.get();
+        if (buffers.inUse) {
+            return new LineBuffers();
+        }
+        buffers.inUse = true;
+        return buffers;
+    }
+
+    void release() {
+        inUse = false;
+        if (line.capacity() > MAX_RETAINED_CHARS) {
+            line = new StringBuilder(INITIAL_CHARS);
+        } else {
+            line.setLength(0);
+        }
+        dateTime.setLength(0);
+        if (chars != null && chars.length > MAX_RETAINED_CHARS) {
+            chars = null;
+            charBuffer = null;
+            bytes = null;
+        }
+    }
+
+    /**
+     * Encode {@link #line} with <code>charset</code>, replacing unmappable
+     * characters.
+     *
+     * @param direct whether to encode into a direct buffer, suited to channels,
+     *               rather than into a heap buffer, whose array can be given to
+     *               an {@link java.io.OutputStream}
+     * @return the encoded line, ready to be read
+     */
+    ByteBuffer encode(Charset charset, boolean direct) {
+        if (charsetEncoder == null || !charsetEncoder.charset().equals(charset)) {
+            charsetEncoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        int length = line.length();
+        if (chars == null || chars.length < length) {
+            chars = new char[Math.max(length, INITIAL_CHARS)];
+            charBuffer = CharBuffer.wrap(chars);
+        }
+        line.getChars(0, length, chars, 0);
+        charBuffer.clear();
+        charBuffer.limit(length);
+
+        int maxBytes = (int) Math.ceil(length * (double) charsetEncoder.maxBytesPerChar());
+        if (bytes == null || bytes.capacity() < maxBytes || bytes.isDirect() != direct) {
+            int capacity = Math.max(maxBytes, INITIAL_CHARS);
+            bytes = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+        bytes.clear();
+        charsetEncoder.reset();
+        // the buffer is large enough for the whole line, overflow is impossible
+        charsetEncoder.encode(charBuffer, bytes, true);
+        charsetEncoder.flush(bytes);
+        bytes.flip();
+        return bytes;
+    }
+}
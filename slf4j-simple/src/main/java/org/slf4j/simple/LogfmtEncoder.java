@@ -0,0 +1,135 @@
+package org.slf4j.simple;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * Renders events as a single line of <a href="https://brandur.org/logfmt">logfmt</a>
+ * <code>key=value</code> pairs, for example
+ *
+ * <pre>
+ * time=176 level=INFO thread=main logger=examples.Sort markers=AUDIT msg="Populating an array." size=2 user=alice
+ * </pre>
+ *
+ * The key/value pairs of the event and the MDC entries follow the message as
+ * additional pairs. Values are quoted when they contain spaces, '=', quotes or
+ * control characters. Characters which cannot appear in a key are replaced by
+ * '_'. A throwable is rendered as the <code>exception</code> key whose value
+ * is the escaped stack trace.
+ *
+ * @since 2.0.0
+ */
+class LogfmtEncoder extends Encoder {
+
+    @Override
+    void encode(StringBuilder buf, CharSequence dateTime, String threadName, Level level, String loggerName,
+                    List<Marker> markers, Map<String, String> mdc, List<KeyValuePair> keyValuePairs,
+                    String messagePattern, Object[] arguments, Throwable t) {
+        if (dateTime != null) {
+            buf.append("time=");
+            appendValue(buf, dateTime);
+            buf.append(' ');
+        }
+        buf.append("level=").append(level.name());
+        if (threadName != null) {
+            buf.append(" thread=");
+            appendValue(buf, threadName);
+        }
+        if (loggerName != null) {
+            buf.append(" logger=");
+            appendValue(buf, loggerName);
+        }
+        if (markers != null && !markers.isEmpty()) {
+            buf.append(" markers=");
+            int start = buf.length();
+            for (int i = 0; i < markers.size(); i++) {
+                if (i > 0) {
+                    buf.append(',');
+                }
+                buf.append(markers.get(i).getName());
+            }
+            quoteFrom(buf, start);
+        }
+
+        buf.append(" msg=");
+        int start = buf.length();
+        MessageFormatter.basicFormatTo(buf, messagePattern, arguments);
+        quoteFrom(buf, start);
+
+        if (keyValuePairs != null) {
+            for (KeyValuePair kvp : keyValuePairs) {
+                appendPair(buf, kvp.key, String.valueOf(kvp.value));
+            }
+        }
+        if (mdc != null) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                appendPair(buf, entry.getKey(), entry.getValue());
+            }
+        }
+        if (t != null) {
+            appendPair(buf, "exception", stackTraceOf(t));
+        }
+    }
+
+    @Override
+    boolean encodesThrowable() {
+        return true;
+    }
+
+    private static void appendPair(StringBuilder buf, String key, String value) {
+        buf.append(' ');
+        appendKey(buf, key);
+        buf.append('=');
+        if (value != null) {
+            appendValue(buf, value);
+        }
+    }
+
+    private static void appendKey(StringBuilder buf, String key) {
+        if (key == null || key.isEmpty()) {
+            buf.append('_');
+            return;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            buf.append(c <= ' ' || c == '=' || c == '"' ? '_' : c);
+        }
+    }
+
+    private static void appendValue(StringBuilder buf, CharSequence value) {
+        int start = buf.length();
+        buf.append(value);
+        quoteFrom(buf, start);
+    }
+
+    /**
+     * Quote and escape the value appended to <code>buf</code> from index
+     * <code>start</code>, if needed.
+     */
+    private static void quoteFrom(StringBuilder buf, int start) {
+        if (needsQuotes(buf, start)) {
+            escapeFrom(buf, start);
+            buf.insert(start, '"');
+            buf.append('"');
+        }
+    }
+
+    private static boolean needsQuotes(StringBuilder buf, int start) {
+        int len = buf.length();
+        if (start == len) {
+            return true;
+        }
+        for (int i = start; i < len; i++) {
+            char c = buf.charAt(i);
+            if (c <= ' ' || c == '=' || c == '"' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package org.slf4j.simple;
 
 import java.io.PrintStream;
+import java.nio.channels.FileChannel;
 
 /**
  * This class encapsulates the user's choice of output target.
@@ -16,6 +17,7 @@ class OutputChoice {
 
     final OutputChoiceType outputChoiceType;
     final PrintStream targetPrintStream;
+    final FileChannel targetChannel;
 
     OutputChoice(OutputChoiceType outputChoiceType) {
         if (outputChoiceType == OutputChoiceType.FILE) {
@@ -29,11 +31,22 @@ class OutputChoice {
         } else {
             this.targetPrintStream = null;
         }
+        this.targetChannel = null;
     }
 
     OutputChoice(PrintStream printStream) {
+        this(printStream, null);
+    }
+
+    /**
+     * @param printStream the stream to the file
+     * @param channel     the channel of the file underlying
+     *                    <code>printStream</code>, may be null
+     */
+    OutputChoice(PrintStream printStream, FileChannel channel) {
         this.outputChoiceType = OutputChoiceType.FILE;
         this.targetPrintStream = printStream;
+        this.targetChannel = channel;
     }
 
     PrintStream getTargetPrintStream() {
@@ -52,4 +65,12 @@ class OutputChoice {
 
     }
 
+    /**
+     * @return the channel of the target file, or null if the target is not a
+     *         file
+     */
+    FileChannel getTargetChannel() {
+        return targetChannel;
+    }
+
 }
@@ -0,0 +1,88 @@
+package org.slf4j.simple;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * The default, human readable, format of {@link SimpleLogger}, for example
+ *
+ * <pre>
+ * 176 [main] INFO examples.Sort -  AUDIT {user=alice} size=2 Populating an array.
+ * </pre>
+ *
+ * The throwable of the event, if any, is written on the following lines.
+ *
+ * @since 2.0.0
+ */
+class PlainEncoder extends Encoder {
+
+    private static final char SP = ' ';
+
+    private final boolean levelInBrackets;
+
+    PlainEncoder(boolean levelInBrackets) {
+        this.levelInBrackets = levelInBrackets;
+    }
+
+    @Override
+    void encode(StringBuilder buf, CharSequence dateTime, String threadName, Level level, String loggerName,
+                    List<Marker> markers, Map<String, String> mdc, List<KeyValuePair> keyValuePairs,
+                    String messagePattern, Object[] arguments, Throwable t) {
+        if (dateTime != null) {
+            buf.append(dateTime).append(SP);
+        }
+
+        if (threadName != null) {
+            buf.append('[').append(threadName).append("] ");
+        }
+
+        if (levelInBrackets)
+            buf.append('[');
+        buf.append(level.name());
+        if (levelInBrackets)
+            buf.append(']');
+        buf.append(SP);
+
+        if (loggerName != null) {
+            buf.append(loggerName).append(" - ");
+        }
+
+        if (markers != null) {
+            buf.append(SP);
+            for (Marker marker : markers) {
+                buf.append(marker.getName()).append(SP);
+            }
+        }
+
+        if (mdc != null && !mdc.isEmpty()) {
+            buf.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    buf.append(", ");
+                }
+                first = false;
+                buf.append(entry.getKey()).append('=').append(entry.getValue());
+            }
+            buf.append("} ");
+        }
+
+        if (keyValuePairs != null) {
+            for (KeyValuePair kvp : keyValuePairs) {
+                buf.append(kvp.key).append('=').append(kvp.value).append(SP);
+            }
+        }
+
+        MessageFormatter.basicFormatTo(buf, messagePattern, arguments);
+    }
+
+    @Override
+    boolean encodesThrowable() {
+        return false;
+    }
+}
@@ -0,0 +1,118 @@
+package org.slf4j.simple;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer single-consumer queue over a
+ * preallocated array.
+ *
+ * <p>Each slot carries a sequence number telling whether it is free for the
+ * producer claiming position <em>p</em> (sequence <em>p</em>) or holds the
+ * element put at position <em>p</em> (sequence <em>p + 1</em>). Producers
+ * claim positions by a compare-and-set on the tail; the consumer, of which
+ * there must be only one at a time, advances the head without atomic
+ * read-modify-write operations.
+ *
+ * @since 2.0.0
+ */
+final class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity the capacity, rounded up to the next power of two
+     */
+    RingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Add <code>e</code> to the queue, unless it is full. May be called
+     * concurrently by any number of threads.
+     *
+     * @return false if the queue is full
+     */
+    boolean offer(E e) {
+        long pos = tail.get();
+        for (;;) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.lazySet(index, e);
+                    // a volatile write, so that a consumer about to park
+                    // cannot miss it, see AsyncWriter
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove and return the head of the queue. Must only be called by one
+     * thread at a time.
+     *
+     * @return the head of the queue, or null if it is empty
+     */
+    E poll() {
+        long pos = head.get();
+        int index = (int) pos & mask;
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+        E e = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.lazySet(index, pos + capacity());
+        head.lazySet(pos + 1);
+        return e;
+    }
+
+    boolean isEmpty() {
+        long pos = head.get();
+        return sequences.get((int) pos & mask) != pos + 1;
+    }
+
+    /**
+     * @return the number of elements in the queue, which may be stale by the
+     *         time it is returned
+     */
+    int size() {
+        long h = head.get();
+        return (int) Math.max(0, tail.get() - h);
+    }
+
+    /**
+     * @return the number of elements ever added to the queue
+     */
+    long offeredCount() {
+        return tail.get();
+    }
+}
@@ -24,19 +24,27 @@
  */
 package org.slf4j.simple;
 
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
+import org.slf4j.MDC;
 import org.slf4j.Marker;
+import org.slf4j.event.KeyValuePair;
 import org.slf4j.event.Level;
 import org.slf4j.event.LoggingEvent;
+import org.slf4j.event.LoggingEventAware;
 import org.slf4j.helpers.LegacyAbstractLogger;
-import org.slf4j.helpers.MessageFormatter;
 import org.slf4j.helpers.NormalizedParameters;
 import org.slf4j.spi.LocationAwareLogger;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
 
 /**
  * <p>
@@ -70,16 +78,27 @@ import org.slf4j.spi.LocationAwareLogger;
  * set, then the value specified by
  * <code>org.slf4j.simpleLogger.defaultLogLevel</code> will be used.</li>
  *
+ * <li><code>org.slf4j.simpleLogger.marker.<em>M</em></code> - Logging detail
+ * level for events carrying the marker named "M", or a marker referencing it.
+ * Right-side value must be one of "trace", "debug", "info", "warn", "error" or
+ * "off". This level takes precedence over the level of the logger, so that
+ * events with marker "M" can be enabled below the level of the logger, or
+ * disabled above it. If levels are configured for several markers of an
+ * event, the most permissive one applies. The check happens before the
+ * message is formatted.</li>
+ *
  * <li><code>org.slf4j.simpleLogger.showDateTime</code> - Set to
  * <code>true</code> if you want the current date and time to be included in
  * output messages. Default is <code>false</code></li>
  *
  * <li><code>org.slf4j.simpleLogger.dateTimeFormat</code> - The date and time
  * format to be used in the output messages. The pattern describing the date and
- * time format is defined by <a href=
- * "http://docs.oracle.com/javase/1.5.0/docs/api/java/text/SimpleDateFormat.html">
- * <code>SimpleDateFormat</code></a>. If the format is not specified or is
- * invalid, the number of milliseconds since start up will be output.</li>
+ * time format is the same as that used by <a href=
+ * "https://docs.oracle.com/javase/8/docs/api/java/text/SimpleDateFormat.html">
+ * <code>SimpleDateFormat</code></a>. Patterns which
+ * <code>DateTimeFormatter</code> interprets the same way are formatted
+ * without locking. If the format is not specified or is invalid, the number
+ * of milliseconds since start up will be output.</li>
  *
  * <li><code>org.slf4j.simpleLogger.showThreadName</code> -Set to
  * <code>true</code> if you want to output the current thread name. Defaults to
@@ -98,6 +117,54 @@ import org.slf4j.spi.LocationAwareLogger;
  *
  * <li><code>org.slf4j.simpleLogger.warnLevelString</code> - The string value
  * output for the warn level. Defaults to <code>WARN</code>.</li>
+ *
+ * <li><code>org.slf4j.simpleLogger.encoder</code> - The output format, one of
+ * "plain", "logfmt" or "json". The "plain" format is described below. The
+ * "logfmt" format renders each event as a line of <code>key=value</code>
+ * pairs, and the "json" format as a JSON object on a single line. Both
+ * structured formats render the throwable of the event, if any, within that
+ * line. Defaults to "plain".</li>
+ *
+ * <li><code>org.slf4j.simpleLogger.outputBufferSize</code> - The size in
+ * bytes of the buffer in front of a log file. Defaults to 8192.</li>
+ *
+ * <li><code>org.slf4j.simpleLogger.flushPolicy</code> - When output is
+ * flushed: "always" after each event, "count" every
+ * <code>org.slf4j.simpleLogger.flushCount</code> events (default 64), "size"
+ * every <code>org.slf4j.simpleLogger.flushSize</code> characters (default
+ * 8192), "interval" every <code>org.slf4j.simpleLogger.flushInterval</code>
+ * milliseconds (default 1000) from a background thread, or "warn" after
+ * events of level WARN or ERROR. Whatever the policy, output is flushed on
+ * shutdown. Note that <code>System.out</code> and <code>System.err</code>
+ * usually flush each line themselves. Defaults to "always".</li>
+ *
+ * <li><code>org.slf4j.simpleLogger.directWrite</code> - Set to
+ * <code>true</code> to encode each line to bytes, with the default charset,
+ * in buffers reused by each thread, and to write these bytes to the target
+ * directly. A log file flushed after each event is then written through its
+ * {@link FileChannel}. In steady state, logging then allocates no memory
+ * beyond what the message arguments and the MDC require. Lines with a
+ * throwable, and all lines when <code>org.slf4j.simpleLogger.async</code> is
+ * set, take the regular path. Defaults to <code>false</code>.</li>
+ *
+ * <li><code>org.slf4j.simpleLogger.async</code> - Set to <code>true</code> to
+ * write output from a dedicated thread, see {@link AsyncWriter}. Logging
+ * threads then only render and enqueue each line. Defaults to
+ * <code>false</code>.</li>
+ *
+ * <li><code>org.slf4j.simpleLogger.asyncBufferSize</code> - The number of
+ * lines the asynchronous writer can hold, rounded up to a power of two.
+ * Defaults to 8192.</li>
+ *
+ * <li><code>org.slf4j.simpleLogger.asyncPolicy</code> - What happens when the
+ * buffer of the asynchronous writer is full: "block" waits for a free slot,
+ * "drop" drops the line and "dropBelowWarn" drops lines below the WARN level
+ * and waits for others. Defaults to "block".</li>
+ *
+ * <li><code>org.slf4j.simpleLogger.showMDC</code> - Set to <code>true</code>
+ * if you want the MDC context to be included in output messages. Defaults to
+ * <code>false</code> with the "plain" encoder, and to <code>true</code>
+ * otherwise.</li>
  * 
  * </ul>
  *
@@ -143,7 +210,7 @@ import org.slf4j.spi.LocationAwareLogger;
  * @author Robert Burrell Donkin
  * @author C&eacute;drik LIME
  */
-public class SimpleLogger extends LegacyAbstractLogger {
+public class SimpleLogger extends LegacyAbstractLogger implements LoggingEventAware {
 
 	private static final long serialVersionUID = -632788891211436180L;
 
@@ -176,8 +243,23 @@ public class SimpleLogger extends LegacyAbstractLogger {
 	// external software might be invoking this method directly. Do not rename
 	// or change its semantics.
 	static void init() {
+		SimpleLoggerConfiguration previous = CONFIG_PARAMS;
 		CONFIG_PARAMS = new SimpleLoggerConfiguration();
 		CONFIG_PARAMS.init();
+		if (previous != null) {
+			previous.shutdown();
+		}
+	}
+
+	/**
+	 * Return the writer used when {@value #ASYNC_KEY} is set, giving access to
+	 * its counters.
+	 *
+	 * @return the asynchronous writer, or null if output is synchronous
+	 */
+	public static AsyncWriter getAsyncWriter() {
+		SimpleLoggerConfiguration config = CONFIG_PARAMS;
+		return config == null ? null : config.asyncWriter;
 	}
 
 	/** The current log level */
@@ -193,6 +275,8 @@ public class SimpleLogger extends LegacyAbstractLogger {
 
 	public static final String LOG_KEY_PREFIX = SimpleLogger.SYSTEM_PREFIX + "log.";
 
+	public static final String MARKER_KEY_PREFIX = SimpleLogger.SYSTEM_PREFIX + "marker.";
+
 	public static final String CACHE_OUTPUT_STREAM_STRING_KEY = SimpleLogger.SYSTEM_PREFIX + "cacheOutputStream";
 
 	public static final String WARN_LEVEL_STRING_KEY = SimpleLogger.SYSTEM_PREFIX + "warnLevelString";
@@ -213,6 +297,28 @@ public class SimpleLogger extends LegacyAbstractLogger {
 
 	public static final String DEFAULT_LOG_LEVEL_KEY = SimpleLogger.SYSTEM_PREFIX + "defaultLogLevel";
 
+	public static final String ENCODER_KEY = SimpleLogger.SYSTEM_PREFIX + "encoder";
+
+	public static final String SHOW_MDC_KEY = SimpleLogger.SYSTEM_PREFIX + "showMDC";
+
+	public static final String OUTPUT_BUFFER_SIZE_KEY = SimpleLogger.SYSTEM_PREFIX + "outputBufferSize";
+
+	public static final String FLUSH_POLICY_KEY = SimpleLogger.SYSTEM_PREFIX + "flushPolicy";
+
+	public static final String FLUSH_COUNT_KEY = SimpleLogger.SYSTEM_PREFIX + "flushCount";
+
+	public static final String FLUSH_SIZE_KEY = SimpleLogger.SYSTEM_PREFIX + "flushSize";
+
+	public static final String FLUSH_INTERVAL_KEY = SimpleLogger.SYSTEM_PREFIX + "flushInterval";
+
+	public static final String DIRECT_WRITE_KEY = SimpleLogger.SYSTEM_PREFIX + "directWrite";
+
+	public static final String ASYNC_KEY = SimpleLogger.SYSTEM_PREFIX + "async";
+
+	public static final String ASYNC_BUFFER_SIZE_KEY = SimpleLogger.SYSTEM_PREFIX + "asyncBufferSize";
+
+	public static final String ASYNC_POLICY_KEY = SimpleLogger.SYSTEM_PREFIX + "asyncPolicy";
+
 	/**
 	 * Package access allows only {@link SimpleLoggerFactory} to instantiate
 	 * SimpleLogger instances.
@@ -241,12 +347,12 @@ public class SimpleLogger extends LegacyAbstractLogger {
 	}
 
 
-	void write(StringBuilder buf, Throwable t) {
+	void write(Level level, StringBuilder buf, Throwable t) {
 		PrintStream targetStream = CONFIG_PARAMS.outputChoice.getTargetPrintStream();
 
 		targetStream.println(buf.toString());
 		writeThrowable(t, targetStream);
-		targetStream.flush();
+		CONFIG_PARAMS.flushPolicy.afterWrite(targetStream, level, 1, buf.length() + 1);
 	}
 
 	protected void writeThrowable(Throwable t, PrintStream targetStream) {
@@ -255,11 +361,11 @@ public class SimpleLogger extends LegacyAbstractLogger {
 		}
 	}
 
-	private String getFormattedDate() {
+	private String getLegacyFormattedDate() {
 		Date now = new Date();
 		String dateText;
-		synchronized (CONFIG_PARAMS.dateFormatter) {
-			dateText = CONFIG_PARAMS.dateFormatter.format(now);
+		synchronized (CONFIG_PARAMS.legacyDateFormatter) {
+			dateText = CONFIG_PARAMS.legacyDateFormatter.format(now);
 		}
 		return dateText;
 	}
@@ -312,6 +418,51 @@ public class SimpleLogger extends LegacyAbstractLogger {
 		return (logLevel >= currentLogLevel);
 	}
 
+	/**
+	 * Is the given log level enabled for events carrying <code>marker</code>?
+	 * A level configured for the marker takes precedence over the level of
+	 * this logger.
+	 *
+	 * @param logLevel is this level enabled?
+	 * @param marker   the marker of the event, may be null
+	 * @return whether the logger is enabled for the given level and marker
+	 */
+	protected boolean isLevelEnabled(int logLevel, Marker marker) {
+		if (marker == null || !CONFIG_PARAMS.hasMarkerLevels()) {
+			return isLevelEnabled(logLevel);
+		}
+		int markerLevel = CONFIG_PARAMS.getMarkerLevel(marker);
+		if (markerLevel == SimpleLoggerConfiguration.NO_MARKER_LEVEL) {
+			return isLevelEnabled(logLevel);
+		}
+		return logLevel >= markerLevel;
+	}
+
+	private boolean isLevelEnabled(int logLevel, List<Marker> markers) {
+		if (markers == null || markers.isEmpty() || !CONFIG_PARAMS.hasMarkerLevels()) {
+			return isLevelEnabled(logLevel);
+		}
+		int level = SimpleLoggerConfiguration.NO_MARKER_LEVEL;
+		for (Marker marker : markers) {
+			int markerLevel = CONFIG_PARAMS.getMarkerLevel(marker);
+			if (markerLevel != SimpleLoggerConfiguration.NO_MARKER_LEVEL && (level == SimpleLoggerConfiguration.NO_MARKER_LEVEL || markerLevel < level)) {
+				level = markerLevel;
+			}
+		}
+		if (level == SimpleLoggerConfiguration.NO_MARKER_LEVEL) {
+			return isLevelEnabled(logLevel);
+		}
+		return logLevel >= level;
+	}
+
+	/**
+	 * Whether events of the given level may be enabled, by the level of this
+	 * logger or by some marker level.
+	 */
+	private boolean isLevelPossiblyEnabled(int logLevel) {
+		return isLevelEnabled(logLevel) || CONFIG_PARAMS.isEnabledForSomeMarker(logLevel);
+	}
+
 	/** Are {@code trace} messages currently enabled? */
 	@Override
     public boolean isTraceEnabled() {
@@ -342,6 +493,68 @@ public class SimpleLogger extends LegacyAbstractLogger {
 		return isLevelEnabled(LOG_LEVEL_ERROR);
 	}
 
+	@Override
+	public boolean isTraceEnabled(Marker marker) {
+		return isLevelEnabled(LOG_LEVEL_TRACE, marker);
+	}
+
+	@Override
+	public boolean isDebugEnabled(Marker marker) {
+		return isLevelEnabled(LOG_LEVEL_DEBUG, marker);
+	}
+
+	@Override
+	public boolean isInfoEnabled(Marker marker) {
+		return isLevelEnabled(LOG_LEVEL_INFO, marker);
+	}
+
+	@Override
+	public boolean isWarnEnabled(Marker marker) {
+		return isLevelEnabled(LOG_LEVEL_WARN, marker);
+	}
+
+	@Override
+	public boolean isErrorEnabled(Marker marker) {
+		return isLevelEnabled(LOG_LEVEL_ERROR, marker);
+	}
+
+	// The fluent API decides before markers are added. If a marker level may
+	// enable the event, a builder is returned and the marker levels are checked
+	// when the event is logged.
+
+	@Override
+	public LoggingEventBuilder atTrace() {
+		return atLevelPossiblyEnabled(Level.TRACE);
+	}
+
+	@Override
+	public LoggingEventBuilder atDebug() {
+		return atLevelPossiblyEnabled(Level.DEBUG);
+	}
+
+	@Override
+	public LoggingEventBuilder atInfo() {
+		return atLevelPossiblyEnabled(Level.INFO);
+	}
+
+	@Override
+	public LoggingEventBuilder atWarn() {
+		return atLevelPossiblyEnabled(Level.WARN);
+	}
+
+	@Override
+	public LoggingEventBuilder atError() {
+		return atLevelPossiblyEnabled(Level.ERROR);
+	}
+
+	private LoggingEventBuilder atLevelPossiblyEnabled(Level level) {
+		if (isLevelPossiblyEnabled(level.toInt())) {
+			return makeLoggingEventBuilder(level);
+		} else {
+			return NOPLoggingEventBuilder.singleton();
+		}
+	}
+
 	/**
 	 * This is our internal implementation for logging regular (non-parameterized)
 	 * log messages.
@@ -361,77 +574,122 @@ public class SimpleLogger extends LegacyAbstractLogger {
 			markers.add(marker);
 		}
 		
-		innerHandleNormalizedLoggingCall(level, markers, messagePattern, arguments, t);
+		innerHandleNormalizedLoggingCall(level, markers, null, messagePattern, arguments, t);
 	}
 
-	private void innerHandleNormalizedLoggingCall(Level level, List<Marker> markers, String messagePattern, Object[] arguments,
-			Throwable t) {
+	private void innerHandleNormalizedLoggingCall(Level level, List<Marker> markers, List<KeyValuePair> keyValuePairs,
+			String messagePattern, Object[] arguments, Throwable t) {
+
+		LineBuffers buffers = LineBuffers.acquire();
+		try {
+			StringBuilder buf = buffers.line;
+
+			CharSequence dateTime = null;
+			if (CONFIG_PARAMS.showDateTime) {
+				dateTime = buffers.dateTime;
+				if (CONFIG_PARAMS.dateFormatter != null) {
+					CONFIG_PARAMS.dateFormatter.formatTo(buffers.dateTime, System.currentTimeMillis());
+				} else if (CONFIG_PARAMS.legacyDateFormatter != null) {
+					buffers.dateTime.append(getLegacyFormattedDate());
+				} else {
+					buffers.dateTime.append(System.currentTimeMillis() - START_TIME);
+				}
+			}
 
-		StringBuilder buf = new StringBuilder(32);
+			String threadName = CONFIG_PARAMS.showThreadName ? Thread.currentThread().getName() : null;
 
-		// Append date-time if so configured
-		if (CONFIG_PARAMS.showDateTime) {
-			if (CONFIG_PARAMS.dateFormatter != null) {
-				buf.append(getFormattedDate());
-				buf.append(' ');
-			} else {
-				buf.append(System.currentTimeMillis() - START_TIME);
-				buf.append(' ');
+			String loggerName = null;
+			if (CONFIG_PARAMS.showShortLogName) {
+				if (shortLogName == null)
+					shortLogName = computeShortName();
+				loggerName = shortLogName;
+			} else if (CONFIG_PARAMS.showLogName) {
+				loggerName = String.valueOf(name);
 			}
-		}
 
-		// Append current thread name if so configured
-		if (CONFIG_PARAMS.showThreadName) {
-			buf.append('[');
-			buf.append(Thread.currentThread().getName());
-			buf.append("] ");
-		}
-
-		if (CONFIG_PARAMS.levelInBrackets)
-			buf.append('[');
-
-		// Append a readable representation of the log level
-		String levelStr = level.name();
-		buf.append(levelStr);
-		if (CONFIG_PARAMS.levelInBrackets)
-			buf.append(']');
-		buf.append(' ');
-
-		// Append the name of the log instance if so configured
-		if (CONFIG_PARAMS.showShortLogName) {
-			if (shortLogName == null)
-				shortLogName = computeShortName();
-			buf.append(String.valueOf(shortLogName)).append(" - ");
-		} else if (CONFIG_PARAMS.showLogName) {
-			buf.append(String.valueOf(name)).append(" - ");
+			Map<String, String> mdc = CONFIG_PARAMS.showMDC ? MDC.getCopyOfContextMap() : null;
+
+			Encoder encoder = CONFIG_PARAMS.encoder;
+			encoder.encode(buf, dateTime, threadName, level, loggerName, markers, mdc, keyValuePairs, messagePattern,
+					arguments, t);
+
+			Throwable unencoded = encoder.encodesThrowable() ? null : t;
+			AsyncWriter asyncWriter = CONFIG_PARAMS.asyncWriter;
+			if (asyncWriter != null) {
+				buf.append(System.lineSeparator());
+				if (unencoded != null) {
+					buf.append(Encoder.stackTraceOf(unencoded));
+				}
+				asyncWriter.write(level, buf.toString());
+			} else if (CONFIG_PARAMS.directWrite && unencoded == null) {
+				writeDirect(level, buffers);
+			} else {
+				write(level, buf, unencoded);
+			}
+		} finally {
+			buffers.release();
 		}
+	}
 
-		if(markers != null) {
-			buf.append(SP);
-			for(Marker marker: markers) {
-				buf.append(marker.getName()).append(SP);		
+	/**
+	 * Encode the line to bytes in the buffers of the current thread and write
+	 * them to the target, bypassing the character encoding of
+	 * {@link PrintStream}. A file is written through its channel if it is
+	 * flushed after each event anyway, and through its buffered stream
+	 * otherwise.
+	 */
+	private void writeDirect(Level level, LineBuffers buffers) {
+		buffers.line.append(System.lineSeparator());
+		OutputChoice outputChoice = CONFIG_PARAMS.outputChoice;
+		FlushPolicy flushPolicy = CONFIG_PARAMS.flushPolicy;
+		PrintStream targetStream = outputChoice.getTargetPrintStream();
+		FileChannel channel = outputChoice.getTargetChannel();
+
+		if (channel != null && flushPolicy.getType() == FlushPolicy.Type.ALWAYS) {
+			ByteBuffer bytes = buffers.encode(CONFIG_PARAMS.outputCharset, true);
+			// lines written through the stream, i.e. with a throwable, hold
+			// its lock
+			synchronized (targetStream) {
+				try {
+					while (bytes.hasRemaining()) {
+						channel.write(bytes);
+					}
+				} catch (IOException e) {
+					// ignored, as PrintStream does
+				}
 			}
+		} else {
+			ByteBuffer bytes = buffers.encode(CONFIG_PARAMS.outputCharset, false);
+			int length = bytes.remaining();
+			targetStream.write(bytes.array(), bytes.arrayOffset() + bytes.position(), length);
+			flushPolicy.afterWrite(targetStream, level, 1, length);
 		}
-		
-		String formattedMessage = MessageFormatter.basicArrayFormat(messagePattern, arguments);
-
-		// Append the message
-		buf.append(formattedMessage);
-
-		write(buf, t);
 	}
 
-	
+	/**
+	 * Log an event built by the fluent API. Contrary to events logged through
+	 * the public {@link Logger} API, the markers of the event are known at this
+	 * point, so that marker levels apply.
+	 */
+	@Override
 	public void log(LoggingEvent event) {
 		int levelInt = event.getLevel().toInt();
 
-		if (!isLevelEnabled(levelInt)) {
+		if (!isLevelEnabled(levelInt, event.getMarkers())) {
 			return;
 		}
 		
 		NormalizedParameters np = NormalizedParameters.normalize(event);
 		
-		innerHandleNormalizedLoggingCall(event.getLevel(), event.getMarkers(), np.getMessage(), np.getArguments(), event.getThrowable());
+		innerHandleNormalizedLoggingCall(event.getLevel(), event.getMarkers(), event.getKeyValuePairs(), np.getMessage(), np.getArguments(), event.getThrowable());
+	}
+
+	/**
+	 * Events are written out before {@link #log(LoggingEvent)} returns.
+	 */
+	@Override
+	public boolean acceptsReusableEvents() {
+		return true;
 	}
 
 	@Override
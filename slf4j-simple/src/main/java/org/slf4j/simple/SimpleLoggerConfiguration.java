@@ -1,15 +1,23 @@
 package org.slf4j.simple;
 
+import java.io.BufferedOutputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.security.AccessController;
+import java.nio.charset.Charset;
 import java.security.PrivilegedAction;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.slf4j.Marker;
+import org.slf4j.helpers.CachingDateFormatter;
 import org.slf4j.helpers.Util;
 import org.slf4j.simple.OutputChoice.OutputChoiceType;
 
@@ -31,6 +39,8 @@ public class SimpleLoggerConfiguration {
 
     private static final String CONFIGURATION_FILE = "simplelogger.properties";
 
+    private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean();
+
     static int DEFAULT_LOG_LEVEL_DEFAULT = SimpleLogger.LOG_LEVEL_INFO;
     int defaultLogLevel = DEFAULT_LOG_LEVEL_DEFAULT;
 
@@ -40,7 +50,9 @@ public class SimpleLoggerConfiguration {
     private static final String DATE_TIME_FORMAT_STR_DEFAULT = null;
     private static String dateTimeFormatStr = DATE_TIME_FORMAT_STR_DEFAULT;
 
-    DateFormat dateFormatter = null;
+    CachingDateFormatter dateFormatter = null;
+    // set instead of dateFormatter if DateTimeFormatter would format the pattern differently
+    DateFormat legacyDateFormatter = null;
 
     private static final boolean SHOW_THREAD_NAME_DEFAULT = true;
     boolean showThreadName = SHOW_THREAD_NAME_DEFAULT;
@@ -61,9 +73,43 @@ public class SimpleLoggerConfiguration {
     private static final boolean CACHE_OUTPUT_STREAM_DEFAULT = false;
     private boolean cacheOutputStream = CACHE_OUTPUT_STREAM_DEFAULT;
 
+    private static final int OUTPUT_BUFFER_SIZE_DEFAULT = 8192;
+
+    private static final String FLUSH_POLICY_DEFAULT = "always";
+    private static final int FLUSH_COUNT_DEFAULT = 64;
+    private static final int FLUSH_SIZE_DEFAULT = 8192;
+    private static final int FLUSH_INTERVAL_DEFAULT = 1000;
+    FlushPolicy flushPolicy = FlushPolicy.ALWAYS;
+
+    private static final boolean DIRECT_WRITE_DEFAULT = false;
+    boolean directWrite = DIRECT_WRITE_DEFAULT;
+    Charset outputCharset = Charset.defaultCharset();
+
+    private static final boolean ASYNC_DEFAULT = false;
+    private static final int ASYNC_BUFFER_SIZE_DEFAULT = 8192;
+    private static final String ASYNC_POLICY_DEFAULT = "block";
+    AsyncWriter asyncWriter = null;
+
+    private static final String ENCODER_DEFAULT = Encoder.PLAIN;
+    Encoder encoder = null;
+
+    // by default, only structured encoders show the MDC
+    boolean showMDC = false;
+
     private static final String WARN_LEVELS_STRING_DEFAULT = "WARN";
     String warnLevelString = WARN_LEVELS_STRING_DEFAULT;
 
+    /**
+     * Returned by {@link #getMarkerLevel(Marker)} for markers without a
+     * configured level.
+     */
+    static final int NO_MARKER_LEVEL = -1;
+
+    // parallel arrays, as configured via SimpleLogger.MARKER_KEY_PREFIX
+    private String[] levelMarkerNames = new String[0];
+    private int[] markerLevels = new int[0];
+    private int lowestMarkerLevel = Integer.MAX_VALUE;
+
     private final Properties properties = new Properties();
 
     void init() {
@@ -83,16 +129,145 @@ public class SimpleLoggerConfiguration {
 
         logFile = getStringProperty(SimpleLogger.LOG_FILE_KEY, logFile);
 
+        initMarkerLevels();
+
         cacheOutputStream = getBooleanProperty(SimpleLogger.CACHE_OUTPUT_STREAM_STRING_KEY, CACHE_OUTPUT_STREAM_DEFAULT);
-        outputChoice = computeOutputChoice(logFile, cacheOutputStream);
+        int outputBufferSize = getIntProperty(SimpleLogger.OUTPUT_BUFFER_SIZE_KEY, OUTPUT_BUFFER_SIZE_DEFAULT);
+        outputChoice = computeOutputChoice(logFile, cacheOutputStream, outputBufferSize);
+
+        directWrite = getBooleanProperty(SimpleLogger.DIRECT_WRITE_KEY, DIRECT_WRITE_DEFAULT);
+
+        flushPolicy = computeFlushPolicy();
+        flushPolicy.start(outputChoice);
+
+        if (getBooleanProperty(SimpleLogger.ASYNC_KEY, ASYNC_DEFAULT)) {
+            int bufferSize = getIntProperty(SimpleLogger.ASYNC_BUFFER_SIZE_KEY, ASYNC_BUFFER_SIZE_DEFAULT);
+            String policyStr = getStringProperty(SimpleLogger.ASYNC_POLICY_KEY, ASYNC_POLICY_DEFAULT);
+            asyncWriter = new AsyncWriter(outputChoice, bufferSize, AsyncWriter.BackpressurePolicy.fromString(policyStr),
+                            flushPolicy);
+            asyncWriter.start();
+        }
+
+        if (asyncWriter != null || flushPolicy.getType() != FlushPolicy.Type.ALWAYS) {
+            registerShutdownHook();
+        }
 
         if (dateTimeFormatStr != null) {
             try {
-                dateFormatter = new SimpleDateFormat(dateTimeFormatStr);
-            } catch (IllegalArgumentException e) {
+                if (CachingDateFormatter.hasSimpleDateFormatSemantics(dateTimeFormatStr)) {
+                    dateFormatter = new CachingDateFormatter(dateTimeFormatStr);
+                } else {
+                    legacyDateFormatter = new SimpleDateFormat(dateTimeFormatStr);
+                }
+            } catch (IllegalArgumentException | DateTimeException e) {
                 Util.report("Bad date format in " + CONFIGURATION_FILE + "; will output relative time", e);
             }
         }
+
+        String encoderStr = getStringProperty(SimpleLogger.ENCODER_KEY, ENCODER_DEFAULT);
+        encoder = Encoder.forName(encoderStr, levelInBrackets, dateFormatter == null && legacyDateFormatter == null);
+        showMDC = getBooleanProperty(SimpleLogger.SHOW_MDC_KEY, !(encoder instanceof PlainEncoder));
+    }
+
+    private FlushPolicy computeFlushPolicy() {
+        String typeStr = getStringProperty(SimpleLogger.FLUSH_POLICY_KEY, FLUSH_POLICY_DEFAULT);
+        FlushPolicy.Type type = FlushPolicy.typeFromString(typeStr);
+        switch (type) {
+        case COUNT:
+            return new FlushPolicy(type, getIntProperty(SimpleLogger.FLUSH_COUNT_KEY, FLUSH_COUNT_DEFAULT));
+        case SIZE:
+            return new FlushPolicy(type, getIntProperty(SimpleLogger.FLUSH_SIZE_KEY, FLUSH_SIZE_DEFAULT));
+        case INTERVAL:
+            return new FlushPolicy(type, getIntProperty(SimpleLogger.FLUSH_INTERVAL_KEY, FLUSH_INTERVAL_DEFAULT));
+        case WARN:
+            return new FlushPolicy(type, 0);
+        default:
+            return FlushPolicy.ALWAYS;
+        }
+    }
+
+    /**
+     * Register, once per class loader, a hook shutting down the configuration
+     * current on exit. Configurations replaced by {@link SimpleLogger#init()}
+     * are shut down at that time and must not be retained by the hook.
+     */
+    private static void registerShutdownHook() {
+        if (!SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                SimpleLoggerConfiguration current = SimpleLogger.CONFIG_PARAMS;
+                if (current != null) {
+                    current.shutdown();
+                }
+            }, "slf4j-simple-shutdown"));
+        } catch (IllegalStateException | SecurityException e) {
+            Util.report("Could not register the shutdown hook of SimpleLogger, output may be lost on exit", e);
+        }
+    }
+
+    /**
+     * Drain the asynchronous writer, if any, stop the background flusher, if
+     * any, and flush the output target.
+     */
+    void shutdown() {
+        if (asyncWriter != null) {
+            asyncWriter.shutdown();
+        }
+        flushPolicy.close(outputChoice);
+    }
+
+    private void initMarkerLevels() {
+        Set<String> markerNames = new TreeSet<>();
+        collectMarkerNames(properties, markerNames);
+        try {
+            collectMarkerNames(System.getProperties(), markerNames);
+        } catch (SecurityException e) {
+            ; // Ignore
+        }
+        levelMarkerNames = markerNames.toArray(new String[0]);
+        markerLevels = new int[levelMarkerNames.length];
+        for (int i = 0; i < levelMarkerNames.length; i++) {
+            markerLevels[i] = stringToLevel(getStringProperty(SimpleLogger.MARKER_KEY_PREFIX + levelMarkerNames[i]));
+            lowestMarkerLevel = Math.min(lowestMarkerLevel, markerLevels[i]);
+        }
+    }
+
+    private static void collectMarkerNames(Properties props, Set<String> markerNames) {
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(SimpleLogger.MARKER_KEY_PREFIX) && key.length() > SimpleLogger.MARKER_KEY_PREFIX.length()) {
+                markerNames.add(key.substring(SimpleLogger.MARKER_KEY_PREFIX.length()));
+            }
+        }
+    }
+
+    boolean hasMarkerLevels() {
+        return levelMarkerNames.length != 0;
+    }
+
+    /**
+     * Whether some marker level enables events of the given level.
+     */
+    boolean isEnabledForSomeMarker(int level) {
+        return level >= lowestMarkerLevel;
+    }
+
+    /**
+     * Return the level configured for <code>marker</code>, or for a marker it
+     * references, directly or not. If several apply, the lowest, i.e. the most
+     * permissive, is returned.
+     *
+     * @return the configured level, or {@link #NO_MARKER_LEVEL}
+     */
+    int getMarkerLevel(Marker marker) {
+        int level = NO_MARKER_LEVEL;
+        for (int i = 0; i < levelMarkerNames.length; i++) {
+            if ((level == NO_MARKER_LEVEL || markerLevels[i] < level) && marker.contains(levelMarkerNames[i])) {
+                level = markerLevels[i];
+            }
+        }
+        return level;
     }
 
     private void loadProperties() {
@@ -132,6 +307,23 @@ public class SimpleLoggerConfiguration {
         return (prop == null) ? defaultValue : "true".equalsIgnoreCase(prop);
     }
 
+    int getIntProperty(String name, int defaultValue) {
+        String prop = getStringProperty(name);
+        if (prop == null) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(prop.trim());
+            if (value > 0 && value <= (1 << 30)) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        Util.report("Invalid value [" + prop + "] for " + name + ", using " + defaultValue);
+        return defaultValue;
+    }
+
     String getStringProperty(String name) {
         String prop = null;
         try {
@@ -160,7 +352,7 @@ public class SimpleLoggerConfiguration {
         return SimpleLogger.LOG_LEVEL_INFO;
     }
 
-    private static OutputChoice computeOutputChoice(String logFile, boolean cacheOutputStream) {
+    private static OutputChoice computeOutputChoice(String logFile, boolean cacheOutputStream, int bufferSize) {
         if ("System.err".equalsIgnoreCase(logFile))
             if (cacheOutputStream)
                 return new OutputChoice(OutputChoiceType.CACHED_SYS_ERR);
@@ -174,8 +366,9 @@ public class SimpleLoggerConfiguration {
         } else {
             try {
                 FileOutputStream fos = new FileOutputStream(logFile);
-                PrintStream printStream = new PrintStream(fos);
-                return new OutputChoice(printStream);
+                // flushing is up to the FlushPolicy
+                PrintStream printStream = new PrintStream(new BufferedOutputStream(fos, bufferSize));
+                return new OutputChoice(printStream, fos.getChannel());
             } catch (FileNotFoundException e) {
                 Util.report("Could not open [" + logFile + "]. Defaulting to System.err", e);
                 return new OutputChoice(OutputChoiceType.SYS_ERR);
@@ -3,7 +3,7 @@ package org.slf4j.simple;
 import org.slf4j.ILoggerFactory;
 import org.slf4j.IMarkerFactory;
 import org.slf4j.helpers.BasicMarkerFactory;
-import org.slf4j.helpers.NOPMDCAdapter;
+import org.slf4j.helpers.MDCAdapters;
 import org.slf4j.spi.MDCAdapter;
 import org.slf4j.spi.SLF4JServiceProvider;
 
@@ -44,7 +44,7 @@ public class SimpleServiceProvider implements SLF4JServiceProvider {
     public void initialize() {
         loggerFactory = new SimpleLoggerFactory();
         markerFactory = new BasicMarkerFactory();
-        mdcAdapter = new NOPMDCAdapter();
+        mdcAdapter = MDCAdapters.newBasicMDCAdapter();
     }
 
 }
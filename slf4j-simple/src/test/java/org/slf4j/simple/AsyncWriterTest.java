@@ -0,0 +1,156 @@
+package org.slf4j.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.event.Level;
+import org.slf4j.simple.AsyncWriter.BackpressurePolicy;
+
+public class AsyncWriterTest {
+
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    OutputChoice outputChoice = new OutputChoice(new PrintStream(bout));
+    PrintStream original = System.err;
+
+    @After
+    public void after() {
+        System.clearProperty(SimpleLogger.ASYNC_KEY);
+        System.setErr(original);
+        SimpleLogger.init();
+    }
+
+    @Test
+    public void ringBufferRoundsCapacityAndRejectsWhenFull() {
+        RingBuffer<String> buffer = new RingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        assertTrue(buffer.isEmpty());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer("e" + i));
+        }
+        assertFalse(buffer.offer("e4"));
+        assertEquals(4, buffer.size());
+        assertEquals("e0", buffer.poll());
+        assertTrue(buffer.offer("e4"));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals("e" + i, buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertEquals(5, buffer.offeredCount());
+    }
+
+    @Test
+    public void ringBufferWithConcurrentProducers() throws InterruptedException {
+        final int producerCount = 4;
+        final int perProducer = 20000;
+        RingBuffer<int[]> buffer = new RingBuffer<>(64);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            final int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    int[] e = { producer, i };
+                    while (!buffer.offer(e)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        int[] next = new int[producerCount];
+        int received = 0;
+        while (received < producerCount * perProducer) {
+            int[] e = buffer.poll();
+            if (e == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(next[e[0]]++, e[1]);
+            received++;
+        }
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void shutdownDrainsInOrder() {
+        AsyncWriter writer = new AsyncWriter(outputChoice, 16, BackpressurePolicy.BLOCK, FlushPolicy.ALWAYS);
+        writer.start();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            String line = "line " + i + "\n";
+            writer.write(Level.INFO, line);
+            expected.append(line);
+        }
+        writer.shutdown();
+        assertEquals(expected.toString(), bout.toString());
+        assertEquals(1000, writer.getEnqueuedCount());
+        assertEquals(0, writer.getQueuedCount());
+        assertEquals(0, writer.getDroppedCount());
+
+        // after shutdown, lines are written by the caller
+        writer.write(Level.INFO, "late\n");
+        assertTrue(bout.toString().endsWith("late\n"));
+    }
+
+    @Test
+    public void dropPolicy() {
+        AsyncWriter writer = new AsyncWriter(outputChoice, 2, BackpressurePolicy.DROP, FlushPolicy.ALWAYS);
+        for (int i = 0; i < 5; i++) {
+            writer.write(Level.ERROR, "line " + i + "\n");
+        }
+        assertEquals(2, writer.getQueuedCount());
+        assertEquals(3, writer.getDroppedCount());
+        writer.start();
+        writer.shutdown();
+        assertEquals("line 0\nline 1\n", bout.toString());
+    }
+
+    @Test
+    public void dropBelowWarnPolicy() {
+        AsyncWriter writer = new AsyncWriter(outputChoice, 2, BackpressurePolicy.DROP_BELOW_WARN, FlushPolicy.ALWAYS);
+        writer.write(Level.INFO, "info 0\n");
+        writer.write(Level.DEBUG, "debug 1\n");
+        writer.write(Level.INFO, "info 2\n");
+        writer.write(Level.TRACE, "trace 3\n");
+        assertEquals(2, writer.getDroppedCount());
+
+        writer.start();
+        // waits for the writer thread to free a slot
+        writer.write(Level.WARN, "warn 4\n");
+        writer.shutdown();
+        assertEquals("info 0\ndebug 1\nwarn 4\n", bout.toString());
+        assertEquals(2, writer.getDroppedCount());
+    }
+
+    @Test
+    public void asyncSimpleLogger() {
+        System.setErr(new PrintStream(bout));
+        System.setProperty(SimpleLogger.ASYNC_KEY, "true");
+        SimpleLogger.init();
+        AsyncWriter writer = SimpleLogger.getAsyncWriter();
+        assertNotNull(writer);
+        assertEquals(BackpressurePolicy.BLOCK, writer.getPolicy());
+
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+        simpleLogger.info("hello");
+        simpleLogger.warn("failed", new IllegalStateException("boom"));
+        writer.shutdown();
+
+        String output = bout.toString();
+        assertTrue(output, output.contains("INFO a - hello" + System.lineSeparator()));
+        assertTrue(output, output.contains("WARN a - failed" + System.lineSeparator() + "java.lang.IllegalStateException: boom"));
+    }
+}
@@ -26,6 +26,7 @@ package org.slf4j.simple;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -123,6 +124,29 @@ public class DetectLoggerNameMismatchTest {
         assertMismatchDetected(false);
     }
 
+    @Test
+    public void noArgumentGetLoggerIsNamedAfterCaller() {
+        Logger logger = LoggerFactory.getLogger();
+        assertEquals(NAME_OF_THIS_CLASS, logger.getName());
+        assertEquals(Square.class.getName(), new Square().noArgumentLogger.getName());
+    }
+
+    /*
+     * On Java 9 and later, the caller is found by the StackWalker based
+     * implementation in META-INF/versions/9, which is only in use when
+     * slf4j-api is on the class path as its multi-release jar, as is the case
+     * when the reactor is built up to the package phase.
+     */
+    @Test
+    public void stackWalkerIsUsedFromMultiReleaseJar() throws Exception {
+        String apiLocation = LoggerFactory.class.getProtectionDomain().getCodeSource().getLocation().getPath();
+        assumeTrue("slf4j-api is not on the class path as a jar but as " + apiLocation, apiLocation.endsWith(".jar"));
+
+        Class<?> callerFinder = Class.forName("org.slf4j.helpers.CallerFinder");
+        assertEquals("java.lang.StackWalker", callerFinder.getDeclaredField("WALKER").getType().getName());
+        assertEquals(NAME_OF_THIS_CLASS, LoggerFactory.getLogger().getName());
+    }
+
     private static void setTrialEnabled(boolean enabled) {
         // The system property is read into a static variable at initialization time
         // so we cannot just reset the system property to test this feature.
@@ -137,4 +161,5 @@ class ShapeBase {
 }
 
 class Square extends ShapeBase {
+    Logger noArgumentLogger = LoggerFactory.getLogger();
 }
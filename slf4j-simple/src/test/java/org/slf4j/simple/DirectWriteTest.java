@@ -0,0 +1,119 @@
+package org.slf4j.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DirectWriteTest {
+
+    static final String SEP = System.lineSeparator();
+
+    File file;
+    PrintStream original = System.err;
+
+    @Before
+    public void before() throws IOException {
+        file = File.createTempFile("simpleLogger", ".log");
+        file.deleteOnExit();
+        System.setProperty(SimpleLogger.DIRECT_WRITE_KEY, "true");
+        System.setProperty(SimpleLogger.SHOW_THREAD_NAME_KEY, "false");
+    }
+
+    @After
+    public void after() {
+        System.clearProperty(SimpleLogger.DIRECT_WRITE_KEY);
+        System.clearProperty(SimpleLogger.SHOW_THREAD_NAME_KEY);
+        System.clearProperty(SimpleLogger.LOG_FILE_KEY);
+        System.setErr(original);
+        SimpleLogger.init();
+    }
+
+    @Test
+    public void fileChannel() throws IOException {
+        System.setProperty(SimpleLogger.LOG_FILE_KEY, file.getPath());
+        SimpleLogger.init();
+        assertTrue(SimpleLogger.CONFIG_PARAMS.outputChoice.getTargetChannel() != null);
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+
+        simpleLogger.info("one {}", 1);
+        simpleLogger.warn("two", new IllegalStateException("boom"));
+        simpleLogger.info("three");
+
+        String content = new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset());
+        assertTrue(content, content.startsWith("INFO a - one 1" + SEP + "WARN a - two" + SEP
+                        + "java.lang.IllegalStateException: boom" + SEP));
+        assertTrue(content, content.endsWith(SEP + "INFO a - three" + SEP));
+    }
+
+    @Test
+    public void outputStream() throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(bout));
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+
+        String message = "café ☃ " + new String(new char[LineBuffers.MAX_RETAINED_CHARS]).replace('\0', 'x');
+        simpleLogger.info(message);
+        simpleLogger.info("short");
+
+        Charset charset = SimpleLogger.CONFIG_PARAMS.outputCharset;
+        String expected = "INFO a - " + message + SEP + "INFO a - short" + SEP;
+        assertEquals(new String(expected.getBytes(charset), charset), new String(bout.toByteArray(), charset));
+    }
+
+    @Test
+    public void nestedLogging() {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(bout));
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+        Object logsWhenRendered = new Object() {
+            @Override
+            public String toString() {
+                simpleLogger.info("nested");
+                return "outer";
+            }
+        };
+
+        simpleLogger.info("{}", logsWhenRendered);
+        assertEquals("INFO a - nested" + SEP + "INFO a - outer" + SEP, bout.toString());
+    }
+
+    @Test
+    public void noAllocationInSteadyState() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+        System.setProperty(SimpleLogger.LOG_FILE_KEY, file.getPath());
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < 20000; i++) {
+            simpleLogger.info("warming up");
+        }
+        int count = 10000;
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            simpleLogger.info("steady state");
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+        // a few bytes of slack for the measurement itself
+        assertTrue("allocated " + allocated + " bytes for " + count + " events", allocated / count < 8);
+    }
+}
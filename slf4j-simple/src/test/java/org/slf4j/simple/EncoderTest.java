@@ -0,0 +1,100 @@
+package org.slf4j.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.slf4j.event.KeyValuePair;
+import org.slf4j.event.Level;
+
+public class EncoderTest {
+
+    List<Marker> markers = Arrays.asList(MarkerFactory.getDetachedMarker("AUDIT"), MarkerFactory.getDetachedMarker("SEC"));
+    List<KeyValuePair> keyValuePairs = Arrays.asList(new KeyValuePair("size", 2), new KeyValuePair("ok", true),
+                    new KeyValuePair("name", "x \"y\""), new KeyValuePair("ratio", Double.NaN));
+    Map<String, String> mdc = new LinkedHashMap<>();
+    {
+        mdc.put("user", "alice");
+    }
+
+    String encode(Encoder encoder, String dateTime, List<Marker> markers, Map<String, String> mdc,
+                    List<KeyValuePair> keyValuePairs, String pattern, Object[] arguments, Throwable t) {
+        StringBuilder buf = new StringBuilder();
+        encoder.encode(buf, dateTime, "main", Level.INFO, "a.b", markers, mdc, keyValuePairs, pattern, arguments, t);
+        return buf.toString();
+    }
+
+    @Test
+    public void plainKeepsLegacyLayout() {
+        String out = encode(new PlainEncoder(false), "12", null, null, null, "hello {}", new Object[] { "world" }, null);
+        assertEquals("12 [main] INFO a.b - hello world", out);
+    }
+
+    @Test
+    public void plainWithAllFields() {
+        String out = encode(new PlainEncoder(true), null, markers, mdc, keyValuePairs.subList(0, 1), "hello", null, null);
+        assertEquals("[main] [INFO] a.b -  AUDIT SEC {user=alice} size=2 hello", out);
+    }
+
+    @Test
+    public void logfmt() {
+        String out = encode(new LogfmtEncoder(), "12", markers, mdc, keyValuePairs, "hello {}", new Object[] { "world" }, null);
+        assertEquals("time=12 level=INFO thread=main logger=a.b markers=AUDIT,SEC msg=\"hello world\" size=2 ok=true name=\"x \\\"y\\\"\" ratio=NaN user=alice",
+                        out);
+    }
+
+    @Test
+    public void logfmtQuotesOnlyWhenNeeded() {
+        String out = encode(new LogfmtEncoder(), null, null, null, Collections.singletonList(new KeyValuePair("a key", "")),
+                        "done", null, null);
+        assertEquals("level=INFO thread=main logger=a.b msg=done a_key=\"\"", out);
+    }
+
+    @Test
+    public void logfmtException() {
+        String out = encode(new LogfmtEncoder(), null, null, null, null, "failed", null, new IllegalStateException("boom"));
+        assertTrue(out, out.startsWith("level=INFO thread=main logger=a.b msg=failed exception=\"java.lang.IllegalStateException: boom\\n"));
+        assertFalse(out.contains("\n"));
+        assertTrue(new LogfmtEncoder().encodesThrowable());
+    }
+
+    @Test
+    public void json() {
+        String out = encode(new JsonEncoder(true), "12", markers, mdc, keyValuePairs, "hello {}", new Object[] { "world" }, null);
+        assertEquals("{\"time\":12,\"level\":\"INFO\",\"thread\":\"main\",\"logger\":\"a.b\",\"markers\":[\"AUDIT\",\"SEC\"],"
+                        + "\"message\":\"hello world\",\"kv\":{\"size\":2,\"ok\":true,\"name\":\"x \\\"y\\\"\",\"ratio\":\"NaN\"},"
+                        + "\"mdc\":{\"user\":\"alice\"}}", out);
+    }
+
+    @Test
+    public void jsonFormattedTimeAndEscaping() {
+        String out = encode(new JsonEncoder(false), "2023-10-17 10:00", null, null, null, "line1\nline2\t\\ {}",
+                        new Object[] { "\u0001" }, null);
+        assertEquals("{\"time\":\"2023-10-17 10:00\",\"level\":\"INFO\",\"thread\":\"main\",\"logger\":\"a.b\","
+                        + "\"message\":\"line1\\nline2\\t\\\\ \\u0001\"}", out);
+    }
+
+    @Test
+    public void jsonException() {
+        String out = encode(new JsonEncoder(true), null, null, null, null, "failed", null, new IllegalStateException("boom"));
+        assertTrue(out, out.contains(",\"exception\":\"java.lang.IllegalStateException: boom\\n"));
+        assertTrue(out.endsWith("\"}"));
+        assertFalse(out.contains("\n"));
+    }
+
+    @Test
+    public void unknownEncoderFallsBackToPlain() {
+        assertTrue(Encoder.forName("xml", false, true) instanceof PlainEncoder);
+        assertTrue(Encoder.forName(" JSON ", false, true) instanceof JsonEncoder);
+        assertTrue(Encoder.forName("logfmt", false, true) instanceof LogfmtEncoder);
+    }
+}
@@ -0,0 +1,116 @@
+package org.slf4j.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+public class FlushPolicyTest {
+
+    AtomicInteger flushCount = new AtomicInteger();
+    PrintStream stream = new PrintStream(new ByteArrayOutputStream()) {
+        @Override
+        public void flush() {
+            flushCount.incrementAndGet();
+            super.flush();
+        }
+    };
+
+    @After
+    public void after() {
+        System.clearProperty(SimpleLogger.LOG_FILE_KEY);
+        System.clearProperty(SimpleLogger.FLUSH_POLICY_KEY);
+        System.clearProperty(SimpleLogger.FLUSH_COUNT_KEY);
+        SimpleLogger.init();
+    }
+
+    @Test
+    public void always() {
+        FlushPolicy.ALWAYS.afterWrite(stream, Level.DEBUG, 1, 10);
+        FlushPolicy.ALWAYS.afterWrite(stream, Level.DEBUG, 1, 10);
+        assertEquals(2, flushCount.get());
+    }
+
+    @Test
+    public void count() {
+        FlushPolicy policy = new FlushPolicy(FlushPolicy.Type.COUNT, 3);
+        policy.afterWrite(stream, Level.INFO, 1, 10);
+        policy.afterWrite(stream, Level.INFO, 1, 10);
+        assertEquals(0, flushCount.get());
+        policy.afterWrite(stream, Level.INFO, 1, 10);
+        assertEquals(1, flushCount.get());
+        policy.afterWrite(stream, Level.INFO, 5, 50);
+        assertEquals(2, flushCount.get());
+    }
+
+    @Test
+    public void size() {
+        FlushPolicy policy = new FlushPolicy(FlushPolicy.Type.SIZE, 100);
+        policy.afterWrite(stream, Level.INFO, 1, 60);
+        assertEquals(0, flushCount.get());
+        policy.afterWrite(stream, Level.INFO, 1, 60);
+        assertEquals(1, flushCount.get());
+    }
+
+    @Test
+    public void warn() {
+        FlushPolicy policy = new FlushPolicy(FlushPolicy.Type.WARN, 0);
+        policy.afterWrite(stream, Level.INFO, 1, 10);
+        assertEquals(0, flushCount.get());
+        policy.afterWrite(stream, Level.WARN, 1, 10);
+        policy.afterWrite(stream, Level.ERROR, 1, 10);
+        assertEquals(2, flushCount.get());
+        // batches of unknown levels are flushed
+        policy.afterWrite(stream, null, 3, 30);
+        assertEquals(3, flushCount.get());
+    }
+
+    @Test
+    public void interval() throws InterruptedException {
+        FlushPolicy policy = new FlushPolicy(FlushPolicy.Type.INTERVAL, 10);
+        OutputChoice outputChoice = new OutputChoice(stream);
+        policy.start(outputChoice);
+        policy.afterWrite(stream, Level.ERROR, 1, 10);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (flushCount.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(flushCount.get() > 0);
+        policy.close(outputChoice);
+    }
+
+    @Test
+    public void bufferedLogFile() throws IOException {
+        File file = File.createTempFile("simpleLogger", ".log");
+        file.deleteOnExit();
+        System.setProperty(SimpleLogger.LOG_FILE_KEY, file.getPath());
+        System.setProperty(SimpleLogger.FLUSH_POLICY_KEY, "count");
+        System.setProperty(SimpleLogger.FLUSH_COUNT_KEY, "3");
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+
+        simpleLogger.info("one");
+        simpleLogger.info("two");
+        assertEquals(0, file.length());
+        simpleLogger.info("three");
+        assertEquals(3, readLines(file));
+
+        simpleLogger.info("four");
+        SimpleLogger.CONFIG_PARAMS.shutdown();
+        assertEquals(4, readLines(file));
+    }
+
+    private static int readLines(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).split(System.lineSeparator()).length;
+    }
+}
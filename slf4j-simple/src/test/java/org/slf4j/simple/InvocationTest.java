@@ -24,6 +24,7 @@
  */
 package org.slf4j.simple;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
 import java.io.PrintStream;
@@ -135,7 +136,7 @@ public class InvocationTest {
     @Test
     public void testMDC() {
         MDC.put("k", "v");
-        assertNull(MDC.get("k"));
+        assertEquals("v", MDC.get("k"));
         MDC.remove("k");
         assertNull(MDC.get("k"));
         MDC.clear();
@@ -31,13 +31,21 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
 public class SimpleLoggerTest {
 
     String A_KEY = SimpleLogger.LOG_KEY_PREFIX + "a";
+    String AUDIT_KEY = SimpleLogger.MARKER_KEY_PREFIX + "AUDIT";
+    String NOISY_KEY = SimpleLogger.MARKER_KEY_PREFIX + "NOISY";
     PrintStream original = System.out;
     ByteArrayOutputStream bout = new ByteArrayOutputStream();
     PrintStream replacement = new PrintStream(bout);
@@ -50,6 +58,12 @@ public class SimpleLoggerTest {
     @After
     public void after() {
         System.clearProperty(A_KEY);
+        System.clearProperty(AUDIT_KEY);
+        System.clearProperty(NOISY_KEY);
+        System.clearProperty(SimpleLogger.ENCODER_KEY);
+        System.clearProperty(SimpleLogger.SHOW_DATE_TIME_KEY);
+        System.clearProperty(SimpleLogger.DATE_TIME_FORMAT_KEY);
+        MDC.clear();
         System.clearProperty(SimpleLogger.CACHE_OUTPUT_STREAM_STRING_KEY);
         System.setErr(original);
     }
@@ -119,4 +133,90 @@ public class SimpleLoggerTest {
         replacement.flush();
         assertTrue(bout.toString().contains("INFO "+this.getClass().getName()+" - hello"));
     }
+
+    @Test
+    public void dateTimeFormatKeepsSimpleDateFormatSemantics() {
+        System.setProperty(SimpleLogger.SHOW_DATE_TIME_KEY, "true");
+        // the day number of the week for SimpleDateFormat, the year for DateTimeFormatter
+        System.setProperty(SimpleLogger.DATE_TIME_FORMAT_KEY, "u");
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+
+        System.setErr(replacement);
+        simpleLogger.info("hello");
+        replacement.flush();
+        String expected = new SimpleDateFormat("u").format(new Date()) + " [";
+        assertTrue(bout.toString(), bout.toString().startsWith(expected));
+    }
+
+    @Test
+    public void markerLevelEnablesBelowLoggerLevel() {
+        System.setProperty(AUDIT_KEY, "trace");
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+        Marker audit = MarkerFactory.getMarker("AUDIT");
+
+        assertFalse(simpleLogger.isDebugEnabled());
+        assertTrue(simpleLogger.isTraceEnabled(audit));
+        assertFalse(simpleLogger.isTraceEnabled(MarkerFactory.getMarker("OTHER")));
+
+        System.setErr(replacement);
+        simpleLogger.debug(audit, "audited");
+        simpleLogger.debug("plain");
+        simpleLogger.atDebug().addMarker(audit).log("fluent audited");
+        simpleLogger.atDebug().log("fluent plain");
+        replacement.flush();
+        String output = bout.toString();
+        assertTrue(output.contains("DEBUG a -  AUDIT audited"));
+        assertTrue(output.contains("DEBUG a -  AUDIT fluent audited"));
+        assertFalse(output.contains("plain"));
+    }
+
+    @Test
+    public void markerLevelDisablesAboveLoggerLevel() {
+        System.setProperty(NOISY_KEY, "off");
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+        Marker noisy = MarkerFactory.getDetachedMarker("NOISY");
+        Marker parent = MarkerFactory.getDetachedMarker("PARENT");
+        parent.add(noisy);
+
+        assertTrue(simpleLogger.isErrorEnabled());
+        assertFalse(simpleLogger.isErrorEnabled(noisy));
+        assertFalse(simpleLogger.isErrorEnabled(parent));
+
+        System.setErr(replacement);
+        simpleLogger.error(parent, "silenced");
+        simpleLogger.atError().addMarker(noisy).log("fluent silenced");
+        replacement.flush();
+        assertEquals("", bout.toString());
+    }
+
+    @Test
+    public void mostPermissiveMarkerLevelApplies() {
+        System.setProperty(AUDIT_KEY, "debug");
+        System.setProperty(NOISY_KEY, "off");
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+        Marker both = MarkerFactory.getDetachedMarker("NOISY");
+        both.add(MarkerFactory.getDetachedMarker("AUDIT"));
+
+        assertTrue(simpleLogger.isDebugEnabled(both));
+        assertFalse(simpleLogger.isTraceEnabled(both));
+    }
+
+    @Test
+    public void jsonEncoderRendersKeyValuePairsAndMDC() {
+        System.setProperty(SimpleLogger.ENCODER_KEY, "json");
+        SimpleLogger.init();
+        SimpleLogger simpleLogger = new SimpleLogger("a");
+        MDC.put("user", "alice");
+
+        System.setErr(replacement);
+        simpleLogger.atInfo().addKeyValue("size", 2).log("hello {}", "world");
+        replacement.flush();
+        String expected = "{\"level\":\"INFO\",\"thread\":\"" + Thread.currentThread().getName()
+                        + "\",\"logger\":\"a\",\"message\":\"hello world\",\"kv\":{\"size\":2},\"mdc\":{\"user\":\"alice\"}}";
+        assertEquals(expected + System.lineSeparator(), bout.toString());
+    }
 }